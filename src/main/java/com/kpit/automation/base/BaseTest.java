@@ -9,27 +9,41 @@
 package com.kpit.automation.base;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.Iterator;
 
 import org.apache.log4j.Logger;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
-import org.testng.Assert;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.AfterTest;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.BeforeTest;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Parameters;
+import org.testng.xml.XmlSuite;
 
+import com.kpit.automation.helpers.ColumnStore;
+import com.kpit.automation.helpers.WaitHelper;
 import com.kpit.automation.pages.LoginToPlatformPage;
 import com.kpit.automation.pages.SystemMapViewPage;
+import com.kpit.automation.reporter.CommandTracer;
 import com.kpit.automation.utilities.DatabaseUtility;
+import com.kpit.automation.utilities.DbExpectations;
 import com.kpit.automation.utilities.FileReaderUtility;
+import com.kpit.automation.utilities.ResultStream;
 
 /**
  * Base class for all test cases. This class initializes the WebDriver, sets up
@@ -42,20 +56,35 @@ import com.kpit.automation.utilities.FileReaderUtility;
 public class BaseTest extends FileReaderUtility {
 
 	/**
-	 * The WebDriver instance used for test execution.
+	 * Page objects of the current thread. Each thread drives its own browser, so
+	 * the pages are bound to the thread rather than to the test instance.
 	 */
-	public static WebDriver driver;
+	private final ThreadLocal<LoginToPlatformPage> loginToFuntaPage = new ThreadLocal<LoginToPlatformPage>();
+	private final ThreadLocal<SystemMapViewPage> systemMapViewPage = new ThreadLocal<SystemMapViewPage>();
 
-	protected LoginToPlatformPage loginToFuntaPage;
-	protected SystemMapViewPage systemMapViewPage;
+	/**
+	 * Database expectations registered by the test running on the current thread.
+	 */
+	private final ThreadLocal<DbExpectations> dbExpectations = new ThreadLocal<DbExpectations>();
 
 	DatabaseUtility databaseUtils = new DatabaseUtility();
 
+	BrowserProfile browserProfile = new BrowserProfile();
+
 	/**
 	 * The Logger instance used for logging messages.
 	 */
 	private Logger log = getLogger(BaseTest.class);
 
+	/**
+	 * Returns the WebDriver of the current test thread.
+	 *
+	 * @return the WebDriver of the current thread
+	 */
+	public static WebDriver getDriver() {
+		return DriverRegistry.getDriver();
+	}
+
 	/**
 	 * Initializes the test environment by loading the property file and setting up
 	 * the test environment.
@@ -69,110 +98,271 @@ public class BaseTest extends FileReaderUtility {
 	}
 
 	/**
-	 * Sets up the test environment by launching the specified browser and
-	 * navigating to the application URL.
+	 * Sets up the test environment by registering the session pool of the browser.
+	 * Test threads lease their own browser the first time they ask for a driver.
 	 *
 	 * @param browser the name of the browser to be launched
+	 * @param context the context of the running {@code <test>}
 	 * @throws IOException if the browser cannot be launched
 	 */
 	@BeforeTest(alwaysRun = true)
 	@Parameters(value = { "browser" })
-	public void setUpTest(String browser) throws IOException {
-		if (System.getProperty("os.name").contains(getConfigData("operating.system"))) {
-			if (browser.equalsIgnoreCase(getConfigData("browser.chrome"))) {
-				log.info(
-						"======================== [ Launching " + browser + " Browser] ==============================");
-
-				// Set up ChromeDriver service
-				ChromeOptions options = new ChromeOptions();
-				// options.addArguments("--remote-allow-origins=*");
-				// options.addArguments("--disable-dev-shm-usage");
-				// options.addArguments("--no-sandbox");
-				// options.addArguments("--disk-cache-size=0");
-				// options.addArguments("--disable-cookies");
-
-				driver = new ChromeDriver(options);
-				driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(1));
-				// driver.manage().deleteAllCookies();
-				driver.manage().window().maximize();
-			} else if (browser.equalsIgnoreCase(getConfigData("browser.firefox"))) {
-				log.info(
-						"======================== [ Launching " + browser + " Browser] ==============================");
-				driver = new FirefoxDriver();
-				driver.manage().window().maximize();
-			} else if (browser.equalsIgnoreCase(getConfigData("browser.edge"))) {
-				log.info(
-						"======================== [ Launching " + browser + " Browser] ==============================");
-				driver = new EdgeDriver();
-				driver.manage().deleteAllCookies();
-				driver.manage().window().maximize();
-			} else {
-				log.info("No Browser Is Defined In XML File");
-			}
-			driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
-			driver.get(getConfigData("app.url"));
-		} else {
-			log.info("======================== [ The Operating System Is Not WINDOWS ] ==============================");
-			Assert.fail();
-		}
+	public void setUpTest(String browser, ITestContext context) throws IOException {
+		log.info("======================== [ Execution profile " + browserProfile.getProfile() + " on "
+				+ System.getProperty("os.name") + " ] ========================");
+		int size = getDriverPoolSize(context);
+		DriverRegistry.registerPool(browser, () -> launchBrowser(browser), size,
+				Boolean.parseBoolean(getConfigData("driver.pool.prewarm", String.valueOf(size > 1))),
+				getConfigData("app.url"),
+				Duration.ofSeconds(Long.parseLong(getConfigData("driver.pool.lease.timeout.seconds", "300"))));
+	}
+
+	/**
+	 * Returns the number of browser sessions the pool may keep: the
+	 * {@code driver.pool.size} setting if there is one, otherwise one session per
+	 * thread of the suite, a single one when the suite does not run in parallel.
+	 *
+	 * @param context the context of the running {@code <test>}
+	 * @return the size of the session pool
+	 */
+	protected int getDriverPoolSize(ITestContext context) {
+		XmlSuite suite = context.getSuite().getXmlSuite();
+		int threads = suite.getParallel() != null && suite.getParallel().isParallel() ? suite.getThreadCount() : 1;
+		return Integer.parseInt(getConfigData("driver.pool.size", String.valueOf(threads)));
 	}
 
 	/**
-	 * Sets up the test environment by launching the specified browser and
-	 * navigating to the application URL.
+	 * Launches the specified browser with the options of the active execution
+	 * profile and navigates to the application URL.
 	 *
 	 * @param browser the name of the browser to be launched
-	 * @throws IOException if the browser cannot be launched
+	 * @return the launched WebDriver
+	 */
+	public WebDriver launchBrowser(String browser) {
+		WebDriver driver = null;
+		long start = System.currentTimeMillis();
+		if (browser.equalsIgnoreCase(getConfigData("browser.chrome"))) {
+			log.info("======================== [ Launching " + browser + " Browser] ==============================");
+			driver = new ChromeDriver(browserProfile.chromeOptions());
+		} else if (browser.equalsIgnoreCase(getConfigData("browser.firefox"))) {
+			log.info("======================== [ Launching " + browser + " Browser] ==============================");
+			driver = new FirefoxDriver(browserProfile.firefoxOptions());
+		} else if (browser.equalsIgnoreCase(getConfigData("browser.edge"))) {
+			log.info("======================== [ Launching " + browser + " Browser] ==============================");
+			driver = new EdgeDriver(browserProfile.edgeOptions());
+			driver.manage().deleteAllCookies();
+		} else {
+			log.info("No Browser Is Defined In XML File");
+			throw new IllegalArgumentException("Unsupported browser : " + browser);
+		}
+		if (Boolean.parseBoolean(getConfigData("trace.commands", "false"))) {
+			driver = new EventFiringDecorator<WebDriver>(new CommandTracer()).decorate(driver);
+		}
+		if (!browserProfile.isHeadless()) {
+			driver.manage().window().maximize(); // The headless profile uses a fixed viewport instead
+		}
+		long launched = System.currentTimeMillis();
+		new WaitHelper(driver).setImplicitWait(Integer.parseInt(getConfigData("wait.implicit.seconds", "2"))); // Suspended by WaitHelper during explicit waits
+		driver.get(getConfigData("app.url"));
+		String launchTime = browser + " (" + browserProfile.getProfile() + ") launched in " + (launched - start)
+				+ " ms, application loaded in " + (System.currentTimeMillis() - launched) + " ms";
+		log.info(launchTime);
+		Reporter.log(launchTime, false);
+		return driver;
+	}
+
+	/**
+	 * Logs in to the application before each test, unless the session of the
+	 * current thread is already authenticated or the test class handles the login
+	 * itself. A valid session snapshot is restored instead of a real login.
 	 */
-	@BeforeClass(alwaysRun = true)
+	@BeforeMethod(alwaysRun = true)
 	public void loginApplication() {
+		if (requiresLogin()) {
+			getLoginToFuntaPage().ensureLoggedIn(getConfigData("app.username"), getConfigData("app.password"));
+		}
+	}
+
+	/**
+	 * Tells whether the tests of this class need a logged in session. Test classes
+	 * that exercise the login themselves override this method.
+	 *
+	 * @return true if the session must be logged in before each test
+	 */
+	protected boolean requiresLogin() {
+		return true;
+	}
+
+	/**
+	 * Returns the login page bound to the browser of the current thread.
+	 *
+	 * @return the login page of the current thread
+	 */
+	protected LoginToPlatformPage getLoginToFuntaPage() {
+		LoginToPlatformPage page = loginToFuntaPage.get();
+		if (page == null || page.driver != getDriver()) {
+			page = new LoginToPlatformPage(getDriver());
+			loginToFuntaPage.set(page);
+		}
+		return page;
+	}
 
-		// Manually initialize the ExtentTest object
-		// ExtentTest test = Listeners.extent.createTest("Class Setup", "Setup for the
-		// test class");
-		// Listeners.extentTest.set(test);
+	/**
+	 * Returns the system map view page bound to the browser of the current thread.
+	 *
+	 * @return the system map view page of the current thread
+	 */
+	protected SystemMapViewPage getSystemMapViewPage() {
+		SystemMapViewPage page = systemMapViewPage.get();
+		if (page == null || page.driver != getDriver()) {
+			page = new SystemMapViewPage(getDriver());
+			systemMapViewPage.set(page);
+		}
+		return page;
+	}
 
-		// Log the setup information
-		// Listeners.extentTest.get().log(Status.INFO,
-		// MarkupHelper.createLabel("Setting up the class", ExtentColor.YELLOW));
+	/**
+	 * Returns the database expectations of the current test. Queries registered
+	 * there start at once in the background and are joined at the assertion
+	 * point, so their latency hides behind the UI steps.
+	 *
+	 * @return the database expectations of the current test
+	 */
+	protected DbExpectations getDbExpectations() {
+		DbExpectations expectations = dbExpectations.get();
+		if (expectations == null) {
+			expectations = new DbExpectations(databaseUtils,
+					Long.parseLong(getConfigData("db.prefetch.timeout.ms", "60000")));
+			dbExpectations.set(expectations);
+		}
+		return expectations;
+	}
 
-		loginToFuntaPage = new LoginToPlatformPage(driver);
-		systemMapViewPage = new SystemMapViewPage(driver);
+	/**
+	 * Cancels the database expectations the test did not join, typically because
+	 * it failed before its assertions.
+	 *
+	 * @param result the result of the test
+	 */
+	@AfterMethod(alwaysRun = true)
+	public void cancelDbExpectations(ITestResult result) {
+		DbExpectations expectations = dbExpectations.get();
+		dbExpectations.remove();
+		if (expectations != null) {
+			int cancelled = expectations.cancelAll();
+			if (cancelled > 0) {
+				log.info("Cancelled " + cancelled + " DB expectations of " + result.getName());
+			}
+		}
+	}
 
-		// loginPage.login(getConfigData("app.username"),
-		// getConfigData("app.password"));
+	/**
+	 * Returns the WebDriver session of the current thread to the pool at the end
+	 * of each test class, so that it is reset and reused by the next class.
+	 */
+	@AfterClass(alwaysRun = true)
+	public void releaseDriver() {
+		DriverRegistry.removeDriver();
 	}
 
 	/**
-	 * Logs out of the application.
-	 * 
-	 * @AfterClass(alwaysRun = true) public void logoutApplication() {
-	 *                       loginPage.logout(); }
-	 * 
-	 *                       /** Closes the WebDriver instance.
+	 * Returns the WebDriver session of the current thread to the pool.
 	 */
 	@AfterTest(alwaysRun = true)
 	public void tearDown() {
-		driver.close();
+		DriverRegistry.removeDriver();
 	}
 
 	/**
-	 * Quits the WebDriver instance.
+	 * Quits every pooled WebDriver session, closes the database connections and
+	 * reports the pool metrics.
 	 */
 	@AfterSuite(alwaysRun = true)
 	public void exit() {
-		driver.quit();
+		Reporter.log(SessionSnapshot.getStatistics(), true);
+		DriverRegistry.quitAll();
+		String connections = DatabaseUtility.shutdownConnectionPool();
+		if (connections != null) {
+			Reporter.log(connections, true);
+		}
+	}
+
+	/**
+	 * Streams the rows of the sheet named by the {@link TestDataSheet} annotation
+	 * of the test method, one row per invocation, without loading the workbook.
+	 *
+	 * @param method the test method
+	 * @return the rows of the sheet
+	 */
+	@DataProvider(name = "streamedTestData")
+	public Iterator<Object[]> streamedTestData(Method method) {
+		TestDataSheet sheet = method.getAnnotation(TestDataSheet.class);
+		if (sheet == null) {
+			throw new IllegalArgumentException(method.getName() + " has no @TestDataSheet");
+		}
+		return streamTestData(getInputFilePath(sheet.file()), sheet.sheet());
+	}
+
+	/**
+	 * Hands out the rows of the sheet named by the {@link TestDataSheet}
+	 * annotation of the test method to the data provider threads of TestNG, each
+	 * row exactly once. A partitioned sheet is split between the shards of the
+	 * run, every shard running its own contiguous range of rows.
+	 *
+	 * @param method the test method
+	 * @return the rows of the sheet, or of the range of this shard
+	 * @throws IOException if the workbook cannot be read
+	 */
+	@DataProvider(name = "parallelTestData", parallel = true)
+	public Iterator<Object[]> parallelTestData(Method method) throws IOException {
+		TestDataSheet sheet = method.getAnnotation(TestDataSheet.class);
+		if (sheet == null) {
+			throw new IllegalArgumentException(method.getName() + " has no @TestDataSheet");
+		}
+		String filePath = getInputFilePath(sheet.file());
+		if (sheet.partitioned()) {
+			Shard shard = new Shard();
+			return testDataRows(filePath, sheet.sheet(), sheet.keyed(), shard.getIndex() - 1, shard.getTotal());
+		}
+		return testDataRows(filePath, sheet.sheet(), sheet.keyed());
 	}
 
 	/**
 	 * Retrieves data from the database using the specified SQL query.
 	 *
-	 * @param sql the SQL query to be executed
+	 * @param sql        the SQL query to be executed, with {@code ?} placeholders
+	 * @param parameters the values of the placeholders, in order
 	 * @return a HashMap containing the retrieved data
 	 * @throws Exception if an error occurs during database operations
 	 */
-	public HashMap<String, String> getDataDB(String sql) throws Exception {
-		HashMap<String, String> getData = databaseUtils.getDataFromDB(sql);
+	public HashMap<String, String> getDataDB(String sql, Object... parameters) throws Exception {
+		HashMap<String, String> getData = databaseUtils.getDataFromDB(sql, parameters);
 		return getData;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Streams every row of the specified SQL query with typed column access. The
+	 * stream must be closed, in a try-with-resources block.
+	 *
+	 * @param sql        the SQL query to be executed, with {@code ?} placeholders
+	 * @param parameters the values of the placeholders, in order
+	 * @return the rows of the query
+	 * @throws SQLException if the query fails
+	 */
+	public ResultStream queryDB(String sql, Object... parameters) throws SQLException {
+		return databaseUtils.query(sql, parameters);
+	}
+
+	/**
+	 * Reads the rows of the specified SQL query column by column, to be compared
+	 * with the {@link ColumnStore} of a grid.
+	 *
+	 * @param sql        the SQL query to be executed, with {@code ?} placeholders
+	 * @param parameters the values of the placeholders, in order
+	 * @return the columns of the query
+	 * @throws SQLException if the query fails
+	 */
+	public ColumnStore queryColumnsDB(String sql, Object... parameters) throws SQLException {
+		return databaseUtils.queryColumns(sql, parameters);
+	}
+}
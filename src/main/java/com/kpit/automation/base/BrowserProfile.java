@@ -0,0 +1,133 @@
+/**
+ * This class builds the browser launch options of the configured execution profile.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.base;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import com.kpit.automation.utilities.FileReaderUtility;
+
+/**
+ * Builds Chrome, Firefox and Edge options for the execution profile set by
+ * {@code execution.profile} in testConfig.properties or as a system property.
+ *
+ * <ul>
+ * <li>{@code desktop} - a visible, maximized browser, as used on Windows
+ * workstations.</li>
+ * <li>{@code headless} - a headless browser tuned for Linux containers: no
+ * sandbox, no /dev/shm, no GPU, no extensions, no background throttling and a
+ * fixed viewport of {@code execution.window.size}.</li>
+ * </ul>
+ *
+ * The profile defaults to {@code desktop} on Windows and {@code headless} on
+ * every other operating system. Extra arguments can be appended with
+ * {@code browser.arguments}, comma separated.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class BrowserProfile extends FileReaderUtility {
+
+	/**
+	 * The Logger instance for this class.
+	 */
+	private Logger log = getLogger(BrowserProfile.class);
+
+	public static final String DESKTOP = "desktop";
+	public static final String HEADLESS = "headless";
+
+	/**
+	 * Returns the name of the active execution profile.
+	 *
+	 * @return {@link #DESKTOP} or {@link #HEADLESS}
+	 */
+	public String getProfile() {
+		String defaultProfile = System.getProperty("os.name").contains(getConfigData("operating.system", "Windows"))
+				? DESKTOP
+				: HEADLESS;
+		return getConfigData("execution.profile", defaultProfile).toLowerCase();
+	}
+
+	/**
+	 * Checks if the active profile runs the browser headless.
+	 *
+	 * @return true for the headless profile, false otherwise
+	 */
+	public boolean isHeadless() {
+		return HEADLESS.equals(getProfile());
+	}
+
+	/**
+	 * Builds the Chrome options of the active profile.
+	 *
+	 * @return the Chrome options
+	 */
+	public ChromeOptions chromeOptions() {
+		ChromeOptions options = new ChromeOptions();
+		applyChromiumProfile(options);
+		return options;
+	}
+
+	/**
+	 * Builds the Edge options of the active profile.
+	 *
+	 * @return the Edge options
+	 */
+	public EdgeOptions edgeOptions() {
+		EdgeOptions options = new EdgeOptions();
+		applyChromiumProfile(options);
+		return options;
+	}
+
+	/**
+	 * Builds the Firefox options of the active profile.
+	 *
+	 * @return the Firefox options
+	 */
+	public FirefoxOptions firefoxOptions() {
+		FirefoxOptions options = new FirefoxOptions();
+		if (isHeadless()) {
+			String[] size = getWindowSize();
+			options.addArguments("-headless", "--width=" + size[0], "--height=" + size[1]);
+			options.addPreference("layers.acceleration.disabled", true);
+			options.addPreference("extensions.update.enabled", false);
+			options.addPreference("dom.min_background_timeout_value", 4);
+		}
+		options.addArguments(getExtraArguments());
+		log.info("Firefox launch arguments for " + getProfile() + " profile : " + options.asMap());
+		return options;
+	}
+
+	/**
+	 * Applies the profile arguments shared by the Chromium based browsers.
+	 */
+	private void applyChromiumProfile(ChromiumOptions<?> options) {
+		if (isHeadless()) {
+			String[] size = getWindowSize();
+			options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu",
+					"--disable-extensions", "--disable-background-timer-throttling",
+					"--disable-backgrounding-occluded-windows", "--disable-renderer-backgrounding",
+					"--window-size=" + size[0] + "," + size[1]);
+		}
+		options.addArguments(getExtraArguments());
+		log.info("Chromium launch arguments for " + getProfile() + " profile : " + options.asMap());
+	}
+
+	private String[] getWindowSize() {
+		return getConfigData("execution.window.size", "1920,1080").split("\\s*,\\s*");
+	}
+
+	private String[] getExtraArguments() {
+		String arguments = getConfigData("browser.arguments", "");
+		return arguments.isEmpty() ? new String[0] : arguments.split("\\s*,\\s*");
+	}
+}
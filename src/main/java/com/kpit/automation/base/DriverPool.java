@@ -0,0 +1,331 @@
+/**
+ * This class keeps a pool of launched browser sessions that are reused across test classes.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.base;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import com.kpit.automation.helpers.HelperContext;
+import com.kpit.automation.utilities.LoggerUtility;
+
+/**
+ * Pool of pre-launched WebDriver sessions. Tests lease a session, and the
+ * session is reset (extra windows, cookies, local and session storage) and
+ * health-checked when it comes back, so that the next lease does not pay the
+ * browser start-up cost again. While a session is leased the pool launches the
+ * next one in the background, up to the configured size.
+ *
+ * <p>
+ * On Chromium browsers the reset clears the cookies of every origin through
+ * DevTools, so that a recycled session is not signed in again by the identity
+ * provider; other browsers only clear the cookies of the current origin.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class DriverPool extends LoggerUtility {
+
+	/**
+	 * The Logger instance for this class.
+	 */
+	private Logger log = getLogger(DriverPool.class);
+
+	/**
+	 * Time given to a background launch to complete when the pool shuts down.
+	 */
+	private static final long LAUNCH_GRACE_SECONDS = 60;
+
+	private final Supplier<WebDriver> launcher;
+	private final int maxSize;
+	private final boolean prewarm;
+	private final String resetUrl;
+	private final Duration leaseTimeout;
+	private volatile boolean closed;
+
+	private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<WebDriver>();
+	private final Set<WebDriver> sessions = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger reserved = new AtomicInteger();
+	private final ExecutorService warmer;
+
+	private final AtomicLong leases = new AtomicLong();
+	private final AtomicLong leaseWaitNanos = new AtomicLong();
+	private final AtomicLong resets = new AtomicLong();
+	private final AtomicLong resetNanos = new AtomicLong();
+	private final AtomicLong recycled = new AtomicLong();
+	private final AtomicLong discarded = new AtomicLong();
+
+	/**
+	 * Constructor for DriverPool.
+	 *
+	 * @param launcher     the factory launching a new browser session
+	 * @param maxSize      the maximum number of live sessions
+	 * @param prewarm      true to launch the next session in the background on
+	 *                     lease
+	 * @param resetUrl     the URL a session is sent back to when it is reset
+	 * @param leaseTimeout the maximum time to wait for a session to be released
+	 */
+	public DriverPool(Supplier<WebDriver> launcher, int maxSize, boolean prewarm, String resetUrl,
+			Duration leaseTimeout) {
+		this.launcher = launcher;
+		this.maxSize = Math.max(1, maxSize);
+		this.prewarm = prewarm;
+		this.resetUrl = resetUrl;
+		this.leaseTimeout = leaseTimeout;
+		this.warmer = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "driver-pool-warmer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Leases a healthy session, launching one if the pool has capacity left or
+	 * waiting for a session to be released otherwise.
+	 *
+	 * @return a leased WebDriver session
+	 * @throws IllegalStateException if the pool is shut down, no session is
+	 *                               released in time or the thread is interrupted
+	 *                               while waiting
+	 */
+	public WebDriver lease() {
+		long start = System.nanoTime();
+		long deadline = start + leaseTimeout.toNanos();
+		WebDriver driver = null;
+		try {
+			while (driver == null) {
+				if (closed) {
+					throw new IllegalStateException("The WebDriver pool is shut down");
+				}
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					throw new IllegalStateException("No WebDriver session released within " + leaseTimeout.getSeconds()
+							+ " seconds, " + sessions.size() + " of " + maxSize + " sessions are leased or starting");
+				}
+				driver = idle.poll();
+				if (driver == null && reserved.incrementAndGet() <= maxSize) {
+					driver = launch();
+				} else if (driver == null) {
+					reserved.decrementAndGet();
+					driver = idle.poll(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+				}
+				if (driver != null && !isHealthy(driver)) {
+					discard(driver);
+					driver = null;
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a WebDriver session", ex);
+		}
+		leases.incrementAndGet();
+		leaseWaitNanos.addAndGet(System.nanoTime() - start);
+		warmUp();
+		return driver;
+	}
+
+	/**
+	 * Returns the maximum number of live sessions of the pool.
+	 *
+	 * @return the maximum number of sessions
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns a leased session to the pool after resetting it. Sessions that fail
+	 * the reset are quit and replaced on a later lease.
+	 *
+	 * @param driver the leased WebDriver session
+	 */
+	public void release(WebDriver driver) {
+		if (driver == null || !sessions.contains(driver)) {
+			return;
+		}
+		if (reset(driver)) {
+			recycled.incrementAndGet();
+			idle.offer(driver);
+		} else {
+			discard(driver);
+		}
+	}
+
+	/**
+	 * Quits every session of the pool and stops the background launcher. A
+	 * session still being launched is quit when its launch completes.
+	 */
+	public void shutdown() {
+		closed = true;
+		warmer.shutdownNow();
+		try {
+			if (!warmer.awaitTermination(LAUNCH_GRACE_SECONDS, TimeUnit.SECONDS)) {
+				log.info("A WebDriver session is still being launched, it will be quit once started");
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		log.info(getStatistics());
+		List<WebDriver> all = new ArrayList<WebDriver>(sessions);
+		for (WebDriver driver : all) {
+			discard(driver);
+		}
+		idle.clear();
+	}
+
+	/**
+	 * Returns a one line summary of the pool metrics.
+	 *
+	 * @return the pool statistics
+	 */
+	public String getStatistics() {
+		long leaseCount = leases.get();
+		long resetCount = resets.get();
+		return "WebDriver pool : leases=" + leaseCount + ", avg lease wait="
+				+ (leaseCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.get() / leaseCount))
+				+ " ms, resets=" + resetCount + ", avg reset="
+				+ (resetCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(resetNanos.get() / resetCount))
+				+ " ms, recycled=" + recycled.get() + ", discarded=" + discarded.get() + ", live=" + sessions.size();
+	}
+
+	/**
+	 * Launches the next session in the background if the pool is empty and still
+	 * has capacity.
+	 */
+	private void warmUp() {
+		if (!prewarm || !idle.isEmpty()) {
+			return;
+		}
+		if (reserved.incrementAndGet() > maxSize) {
+			reserved.decrementAndGet();
+			return;
+		}
+		try {
+			warmer.submit(() -> {
+				try {
+					idle.offer(launch());
+				} catch (Exception ex) {
+					log.error("Some error occured while pre-warming a WebDriver session", ex);
+				}
+			});
+		} catch (Exception ex) {
+			reserved.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Launches a session against a capacity slot already reserved by the caller.
+	 * A session started after the pool was shut down is quit.
+	 */
+	private WebDriver launch() {
+		try {
+			WebDriver driver = launcher.get();
+			sessions.add(driver);
+			if (closed) {
+				discard(driver);
+				throw new IllegalStateException("The WebDriver pool was shut down while launching a session");
+			}
+			return driver;
+		} catch (RuntimeException ex) {
+			reserved.decrementAndGet();
+			throw ex;
+		}
+	}
+
+	private boolean isHealthy(WebDriver driver) {
+		try {
+			driver.getWindowHandle();
+			return true;
+		} catch (Exception ex) {
+			log.info("Discarding unresponsive WebDriver session : " + ex.getMessage());
+			return false;
+		}
+	}
+
+	private boolean reset(WebDriver driver) {
+		long start = System.nanoTime();
+		HelperContext.remove(driver); // The next lease starts on a fresh page
+		try {
+			List<String> handles = new ArrayList<String>(driver.getWindowHandles());
+			for (int i = 1; i < handles.size(); i++) { // Closing every window but the first one
+				driver.switchTo().window(handles.get(i));
+				driver.close();
+			}
+			driver.switchTo().window(handles.get(0));
+			clearBrowsingData(driver, handles.get(0));
+			driver.get(resetUrl);
+			return true;
+		} catch (Exception ex) {
+			log.error("Some error occured while resetting WebDriver session", ex);
+			return false;
+		} finally {
+			resets.incrementAndGet();
+			resetNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Clears the cookies of every origin and the storage of the current one
+	 * through DevTools, or the cookies and storage of the current origin only
+	 * when DevTools are not available.
+	 */
+	private void clearBrowsingData(WebDriver driver, String window) {
+		if (driver instanceof HasDevTools) {
+			try {
+				DevTools devTools = ((HasDevTools) driver).getDevTools();
+				devTools.createSession(window);
+				devTools.send(new Command<Void>("Network.clearBrowserCookies", Map.of()));
+				Object origin = ((JavascriptExecutor) driver).executeScript("return window.location.origin;");
+				if (origin != null && origin.toString().startsWith("http")) {
+					devTools.send(new Command<Void>("Storage.clearDataForOrigin",
+							Map.of("origin", origin.toString(), "storageTypes", "all")));
+				}
+				return;
+			} catch (Exception ex) {
+				log.info("DevTools not available to clear the browsing data, clearing the current origin : "
+						+ ex.getMessage());
+			}
+		}
+		driver.manage().deleteAllCookies();
+		((JavascriptExecutor) driver).executeScript(
+				"try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) { }");
+	}
+
+	private void discard(WebDriver driver) {
+		if (sessions.remove(driver)) {
+			reserved.decrementAndGet();
+			discarded.incrementAndGet();
+		}
+		HelperContext.remove(driver);
+		try {
+			driver.quit();
+		} catch (Exception ex) {
+			log.error("Some error occured while quitting WebDriver", ex);
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/**
+ * This class keeps one WebDriver per test thread so the suite can run in parallel.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.base;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * Per-thread WebDriver registry. {@link BaseTest}, the page objects, the
+ * {@link com.kpit.automation.reporter.Listeners} and
+ * {@link com.kpit.automation.utilities.ReporterUtility} read the driver of the
+ * current thread from here instead of a shared static field.
+ *
+ * <p>
+ * A driver is leased lazily the first time a thread asks for one, from the
+ * {@link DriverPool} registered by {@link BaseTest#setUpTest(String, org.testng.ITestContext)} for the
+ * browser of the running {@code <test>}, and goes back to that pool when the
+ * thread releases it.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class DriverRegistry {
+
+	/**
+	 * The Logger instance for this class.
+	 */
+	private static final Logger log = Logger.getLogger(DriverRegistry.class);
+
+	/**
+	 * The WebDriver owned by the current test thread.
+	 */
+	private static final ThreadLocal<WebDriver> driver = new ThreadLocal<WebDriver>();
+
+	/**
+	 * Every WebDriver handed out with the pool it was leased from, so that the
+	 * suite can release the ones left behind by TestNG pool threads.
+	 */
+	private static final Map<WebDriver, DriverPool> drivers = new ConcurrentHashMap<WebDriver, DriverPool>();
+
+	/**
+	 * Drivers whose session already went through the application login.
+	 */
+	private static final Set<WebDriver> authenticated = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Session pools keyed by the lower-case browser name.
+	 */
+	private static final Map<String, DriverPool> pools = new ConcurrentHashMap<String, DriverPool>();
+
+	/**
+	 * Browser of the most recently registered pool, used when the current thread
+	 * does not belong to a {@code <test>} with a browser parameter.
+	 */
+	private static volatile String defaultBrowser;
+
+	private DriverRegistry() {
+	}
+
+	/**
+	 * Registers the session pool of a browser, unless one is already registered.
+	 *
+	 * @param browser      the browser name, as given in testng.xml
+	 * @param launcher     the factory launching a configured WebDriver
+	 * @param size         the maximum number of live sessions for the browser
+	 * @param prewarm      true to launch the next session in the background
+	 * @param resetUrl     the URL a released session is sent back to
+	 * @param leaseTimeout the maximum time a thread waits for a session
+	 */
+	public static void registerPool(String browser, Supplier<WebDriver> launcher, int size, boolean prewarm,
+			String resetUrl, Duration leaseTimeout) {
+		String key = browser.toLowerCase();
+		pools.computeIfAbsent(key, k -> new DriverPool(launcher, size, prewarm, resetUrl, leaseTimeout));
+		defaultBrowser = key;
+	}
+
+	/**
+	 * Returns the WebDriver of the current thread, leasing one if the thread has
+	 * none yet.
+	 *
+	 * @return the WebDriver of the current thread
+	 * @throws IllegalStateException if no pool is registered for the browser
+	 */
+	public static WebDriver getDriver() {
+		WebDriver current = driver.get();
+		if (current == null) {
+			String browser = currentBrowser();
+			DriverPool pool = browser == null ? null : pools.get(browser);
+			if (pool == null) {
+				throw new IllegalStateException("No WebDriver pool registered for " + Thread.currentThread().getName());
+			}
+			log.info("Leasing " + browser + " WebDriver for thread : " + Thread.currentThread().getName());
+			current = pool.lease();
+			driver.set(current);
+			drivers.put(current, pool);
+		}
+		return current;
+	}
+
+	/**
+	 * Checks if the current thread already owns a WebDriver.
+	 *
+	 * @return true if a driver is bound to the current thread, false otherwise
+	 */
+	public static boolean hasDriver() {
+		return driver.get() != null;
+	}
+
+	/**
+	 * Releases the WebDriver of the current thread back to its pool.
+	 */
+	public static void removeDriver() {
+		WebDriver current = driver.get();
+		driver.remove();
+		if (current != null) {
+			release(current);
+		}
+	}
+
+	/**
+	 * Quits every pooled session, leased or idle, and reports the pool metrics.
+	 */
+	public static void quitAll() {
+		driver.remove();
+		drivers.clear();
+		authenticated.clear();
+		for (DriverPool pool : pools.values()) {
+			Reporter.log(pool.getStatistics(), true);
+			pool.shutdown();
+		}
+		pools.clear();
+	}
+
+	/**
+	 * Returns the number of leased WebDriver sessions.
+	 *
+	 * @return the number of leased sessions
+	 */
+	public static int activeCount() {
+		return drivers.size();
+	}
+
+	/**
+	 * Returns the number of sessions the pool of the current thread's browser can
+	 * still lease without waiting for a release.
+	 *
+	 * @return the number of sessions left, 0 if no pool is registered
+	 */
+	public static int availableCount() {
+		String browser = currentBrowser();
+		DriverPool pool = browser == null ? null : pools.get(browser);
+		if (pool == null) {
+			return 0;
+		}
+		int leased = 0;
+		for (DriverPool owner : drivers.values()) {
+			if (owner == pool) {
+				leased++;
+			}
+		}
+		return pool.getMaxSize() - leased;
+	}
+
+	/**
+	 * Marks the session of the given WebDriver as logged in.
+	 *
+	 * @param webDriver the WebDriver whose session is authenticated
+	 */
+	public static void markAuthenticated(WebDriver webDriver) {
+		if (webDriver != null) {
+			authenticated.add(webDriver);
+		}
+	}
+
+	/**
+	 * Checks if the session of the current thread is logged in.
+	 *
+	 * @return true if the current thread's session is authenticated
+	 */
+	public static boolean isAuthenticated() {
+		WebDriver current = driver.get();
+		return current != null && authenticated.contains(current);
+	}
+
+	private static void release(WebDriver webDriver) {
+		authenticated.remove(webDriver); // The pool clears cookies and storage on release
+		DriverPool pool = drivers.remove(webDriver);
+		if (pool != null) {
+			pool.release(webDriver);
+		}
+	}
+
+	/**
+	 * Resolves the browser of the {@code <test>} the current thread is running.
+	 */
+	private static String currentBrowser() {
+		ITestResult result = Reporter.getCurrentTestResult();
+		if (result != null && result.getTestContext() != null) {
+			String browser = result.getTestContext().getCurrentXmlTest().getParameter("browser");
+			if (browser != null && pools.containsKey(browser.toLowerCase())) {
+				return browser.toLowerCase();
+			}
+		}
+		return defaultBrowser;
+	}
+}
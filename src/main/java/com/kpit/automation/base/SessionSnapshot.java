@@ -0,0 +1,264 @@
+/**
+ * This class captures the authenticated browser state so that new sessions can skip the login.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.base;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Snapshot of an authenticated session: cookies, localStorage, sessionStorage
+ * and the time at which the session tokens expire. The snapshot is taken once
+ * after a successful login and restored into new browser sessions, which then
+ * land on the system map already logged in.
+ *
+ * <p>
+ * The snapshot also records the origin of the application and the page the
+ * login landed on: storage and cookies can only be written from a page of that
+ * origin, so a restore first opens a non-redirecting resource of it.
+ * </p>
+ *
+ * <p>
+ * The expiry is the earliest {@code exp} claim of the JWTs found in web
+ * storage (where the Cognito tokens live), or the earliest cookie expiry if
+ * there is none, or the capture time plus a default time to live.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SessionSnapshot {
+
+	/**
+	 * The Logger instance for this class.
+	 */
+	private static final Logger log = Logger.getLogger(SessionSnapshot.class);
+
+	private static final String READ_STORAGE = "var storage = window[arguments[0]], data = {};"
+			+ " for (var i = 0; i < storage.length; i++) { var key = storage.key(i); data[key] = storage.getItem(key); }"
+			+ " return data;";
+
+	private static final String WRITE_STORAGE = "var storage = window[arguments[0]], data = arguments[1];"
+			+ " for (var key in data) { storage.setItem(key, data[key]); }";
+
+	private static final Pattern JWT = Pattern.compile("^[A-Za-z0-9_-]+\\.([A-Za-z0-9_-]+)\\.[A-Za-z0-9_-]+$");
+	private static final Pattern EXP = Pattern.compile("\"exp\"\\s*:\\s*(\\d+)");
+
+	/**
+	 * The snapshot shared by every session of the run.
+	 */
+	private static volatile SessionSnapshot current;
+
+	private static final AtomicLong restores = new AtomicLong();
+	private static final AtomicLong savedMillis = new AtomicLong();
+
+	private final String origin;
+	private final String landingUrl;
+	private final Set<Cookie> cookies;
+	private final Map<String, String> localStorage;
+	private final Map<String, String> sessionStorage;
+	private final Instant expiry;
+	private final long loginMillis;
+
+	private SessionSnapshot(String origin, String landingUrl, Set<Cookie> cookies, Map<String, String> localStorage,
+			Map<String, String> sessionStorage, Instant expiry, long loginMillis) {
+		this.origin = origin;
+		this.landingUrl = landingUrl;
+		this.cookies = cookies;
+		this.localStorage = localStorage;
+		this.sessionStorage = sessionStorage;
+		this.expiry = expiry;
+		this.loginMillis = loginMillis;
+	}
+
+	/**
+	 * Captures the authenticated state of the given session and makes it the
+	 * current snapshot. Only the capture and invalidation of the snapshot are
+	 * serialised, restores and logins of parallel sessions run concurrently.
+	 *
+	 * @param driver        the logged in WebDriver session
+	 * @param loginMillis   how long the real login took
+	 * @param defaultTtlSec time to live used when no token expiry can be found
+	 * @return the captured snapshot
+	 */
+	public static synchronized SessionSnapshot capture(WebDriver driver, long loginMillis, long defaultTtlSec) {
+		String origin = currentOrigin(driver);
+		String landingUrl = driver.getCurrentUrl();
+		Set<Cookie> cookies = new HashSet<Cookie>(driver.manage().getCookies());
+		Map<String, String> local = readStorage(driver, "localStorage");
+		Map<String, String> session = readStorage(driver, "sessionStorage");
+
+		Instant expiry = null;
+		for (Map<String, String> storage : Arrays.asList(local, session)) {
+			for (String value : storage.values()) {
+				expiry = earliest(expiry, tokenExpiry(value));
+			}
+		}
+		if (expiry == null) {
+			for (Cookie cookie : cookies) {
+				Date cookieExpiry = cookie.getExpiry();
+				expiry = earliest(expiry, cookieExpiry == null ? null : cookieExpiry.toInstant());
+			}
+		}
+		if (expiry == null) {
+			expiry = Instant.now().plusSeconds(defaultTtlSec);
+		}
+
+		SessionSnapshot snapshot = new SessionSnapshot(origin, landingUrl, cookies, local, session, expiry, loginMillis);
+		current = snapshot;
+		log.info("Session snapshot of " + origin + " captured : " + cookies.size() + " cookies, " + local.size()
+				+ " localStorage and " + session.size() + " sessionStorage entries, expires at " + expiry);
+		return snapshot;
+	}
+
+	/**
+	 * Returns the current snapshot, or null if none has been captured.
+	 *
+	 * @return the current snapshot
+	 */
+	public static SessionSnapshot getCurrent() {
+		return current;
+	}
+
+	/**
+	 * Drops the given snapshot, for example after a restore did not log in. A
+	 * newer snapshot captured in the meantime by another session is kept.
+	 *
+	 * @param snapshot the snapshot that turned out to be unusable
+	 */
+	public static synchronized void invalidate(SessionSnapshot snapshot) {
+		if (current == snapshot) {
+			current = null;
+		}
+	}
+
+	/**
+	 * Checks if the snapshot expires within the given margin.
+	 *
+	 * @param marginSec the safety margin in seconds
+	 * @return true if the snapshot is expired or about to expire
+	 */
+	public boolean isExpired(long marginSec) {
+		return Instant.now().plusSeconds(marginSec).isAfter(expiry);
+	}
+
+	/**
+	 * Restores the snapshot into the given session. The session is first sent to
+	 * a resource of the application origin that does not redirect to the login
+	 * (a fresh or reset session sits on the identity provider), the cookies and
+	 * storage are written there, and the session then opens the page the login
+	 * landed on.
+	 *
+	 * @param driver      the WebDriver session to restore into
+	 * @param restorePath the path of a non-redirecting resource of the
+	 *                    application, such as {@code /favicon.ico}
+	 * @throws IllegalStateException if the session does not stay on the
+	 *                               application origin
+	 */
+	public void restore(WebDriver driver, String restorePath) {
+		driver.get(origin + (restorePath.startsWith("/") ? restorePath : "/" + restorePath));
+		String actual = currentOrigin(driver);
+		if (!origin.equals(actual)) {
+			throw new IllegalStateException("Session restore expected origin " + origin + " but is on " + actual);
+		}
+		for (Cookie cookie : cookies) {
+			try {
+				driver.manage().addCookie(cookie);
+			} catch (Exception ex) {
+				log.info("Skipping cookie " + cookie.getName() + " of domain " + cookie.getDomain());
+			}
+		}
+		JavascriptExecutor executor = (JavascriptExecutor) driver;
+		executor.executeScript(WRITE_STORAGE, "localStorage", localStorage);
+		executor.executeScript(WRITE_STORAGE, "sessionStorage", sessionStorage);
+		driver.get(landingUrl);
+	}
+
+	/**
+	 * Records a successful restore and returns the time it saved compared to the
+	 * real login.
+	 *
+	 * @param restoreMillis how long the restore took
+	 * @return the saved time in milliseconds
+	 */
+	public long recordRestore(long restoreMillis) {
+		long saved = Math.max(0, loginMillis - restoreMillis);
+		restores.incrementAndGet();
+		savedMillis.addAndGet(saved);
+		return saved;
+	}
+
+	/**
+	 * Returns a one line summary of the restores done during the run.
+	 *
+	 * @return the restore statistics
+	 */
+	public static String getStatistics() {
+		return "Session snapshot : restores=" + restores.get() + ", login time saved=" + savedMillis.get() + " ms";
+	}
+
+	public String getOrigin() {
+		return origin;
+	}
+
+	public Instant getExpiry() {
+		return expiry;
+	}
+
+	private static String currentOrigin(WebDriver driver) {
+		return String.valueOf(((JavascriptExecutor) driver).executeScript("return window.location.origin;"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, String> readStorage(WebDriver driver, String storage) {
+		Map<String, String> data = new HashMap<String, String>();
+		Object result = ((JavascriptExecutor) driver).executeScript(READ_STORAGE, storage);
+		if (result instanceof Map) {
+			for (Map.Entry<String, Object> entry : ((Map<String, Object>) result).entrySet()) {
+				data.put(entry.getKey(), String.valueOf(entry.getValue()));
+			}
+		}
+		return data;
+	}
+
+	private static Instant tokenExpiry(String value) {
+		Matcher jwt = JWT.matcher(value);
+		if (!jwt.matches()) {
+			return null;
+		}
+		try {
+			String payload = new String(Base64.getUrlDecoder().decode(jwt.group(1)), StandardCharsets.UTF_8);
+			Matcher exp = EXP.matcher(payload);
+			return exp.find() ? Instant.ofEpochSecond(Long.parseLong(exp.group(1))) : null;
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	private static Instant earliest(Instant first, Instant second) {
+		if (first == null) {
+			return second;
+		}
+		return second == null || first.isBefore(second) ? first : second;
+	}
+}
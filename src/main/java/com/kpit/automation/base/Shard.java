@@ -0,0 +1,133 @@
+/**
+ * This class describes the slice of the suite a worker JVM runs when the suite is sharded.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.base;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+
+import com.kpit.automation.utilities.FileReaderUtility;
+
+/**
+ * Shard of the suite selected with {@code -Dshard=<index>/<total>}, for example
+ * {@code -Dshard=2/5} for the second of five workers. Test classes are assigned
+ * to shards by a stable hash of their name, so every worker computes the same
+ * split without coordination. Classes are kept whole because the methods of a
+ * class share one browser flow; only the methods reading a partitioned
+ * {@link TestDataSheet} run in every shard, on the rows of the shard.
+ *
+ * <p>
+ * An optional manifest ({@code -Dshard.manifest=path}) pins classes to shards
+ * with lines such as {@code com.kpit.automation.tests.SystemMapViewTest = 2};
+ * classes missing from the manifest fall back to the hash.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class Shard extends FileReaderUtility {
+
+	/**
+	 * The Logger instance for this class.
+	 */
+	private Logger log = getLogger(Shard.class);
+
+	private final int index;
+	private final int total;
+	private final Map<String, Integer> manifest = new HashMap<String, Integer>();
+
+	/**
+	 * Creates the shard described by the {@code shard} and {@code shard.manifest}
+	 * settings. Without a {@code shard} setting the whole suite is one shard.
+	 */
+	public Shard() {
+		String[] spec = getConfigData("shard", "1/1").split("/");
+		this.index = Integer.parseInt(spec[0].trim());
+		this.total = Integer.parseInt(spec[1].trim());
+		if (index < 1 || index > total) {
+			throw new IllegalArgumentException("Invalid shard " + index + "/" + total);
+		}
+		String manifestPath = getConfigData("shard.manifest", null);
+		if (manifestPath != null) {
+			loadManifest(manifestPath);
+		}
+	}
+
+	/**
+	 * Checks if the suite is split across more than one worker.
+	 *
+	 * @return true if there is more than one shard
+	 */
+	public boolean isSharded() {
+		return total > 1;
+	}
+
+	/**
+	 * Returns the position of this shard.
+	 *
+	 * @return the index of the shard, from 1
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Returns the number of shards.
+	 *
+	 * @return the number of shards
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Checks if the given test class runs in this shard.
+	 *
+	 * @param className the fully qualified test class name
+	 * @return true if the class belongs to this shard
+	 */
+	public boolean isSelected(String className) {
+		Integer pinned = manifest.get(className);
+		if (pinned != null) {
+			return pinned == index;
+		}
+		return Math.floorMod(className.hashCode(), total) == index - 1;
+	}
+
+	/**
+	 * Returns the directory name used for the output of this shard.
+	 *
+	 * @return the shard name, for example {@code shard-2-of-5}
+	 */
+	public String getName() {
+		return "shard-" + index + "-of-" + total;
+	}
+
+	private void loadManifest(String manifestPath) {
+		try (BufferedReader reader = new BufferedReader(new FileReader(manifestPath))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+				String[] entry = line.split("=");
+				manifest.put(entry[0].trim(), Integer.parseInt(entry[1].trim()));
+			}
+			log.info("Shard manifest " + manifestPath + " pins " + manifest.size() + " classes");
+		} catch (IOException ex) {
+			ex.printStackTrace();
+			log.error(ex);
+		}
+	}
+}
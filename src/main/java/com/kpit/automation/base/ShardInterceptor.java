@@ -0,0 +1,60 @@
+/**
+ * This class removes the test methods that belong to other shards.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.base;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import com.kpit.automation.utilities.LoggerUtility;
+
+/**
+ * TestNG method interceptor that keeps only the test classes assigned to the
+ * {@link Shard} of this JVM. Methods reading a {@link TestDataSheet#partitioned()}
+ * sheet run in every shard, each shard running its own range of the rows.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ShardInterceptor extends LoggerUtility implements IMethodInterceptor {
+
+	/**
+	 * The Logger instance for this class.
+	 */
+	private Logger log = getLogger(ShardInterceptor.class);
+
+	@Override
+	public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+		Shard shard = new Shard();
+		if (!shard.isSharded()) {
+			return methods;
+		}
+		List<IMethodInstance> selected = new ArrayList<IMethodInstance>();
+		for (IMethodInstance method : methods) {
+			if (isPartitioned(method.getMethod()) || shard.isSelected(method.getMethod().getRealClass().getName())) {
+				selected.add(method);
+			}
+		}
+		log.info(shard.getName() + " runs " + selected.size() + " of " + methods.size() + " methods of "
+				+ context.getName());
+		return selected;
+	}
+
+	private static boolean isPartitioned(ITestNGMethod method) {
+		Method javaMethod = method.getConstructorOrMethod().getMethod();
+		TestDataSheet sheet = javaMethod == null ? null : javaMethod.getAnnotation(TestDataSheet.class);
+		return sheet != null && sheet.partitioned();
+	}
+}
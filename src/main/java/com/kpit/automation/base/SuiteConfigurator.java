@@ -0,0 +1,60 @@
+/**
+ * This class applies the configured parallel mode and thread count to the TestNG suite.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.base;
+
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import com.kpit.automation.utilities.FileReaderUtility;
+
+/**
+ * TestNG listener that overrides the {@code parallel} and {@code thread-count}
+ * attributes of testng.xml before the suite starts. The values are read from
+ * {@code execution.parallel} and {@code execution.thread.count}, either as JVM
+ * system properties or from testConfig.properties, so a run can be switched to
+ * {@code -Dexecution.parallel=methods -Dexecution.thread.count=4} without
+ * editing the XML. An attribute whose setting is defined in neither place keeps
+ * the value of testng.xml; both settings are unset by default.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SuiteConfigurator extends FileReaderUtility implements IAlterSuiteListener {
+
+	/**
+	 * The Logger instance for this class.
+	 */
+	private Logger log = getLogger(SuiteConfigurator.class);
+
+	@Override
+	public void alter(List<XmlSuite> suites) {
+		try {
+			loadPropertyFile();
+			String parallel = getConfigData("execution.parallel", null);
+			String threadCount = getConfigData("execution.thread.count", null);
+
+			for (XmlSuite suite : suites) {
+				if (parallel != null) {
+					suite.setParallel(XmlSuite.ParallelMode.getValidParallel(parallel));
+				}
+				if (threadCount != null) {
+					suite.setThreadCount(Integer.parseInt(threadCount));
+				}
+				log.info("Suite " + suite.getName() + " runs with parallel=" + suite.getParallel() + " and thread-count="
+						+ suite.getThreadCount());
+			}
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			log.error(ex);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/**
+ * TestDataSheet annotation names the workbook sheet feeding a data-driven test.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.base;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the sheet read by the data providers of {@link BaseTest} for a test
+ * method.
+ *
+ * <pre>
+ * &#64;Test(dataProvider = "streamedTestData")
+ * &#64;TestDataSheet(file = "TestData.xlsx", sheet = "testdata")
+ * public void startupTimingChart(String preset, String traceFile) {
+ * }
+ *
+ * &#64;Test(dataProvider = "parallelTestData")
+ * &#64;TestDataSheet(file = "TestData.xlsx", sheet = "testdata", partitioned = true)
+ * public void traceAnalysis(String preset, String traceFile) {
+ * }
+ * </pre>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface TestDataSheet {
+
+	/**
+	 * The workbook, relative to src/test/resources/testData/.
+	 */
+	String file();
+
+	/**
+	 * The name of the sheet.
+	 */
+	String sheet();
+
+	/**
+	 * With a parallel data provider, true to run only the share of the rows of
+	 * the current shard, so that sharded workers split the rows between them. The
+	 * method then runs in every shard, whichever shard its class belongs to.
+	 */
+	boolean partitioned() default false;
+
+	/**
+	 * With a parallel data provider, true to pass each row as a single map of
+	 * cell values by header.
+	 */
+	boolean keyed() default false;
+}
@@ -0,0 +1,230 @@
+/**
+ * This class runs several trace-analysis flows concurrently, each in a browser session of its own.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.base;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.kpit.automation.pages.LoginToPlatformPage;
+import com.kpit.automation.pages.SystemMapViewPage;
+import com.kpit.automation.reporter.Listeners;
+import com.kpit.automation.utilities.FileReaderUtility;
+import com.kpit.automation.utilities.ThreadUtility;
+
+/**
+ * Runs the {@code clickOnTools -> selectPreset -> selectTraceFile ->
+ * executeTrace -> goToPerformaChart} sequence of {@link SystemMapViewPage} for
+ * several presets at once. Every flow runs on its own (virtual, when available)
+ * thread and leases its own browser session from {@link DriverRegistry}; a
+ * semaphore bounds how many sessions are in use at the same time. Since the
+ * flows mostly wait on the backend, a full preset sweep takes about as long as
+ * the slowest flow.
+ *
+ * <p>
+ * Each flow opens the task of its own preset and trace file, and fails if the
+ * task details or the rendered chart belong to another trace file. Each flow
+ * gets a deadline that starts when it obtains its session; a flow that overruns
+ * it is interrupted and reported as timed out. All results are collected,
+ * whatever their outcome.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class TraceFlowOrchestrator extends FileReaderUtility {
+
+	/**
+	 * The Logger instance for this class.
+	 */
+	private Logger log = getLogger(TraceFlowOrchestrator.class);
+
+	private final int maxSessions;
+	private final Semaphore sessions;
+	private final Duration deadline;
+
+	/**
+	 * A trace-analysis flow: the preset to select and the trace file to run it on.
+	 */
+	public static class TraceFlow {
+		private final String name;
+		private final String preset;
+		private final String traceFile;
+
+		public TraceFlow(String name, String preset, String traceFile) {
+			this.name = name;
+			this.preset = preset;
+			this.traceFile = traceFile;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Outcome of one flow.
+	 */
+	public static class FlowResult {
+		private final String name;
+		private final boolean passed;
+		private final boolean timedOut;
+		private final long durationMillis;
+		private final Throwable error;
+
+		FlowResult(String name, boolean passed, boolean timedOut, long durationMillis, Throwable error) {
+			this.name = name;
+			this.passed = passed;
+			this.timedOut = timedOut;
+			this.durationMillis = durationMillis;
+			this.error = error;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isPassed() {
+			return passed;
+		}
+
+		public boolean isTimedOut() {
+			return timedOut;
+		}
+
+		public long getDurationMillis() {
+			return durationMillis;
+		}
+
+		public Throwable getError() {
+			return error;
+		}
+
+		@Override
+		public String toString() {
+			return name + " : " + (passed ? "PASS" : timedOut ? "TIMEOUT" : "FAIL") + " in " + durationMillis + " ms"
+					+ (error == null ? "" : " (" + error + ")");
+		}
+	}
+
+	/**
+	 * Constructor for TraceFlowOrchestrator.
+	 *
+	 * @param maxSessions the maximum number of browser sessions used at once
+	 * @param deadline    the time each flow may take once it has a session
+	 */
+	public TraceFlowOrchestrator(int maxSessions, Duration deadline) {
+		this.maxSessions = Math.max(1, maxSessions);
+		this.sessions = new Semaphore(this.maxSessions);
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Runs all flows concurrently and waits for every one of them to finish or
+	 * time out.
+	 *
+	 * @param flows the flows to run
+	 * @return the results, in the order of the flows
+	 * @throws IllegalStateException if the session pool cannot serve as many
+	 *                               flows at once as the orchestrator runs
+	 */
+	public List<FlowResult> runAll(List<TraceFlow> flows) {
+		int available = DriverRegistry.availableCount();
+		if (available < Math.min(maxSessions, flows.size())) {
+			throw new IllegalStateException("The WebDriver pool has " + available + " sessions left for " + maxSessions
+					+ " concurrent flows, raise driver.pool.size");
+		}
+		ExtentTest parent = Listeners.extentTest.get();
+		ExecutorService executor = ThreadUtility.newPerTaskExecutor("trace-flow");
+		ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "trace-flow-watchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<FlowResult>> futures = new ArrayList<Future<FlowResult>>();
+			for (TraceFlow flow : flows) {
+				ExtentTest node = parent == null ? null : parent.createNode(flow.name);
+				futures.add(executor.submit(() -> runFlow(flow, node, watchdog)));
+			}
+			List<FlowResult> results = new ArrayList<FlowResult>();
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					results.add(futures.get(i).get());
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					results.add(new FlowResult(flows.get(i).name, false, false, 0, ex));
+				} catch (ExecutionException ex) {
+					results.add(new FlowResult(flows.get(i).name, false, false, 0, ex.getCause()));
+				}
+			}
+			for (FlowResult result : results) {
+				log.info(result);
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+			watchdog.shutdownNow();
+		}
+	}
+
+	private FlowResult runFlow(TraceFlow flow, ExtentTest node, ScheduledExecutorService watchdog)
+			throws InterruptedException {
+		sessions.acquire();
+		Listeners.extentTest.set(node);
+		AtomicBoolean expired = new AtomicBoolean();
+		long start = System.currentTimeMillis();
+		ScheduledFuture<?> timer = null;
+		try {
+			WebDriver driver = DriverRegistry.getDriver(); // Leased before the deadline starts
+			Thread worker = Thread.currentThread();
+			start = System.currentTimeMillis();
+			timer = watchdog.schedule(() -> {
+				expired.set(true);
+				worker.interrupt();
+			}, deadline.toMillis(), TimeUnit.MILLISECONDS);
+			new LoginToPlatformPage(driver).ensureLoggedIn(getConfigData("app.username"),
+					getConfigData("app.password"));
+			SystemMapViewPage page = new SystemMapViewPage(driver);
+			page.clickZoomInButton();
+			page.clickOnTools();
+			page.clickOnTraceFileAnalysis();
+			page.selectPreset(flow.preset);
+			page.selectTraceFile(flow.traceFile);
+			page.executeTrace();
+			page.selectTaskFromList(flow.preset, flow.traceFile); // Not the newest task, another flow may have started it
+			page.goToTaskDetails(flow.traceFile);
+			page.goToPerformaChart(flow.traceFile);
+			return new FlowResult(flow.name, !expired.get(), expired.get(), System.currentTimeMillis() - start, null);
+		} catch (Throwable ex) {
+			return new FlowResult(flow.name, false, expired.get(), System.currentTimeMillis() - start, ex);
+		} finally {
+			if (timer != null) {
+				timer.cancel(false);
+			}
+			Thread.interrupted(); // Clearing a late watchdog interrupt before the session is reset
+			DriverRegistry.removeDriver();
+			Listeners.extentTest.remove();
+			sessions.release();
+		}
+	}
+}
@@ -0,0 +1,393 @@
+package com.kpit.automation.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Small column store for the data extracted from web tables and grids. Each
+ * column is typed when it is built: a column whose non-empty cells all parse as
+ * numbers is kept as a {@code double[]}, any other column is dictionary-encoded
+ * (an {@code int[]} of codes into the distinct values). Filters, sort checks,
+ * group counts and min/max are single passes over the primitive arrays; string
+ * predicates and comparisons are evaluated once per distinct value.
+ */
+public class ColumnStore {
+
+	private final Map<String, Column> columns = new LinkedHashMap<String, Column>();
+	private final int rowCount;
+
+	private ColumnStore(int rowCount) {
+		this.rowCount = rowCount;
+	}
+
+	/**
+	 * Builds a store from a grid snapshot, one column per header.
+	 *
+	 * @param snapshot the grid snapshot
+	 * @return the column store
+	 */
+	public static ColumnStore of(GridSnapshot snapshot) {
+		ColumnStore store = new ColumnStore(snapshot.getRowCount());
+		for (int column = 0; column < snapshot.getColumnCount(); column++) {
+			String name = snapshot.getHeaders().get(column);
+			store.columns.put(name.toLowerCase(Locale.ROOT), column(name, snapshot.getColumnValues(column)));
+		}
+		return store;
+	}
+
+	/**
+	 * Builds a store from columns of texts, such as the columns of a query result.
+	 *
+	 * @param names  the names of the columns
+	 * @param values the texts of each column, in row order, all of the same size
+	 * @return the column store
+	 */
+	public static ColumnStore of(List<String> names, List<List<String>> values) {
+		ColumnStore store = new ColumnStore(values.isEmpty() ? 0 : values.get(0).size());
+		for (int column = 0; column < names.size(); column++) {
+			String name = names.get(column);
+			store.columns.put(name.toLowerCase(Locale.ROOT), column(name, values.get(column)));
+		}
+		return store;
+	}
+
+	/**
+	 * Builds a single typed column.
+	 *
+	 * @param name   the name of the column
+	 * @param values the cell texts, in row order
+	 * @return a numeric column if every non-empty cell is a number, a
+	 *         dictionary-encoded column otherwise
+	 */
+	public static Column column(String name, List<String> values) {
+		String[] raw = values.toArray(new String[0]);
+		double[] numbers = new double[raw.length];
+		boolean numeric = raw.length > 0;
+		for (int i = 0; i < raw.length && numeric; i++) {
+			String text = raw[i] == null ? "" : raw[i].trim();
+			if (text.isEmpty()) {
+				numbers[i] = Double.NaN;
+				continue;
+			}
+			try {
+				numbers[i] = Double.parseDouble(text);
+			} catch (NumberFormatException ex) {
+				numeric = false;
+			}
+		}
+		return numeric ? new NumericColumn(name, numbers, raw) : new DictionaryColumn(name, raw);
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Returns a column by name, ignoring case.
+	 *
+	 * @param name the header of the column
+	 * @return the column
+	 */
+	public Column get(String name) {
+		Column column = columns.get(name.toLowerCase(Locale.ROOT));
+		if (column == null) {
+			throw new NoSuchElementException("Column not found: " + name);
+		}
+		return column;
+	}
+
+	/**
+	 * A typed column.
+	 */
+	public abstract static class Column {
+		private final String name;
+
+		Column(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public abstract int size();
+
+		public abstract boolean isNumeric();
+
+		/**
+		 * Returns the text of a cell.
+		 */
+		public abstract String get(int row);
+
+		/**
+		 * Returns the rows whose text matches the predicate.
+		 */
+		public abstract BitSet filter(Predicate<String> predicate);
+
+		/**
+		 * Checks that the column is sorted, numerically for numeric columns and
+		 * lexicographically otherwise. Empty cells of numeric columns are ignored.
+		 */
+		public abstract boolean isSorted(boolean ascending);
+
+		/**
+		 * Counts the rows of each distinct value, in order of first appearance.
+		 */
+		public abstract Map<String, Integer> groupCount();
+
+		/**
+		 * Returns the smallest value, or null if the column is empty.
+		 */
+		public abstract String min();
+
+		/**
+		 * Returns the largest value, or null if the column is empty.
+		 */
+		public abstract String max();
+
+		/**
+		 * Checks that every cell contains the given text, ignoring case.
+		 */
+		public boolean allContain(String text) {
+			String needle = text.toLowerCase(Locale.ROOT);
+			return filter(value -> value.toLowerCase(Locale.ROOT).contains(needle)).cardinality() == size();
+		}
+
+		/**
+		 * Returns the cell texts as a list.
+		 */
+		public List<String> toList() {
+			List<String> values = new ArrayList<String>(size());
+			for (int row = 0; row < size(); row++) {
+				values.add(get(row));
+			}
+			return values;
+		}
+	}
+
+	/**
+	 * Numeric column, values kept as primitive doubles next to their cell texts.
+	 */
+	static final class NumericColumn extends Column {
+		private final double[] values;
+		private final String[] raw;
+
+		NumericColumn(String name, double[] values, String[] raw) {
+			super(name);
+			this.values = values;
+			this.raw = raw;
+		}
+
+		@Override
+		public int size() {
+			return values.length;
+		}
+
+		@Override
+		public boolean isNumeric() {
+			return true;
+		}
+
+		@Override
+		public String get(int row) {
+			return raw[row];
+		}
+
+		public double getDouble(int row) {
+			return values[row];
+		}
+
+		@Override
+		public BitSet filter(Predicate<String> predicate) {
+			BitSet rows = new BitSet(values.length);
+			for (int row = 0; row < values.length; row++) {
+				if (predicate.test(raw[row] == null ? "" : raw[row])) {
+					rows.set(row);
+				}
+			}
+			return rows;
+		}
+
+		@Override
+		public boolean isSorted(boolean ascending) {
+			double previous = Double.NaN;
+			for (double value : values) {
+				if (Double.isNaN(value)) {
+					continue;
+				}
+				if (!Double.isNaN(previous) && (ascending ? value < previous : value > previous)) {
+					return false;
+				}
+				previous = value;
+			}
+			return true;
+		}
+
+		@Override
+		public Map<String, Integer> groupCount() {
+			Map<Double, Integer> counts = new LinkedHashMap<Double, Integer>();
+			Map<Double, String> labels = new HashMap<Double, String>();
+			for (int row = 0; row < values.length; row++) {
+				counts.merge(values[row], 1, Integer::sum);
+				labels.putIfAbsent(values[row], raw[row]);
+			}
+			Map<String, Integer> groups = new LinkedHashMap<String, Integer>();
+			counts.forEach((value, count) -> groups.put(labels.get(value), count));
+			return groups;
+		}
+
+		@Override
+		public String min() {
+			return extreme(true);
+		}
+
+		@Override
+		public String max() {
+			return extreme(false);
+		}
+
+		private String extreme(boolean min) {
+			int found = -1;
+			for (int row = 0; row < values.length; row++) {
+				if (!Double.isNaN(values[row])
+						&& (found < 0 || (min ? values[row] < values[found] : values[row] > values[found]))) {
+					found = row;
+				}
+			}
+			return found < 0 ? null : raw[found];
+		}
+	}
+
+	/**
+	 * String column, encoded as codes into the array of its distinct values.
+	 */
+	static final class DictionaryColumn extends Column {
+		private final String[] dictionary;
+		private final int[] codes;
+		private int[] ranks;
+
+		DictionaryColumn(String name, String[] raw) {
+			super(name);
+			Map<String, Integer> index = new HashMap<String, Integer>();
+			List<String> distinct = new ArrayList<String>();
+			codes = new int[raw.length];
+			for (int row = 0; row < raw.length; row++) {
+				String value = raw[row] == null ? "" : raw[row];
+				Integer code = index.get(value);
+				if (code == null) {
+					code = distinct.size();
+					index.put(value, code);
+					distinct.add(value);
+				}
+				codes[row] = code;
+			}
+			dictionary = distinct.toArray(new String[0]);
+		}
+
+		@Override
+		public int size() {
+			return codes.length;
+		}
+
+		@Override
+		public boolean isNumeric() {
+			return false;
+		}
+
+		@Override
+		public String get(int row) {
+			return dictionary[codes[row]];
+		}
+
+		@Override
+		public BitSet filter(Predicate<String> predicate) {
+			boolean[] matches = new boolean[dictionary.length];
+			for (int code = 0; code < dictionary.length; code++) {
+				matches[code] = predicate.test(dictionary[code]);
+			}
+			BitSet rows = new BitSet(codes.length);
+			for (int row = 0; row < codes.length; row++) {
+				if (matches[codes[row]]) {
+					rows.set(row);
+				}
+			}
+			return rows;
+		}
+
+		@Override
+		public boolean isSorted(boolean ascending) {
+			int[] rank = ranks();
+			for (int row = 1; row < codes.length; row++) {
+				int order = rank[codes[row]] - rank[codes[row - 1]];
+				if (ascending ? order < 0 : order > 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public Map<String, Integer> groupCount() {
+			int[] counts = new int[dictionary.length];
+			for (int code : codes) {
+				counts[code]++;
+			}
+			Map<String, Integer> groups = new LinkedHashMap<String, Integer>();
+			for (int code = 0; code < dictionary.length; code++) {
+				groups.put(dictionary[code], counts[code]);
+			}
+			return groups;
+		}
+
+		@Override
+		public String min() {
+			return extreme(true);
+		}
+
+		@Override
+		public String max() {
+			return extreme(false);
+		}
+
+		private String extreme(boolean min) {
+			if (dictionary.length == 0) {
+				return null;
+			}
+			int[] rank = ranks();
+			int found = 0;
+			for (int code = 1; code < dictionary.length; code++) {
+				if (min ? rank[code] < rank[found] : rank[code] > rank[found]) {
+					found = code;
+				}
+			}
+			return dictionary[found];
+		}
+
+		/**
+		 * Returns the lexicographic rank of each code, sorting the distinct values
+		 * once.
+		 */
+		private int[] ranks() {
+			if (ranks == null) {
+				Integer[] order = new Integer[dictionary.length];
+				for (int code = 0; code < order.length; code++) {
+					order[code] = code;
+				}
+				Arrays.sort(order, (a, b) -> dictionary[a].compareTo(dictionary[b]));
+				ranks = new int[dictionary.length];
+				for (int rank = 0; rank < order.length; rank++) {
+					ranks[order[rank]] = rank;
+				}
+			}
+			return ranks;
+		}
+	}
+}
@@ -7,7 +7,6 @@
  */
 package com.kpit.automation.helpers;
 
-import java.time.Duration;
 import java.util.Calendar;
 import java.util.List;
 
@@ -17,7 +16,6 @@ import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import com.kpit.automation.utilities.LoggerUtility;
 
@@ -34,7 +32,7 @@ public class DatePickerHelper extends LoggerUtility {
 	 * The logger instance.
 	 */
 	private Logger log = Logger.getLogger(DatePickerHelper.class);
-	private WebDriverWait wait;
+	private WaitHelper wait;
 
 	/**
 	 * The WebDriver instance.
@@ -48,7 +46,7 @@ public class DatePickerHelper extends LoggerUtility {
 	 */
 	public DatePickerHelper(WebDriver driver) {
 		this.driver = driver;
-		this.wait = new WebDriverWait(this.driver, Duration.ofSeconds(20));
+		this.wait = new WaitHelper(driver, WaitPolicy.FAST_UI);
 	}
 
 	public WebElement testDatePicker(WebElement selectDate, String date) {
@@ -84,9 +82,11 @@ public class DatePickerHelper extends LoggerUtility {
 			int yearDiff = year - currentYear;
 			log.info("yearDiff is: " + yearDiff);
 
+			wait.until(webDriver -> midLink.isEmpty() || midLink.stream().anyMatch(WebElement::isDisplayed)); // Calendar title rendered
+			WebElement title = null;
 			for (WebElement elementMid : midLink) {
-				Thread.sleep(2000);
 				if (elementMid.isDisplayed()) {
+					title = elementMid;
 					log.info("Wait for Year element is clickable or not");
 					wait.until(ExpectedConditions.elementToBeClickable(elementMid));
 					elementMid.getText();
@@ -100,30 +100,29 @@ public class DatePickerHelper extends LoggerUtility {
 			if (yearDiff != 0) {
 				if (yearDiff > 0) {
 					for (int i = 0; i < yearDiff; i++) {
+						String previousTitle = title == null ? null : title.getText();
 						clickVisibleElement(nextLink);
 						log.info("Next element clicked");
+						waitForTitleChange(title, previousTitle);
 					}
 				} else {
 					for (int i = 0; i < (-yearDiff); i++) {
+						String previousTitle = title == null ? null : title.getText();
 						clickVisibleElement(previousLink);
 						log.info("Previous element clicked");
+						waitForTitleChange(title, previousTitle);
 					}
 				}
 			}
 
 			log.info("Wait for Finds all the months in the calendar.");
-			wait.until(ExpectedConditions
-					.presenceOfAllElementsLocatedBy(By.xpath("//table//tbody//td[contains(@class,'cell-year')]")));
-
-			Thread.sleep(2000);
-
 			log.info("Finds all the months in the calendar.");
-			List<WebElement> list_AllMonthToBook = driver
-					.findElements(By.xpath("//table//tbody//td[contains(@class,'cell-year')]"));
+			List<WebElement> list_AllMonthToBook = wait.until(ExpectedConditions
+					.visibilityOfAllElementsLocatedBy(By.xpath("//table//tbody//td[contains(@class,'cell-year')]")));
 
 			log.info("Month to be clicked is: " + list_AllMonthToBook.get(month).getText());
 
-			Thread.sleep(2000);
+			wait.until(ExpectedConditions.elementToBeClickable(list_AllMonthToBook.get(month)));
 
 			log.info("Clicks the month corresponding to the date's month.");
 			list_AllMonthToBook.get(month).click();
@@ -132,9 +131,9 @@ public class DatePickerHelper extends LoggerUtility {
 			List<WebElement> list_AllDateToBook = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(
 					By.xpath("//table[contains(@id,'innerCalendar')]//tbody//td[not(contains(@class,'othermonth'))]")));
 
+			wait.until(webDriver -> list_AllDateToBook.stream().anyMatch(WebElement::isDisplayed)); // Month view rendered
 			for (WebElement element : list_AllDateToBook) {
 				log.info("Finds all the dates in the calendar.");
-				Thread.sleep(2000);
 				if (element.isDisplayed()) {
 					log.info("Expected date is displayed");
 					eleDate = list_AllDateToBook.get(day - 1);
@@ -150,6 +149,12 @@ public class DatePickerHelper extends LoggerUtility {
 		}
 	}
 
+	private void waitForTitleChange(WebElement title, String previousTitle) {
+		if (title != null) {
+			wait.waitForTextToChange(title, previousTitle); // Calendar title moved to the next or previous year
+		}
+	}
+
 	private void clickVisibleElement(List<WebElement> elements) {
 		for (WebElement element : elements) {
 			if (element.isDisplayed()) {
@@ -168,13 +173,11 @@ public class DatePickerHelper extends LoggerUtility {
 		try {
 			log.info("Wait for Date picker is clickable or not");
 			wait.until(ExpectedConditions.elementToBeClickable(selectDate));
-			Thread.sleep(2000);
 			selectDate.click();
 			log.info("Date picker clicked to clear the selected date");
 			log.info("Wait for clear date button.");
 			WebElement clearButton = wait
 					.until(ExpectedConditions.elementToBeClickable(By.xpath("//a[contains(text(),'Clear')]")));
-			Thread.sleep(2000);
 			clearButton.click();
 			log.info("Selected date Cleared");
 		} catch (Exception ex) {
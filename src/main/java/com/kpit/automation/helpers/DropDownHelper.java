@@ -1,46 +1,48 @@
 package com.kpit.automation.helpers;
 
-import java.time.Duration;
 import java.util.List;
 
 import org.apache.log4j.Logger;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.kpit.automation.locators.CachePolicy;
+import com.kpit.automation.locators.LocatorOptions;
+import com.kpit.automation.locators.PageLocators;
 import com.kpit.automation.utilities.LoggerUtility;
 
+@PageLocators
 public class DropDownHelper extends LoggerUtility {
 
 	private Logger log = getLogger(DropDownHelper.class);
 
-	private WebDriver driver;
-	private WebDriverWait wait;
+	WebDriver driver;
+	private WaitHelper waitHelper;
 
 	public DropDownHelper(WebDriver driver) {
 		this.driver = driver;
-		PageFactory.initElements(driver, this);
-		this.wait = new WebDriverWait(this.driver, Duration.ofSeconds(10));
+		DropDownHelperLocators.init(this);
+		this.waitHelper = new WaitHelper(driver, WaitPolicy.FAST_UI);
 	}
 
 	@FindBy(xpath = "//span[contains(text(),'Select Filter')]")
-	private WebElement filterElement;
+	@LocatorOptions(cache = CachePolicy.EPOCH)
+	WebElement filterElement;
 
 	@FindBy(xpath = "//div[@role='option']//span[contains(@class,'listitem')]")
-	private List<WebElement> allOptions;
+	List<WebElement> allOptions;
 
 	public void selectDropDownValue(WebElement element, List<WebElement> dropDownElements, String valueToSelect) {
 		try {
 			if (element.isDisplayed()) {
 				element.click();
-				Thread.sleep(2000);
+				waitHelper.until(ExpectedConditions.visibilityOfAllElements(dropDownElements)); // Option list rendered
 			}
 			for (WebElement dropDownElement : dropDownElements) {
 				if (dropDownElement.getText().contains(valueToSelect)) {
-					Thread.sleep(2000);
+					waitHelper.until(ExpectedConditions.elementToBeClickable(dropDownElement));
 					dropDownElement.click();
 					log.info("Selected value from dropdown: " + valueToSelect);
 					break;
@@ -58,11 +60,12 @@ public class DropDownHelper extends LoggerUtility {
 		try {
 			if (element.isDisplayed()) {
 				element.sendKeys(valueToSelect);
-				Thread.sleep(2000);
+				waitHelper.until(webDriver -> dropDownElements.stream()
+						.anyMatch(option -> option.getText().contains(valueToSelect))); // Options filtered on the typed value
 			}
 			for (WebElement dropDownElement : dropDownElements) {
 				if (dropDownElement.getText().contains(valueToSelect)) {
-					Thread.sleep(2000);
+					waitHelper.until(ExpectedConditions.elementToBeClickable(dropDownElement));
 					dropDownElement.click();
 					log.info("Selected value from dropdown: " + valueToSelect);
 					break;
@@ -79,17 +82,17 @@ public class DropDownHelper extends LoggerUtility {
 	public void multiSelectDropDown(String chkBoxValue) throws Exception {
 		try {
 			log.info("Attempting to click on filter element");
-			wait.until(ExpectedConditions.elementToBeClickable(filterElement));
+			waitHelper.until(ExpectedConditions.elementToBeClickable(filterElement));
 			filterElement.click();
 
 			log.info("Fetching all available options");
-			wait.until(ExpectedConditions.visibilityOfAllElements(allOptions));
+			waitHelper.until(ExpectedConditions.visibilityOfAllElements(allOptions));
 
 			for (WebElement option : allOptions) {
 				log.info("Checking option: " + option.getText());
 				if (option.getText().contains(chkBoxValue)) {
 					log.info("Found matching option: " + option.getText() + ", clicking it");
-					wait.until(ExpectedConditions.elementToBeClickable(option));
+					waitHelper.until(ExpectedConditions.elementToBeClickable(option));
 					option.click();
 					filterElement.click();
 					break;
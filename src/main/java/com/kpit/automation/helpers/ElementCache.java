@@ -0,0 +1,205 @@
+/**
+ * ElementCache class caches located elements per driver until they go stale.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.helpers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.kpit.automation.locators.LocatedElement;
+import com.kpit.automation.utilities.LoggerUtility;
+
+/**
+ * Element cache keyed by locator, one per driver. A cached element is handed
+ * out as a {@link LocatedElement} that re-resolves its locator and retries once
+ * when the element has gone stale.
+ *
+ * <p>
+ * Every lookup reads the mutation epoch of the page: a MutationObserver
+ * injected in the document counts the nodes added to and removed from it, and
+ * if that epoch, or the document it belongs to, changed since the entries were
+ * resolved, they are all dropped. A positional or text locator therefore never
+ * returns an element that is still attached but no longer the one it matches.
+ * A hit costs one script call instead of a waiting lookup. {@link #clear()}
+ * drops the entries at explicit page transitions.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ElementCache extends LoggerUtility {
+
+	/**
+	 * Logger instance for logging messages.
+	 */
+	private Logger log = getLogger(ElementCache.class);
+
+	/**
+	 * Caches of the live sessions, removed through
+	 * {@link HelperContext#remove(WebDriver)} when a session is reset or quit.
+	 */
+	private static final Map<WebDriver, ElementCache> caches = new ConcurrentHashMap<WebDriver, ElementCache>();
+
+	/**
+	 * Installs the observer in the current document if needed and returns the
+	 * document id with its mutation epoch.
+	 */
+	private static final String READ_EPOCH = "var w = window;"
+			+ " if (w.__domEpochId === undefined) { w.__domEpochId = Date.now().toString(36) + Math.random().toString(36).slice(2);"
+			+ " w.__domEpoch = 0; new MutationObserver(function (records) { for (var i = 0; i < records.length; i++) {"
+			+ " if (records[i].addedNodes.length || records[i].removedNodes.length) { w.__domEpoch++; return; } } })"
+			+ ".observe(document, { childList: true, subtree: true }); }"
+			+ " return w.__domEpochId + ':' + w.__domEpoch;";
+
+	private final WebDriver driver;
+	private final Map<By, WebElement> elements = new HashMap<By, WebElement>();
+	private final Map<By, List<WebElement>> elementLists = new HashMap<By, List<WebElement>>();
+	private String epoch;
+	private long hits;
+	private long misses;
+
+	private ElementCache(WebDriver driver) {
+		this.driver = driver;
+	}
+
+	/**
+	 * Returns the cache of the given driver.
+	 *
+	 * @param driver the WebDriver instance
+	 * @return the element cache of the driver
+	 */
+	public static ElementCache forDriver(WebDriver driver) {
+		return caches.computeIfAbsent(driver, ElementCache::new);
+	}
+
+	/**
+	 * Drops the cache of the given driver, whose session is reset or quit.
+	 *
+	 * @param driver the WebDriver instance
+	 */
+	public static void remove(WebDriver driver) {
+		caches.remove(driver);
+	}
+
+	/**
+	 * Returns the element located by the locator, from the cache if it was
+	 * resolved before.
+	 *
+	 * @param by       the locator
+	 * @param resolver resolves the locator on a cache miss, e.g. waits for the
+	 *                 element and finds it
+	 * @return the element, safe against staleness
+	 */
+	public synchronized WebElement find(By by, Function<By, WebElement> resolver) {
+		validate();
+		WebElement element = elements.get(by);
+		if (element == null) {
+			misses++;
+			WebElement resolved = resolver.apply(by);
+			if (resolved == null) {
+				return null;
+			}
+			element = wrap(by, resolved, resolver);
+			elements.put(by, element);
+		} else {
+			hits++;
+		}
+		return element;
+	}
+
+	/**
+	 * Returns the elements located by the locator, from the cache if the DOM has
+	 * not changed since they were resolved.
+	 *
+	 * @param by       the locator
+	 * @param resolver resolves the locator on a cache miss
+	 * @return the elements
+	 */
+	public synchronized List<WebElement> findAll(By by, Function<By, List<WebElement>> resolver) {
+		validate();
+		List<WebElement> list = elementLists.get(by);
+		if (list == null) {
+			misses++;
+			list = resolver.apply(by);
+			if (list == null) {
+				return null;
+			}
+			if (!list.isEmpty()) { // An empty result is not cached, the elements may be about to appear
+				elementLists.put(by, list);
+			}
+		} else {
+			hits++;
+		}
+		return list;
+	}
+
+	/**
+	 * Drops the cached elements of a locator.
+	 *
+	 * @param by the locator
+	 */
+	public synchronized void invalidate(By by) {
+		elements.remove(by);
+		elementLists.remove(by);
+	}
+
+	/**
+	 * Drops all the cached elements, for example when the session moves to
+	 * another page or is reset.
+	 */
+	public synchronized void clear() {
+		elements.clear();
+		elementLists.clear();
+		epoch = null;
+	}
+
+	/**
+	 * Returns the hit and miss counts of the cache.
+	 *
+	 * @return the statistics of the cache
+	 */
+	public synchronized String getStatistics() {
+		return "Element cache : " + hits + " hits, " + misses + " misses";
+	}
+
+	/**
+	 * Drops every entry resolved before the document changed.
+	 */
+	private void validate() {
+		String current = readEpoch();
+		if (current == null || !current.equals(epoch)) {
+			elements.clear();
+			elementLists.clear();
+			epoch = current;
+		}
+	}
+
+	private String readEpoch() {
+		try {
+			return String.valueOf(((JavascriptExecutor) driver).executeScript(READ_EPOCH));
+		} catch (Exception ex) {
+			return null; // No document to observe, e.g. while a window is closing
+		}
+	}
+
+	private WebElement wrap(By by, WebElement resolved, Function<By, WebElement> resolver) {
+		return new LocatedElement(by, () -> {
+			log.info("Element went stale, locating it again : " + by);
+			return resolver.apply(by);
+		}, resolved);
+	}
+}
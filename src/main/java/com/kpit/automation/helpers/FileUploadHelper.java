@@ -14,8 +14,10 @@ import java.awt.datatransfer.StringSelection;
 import java.awt.event.KeyEvent;
 
 import org.apache.log4j.Logger;
+import org.openqa.selenium.WebElement;
 
 import com.kpit.automation.utilities.LoggerUtility;
+import com.kpit.automation.utilities.SleepGuard;
 
 /**
  * This class extends {@link LoggerUtility} to provide logging functionality.
@@ -34,7 +36,9 @@ public class FileUploadHelper extends LoggerUtility {
 	/**
 	 * This method uploads a file to the system by simulating keyboard and mouse
 	 * events. It sets the clipboard with the provided file path and then simulates
-	 * the Ctrl+V and Enter key presses.
+	 * the Ctrl+V and Enter key presses. The native file dialog cannot be observed
+	 * from WebDriver, so the delay before pasting is kept and recorded by
+	 * {@link SleepGuard}; prefer {@link #fileUploadMethod(WebElement, String)}.
 	 *
 	 * @param path The path of the file to be uploaded.
 	 * @throws Exception If any exception occurs during the file upload process.
@@ -42,6 +46,7 @@ public class FileUploadHelper extends LoggerUtility {
 	public void fileUploadMethod(String path) throws Exception {
 		try {
 			Robot rb = new Robot();
+			SleepGuard.record(2000);
 			rb.delay(2000); // Delay to ensure previous action is completed
 			StringSelection ss = new StringSelection(path); // Creating StringSelection with file path
 			Toolkit.getDefaultToolkit().getSystemClipboard().setContents(ss, null); // Setting clipboard content
@@ -60,4 +65,21 @@ public class FileUploadHelper extends LoggerUtility {
 			log.error(ex); // Logging the exception
 		}
 	}
+
+	/**
+	 * This method uploads a file by typing its path into the file input element,
+	 * without opening the native file dialog.
+	 *
+	 * @param fileInput The input element of type file.
+	 * @param path      The path of the file to be uploaded.
+	 */
+	public void fileUploadMethod(WebElement fileInput, String path) {
+		try {
+			fileInput.sendKeys(path); // Setting the file on the input element
+			log.info("File set on the upload input : " + path);
+		} catch (Exception ex) {
+			ex.printStackTrace(); // Printing stack trace if an exception occurs
+			log.error(ex); // Logging the exception
+		}
+	}
 }
@@ -1,20 +1,100 @@
 package com.kpit.automation.helpers;
 
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class GridHelper {
 
+	private static final String READ_TEXTS = "return Array.prototype.map.call(arguments[0], function (node) {"
+			+ " return (node.innerText || node.textContent || '').trim(); });";
+
+	/**
+	 * Reads the headers, row ids and cell texts of the first jqxGrid of the page
+	 * in a single round-trip.
+	 */
+	public GridSnapshot getGridSnapshot(WebDriver driver) {
+		return getGridSnapshot(driver, null);
+	}
+
+	/**
+	 * Reads the headers, row ids and cell texts of the given grid, the
+	 * {@code div[role='grid']} element, in a single round-trip.
+	 */
+	public GridSnapshot getGridSnapshot(WebDriver driver, WebElement grid) {
+		return GridSnapshot.fromScriptResult(((JavascriptExecutor) driver).executeScript(GridSnapshot.READ_ROWS, grid));
+	}
+
+	/**
+	 * Streams all the rows of the first jqxGrid of the page, including the rows
+	 * outside the viewport of a virtual-scrolling grid.
+	 */
+	public GridRowIterator streamRows(WebDriver driver) {
+		return new GridRowIterator(driver, null);
+	}
+
+	/**
+	 * Streams all the rows of the given grid, the {@code div[role='grid']}
+	 * element, including the rows outside its viewport.
+	 */
+	public GridRowIterator streamRows(WebDriver driver, WebElement grid) {
+		return new GridRowIterator(driver, grid);
+	}
+
+	/**
+	 * Get column values by header name from a grid snapshot.
+	 */
+	public List<String> getColumnValuesByHeaderName(GridSnapshot snapshot, String headerName) {
+		try {
+			return snapshot.getColumnValues(headerName);
+		} catch (Exception e) {
+			System.err.println(
+					"Error occurred while getting column values for header '" + headerName + "': " + e.getMessage());
+			return new ArrayList<>();
+		}
+	}
+
+	/**
+	 * Reads the visible texts of the elements in one script call, instead of one
+	 * getText call per element.
+	 */
+	public List<String> getTexts(List<WebElement> elements) {
+		if (elements.isEmpty()) {
+			return new ArrayList<>();
+		}
+		WebElement first = elements.get(0);
+		if (first instanceof WrapsDriver) {
+			Object texts = ((JavascriptExecutor) ((WrapsDriver) first).getWrappedDriver()).executeScript(READ_TEXTS,
+					elements);
+			if (texts instanceof List) {
+				List<String> values = new ArrayList<>();
+				for (Object text : (List<?>) texts) {
+					values.add(String.valueOf(text));
+				}
+				return values;
+			}
+		}
+		List<String> values = new ArrayList<>();
+		for (WebElement element : elements) {
+			values.add(element.getText());
+		}
+		return values;
+	}
+
 	/**
 	 * Get the header element based on the header name.
 	 */
 	public WebElement getHeaderElementByName(List<WebElement> columnHeaders, String headerName) {
-		for (WebElement header : columnHeaders) {
-			if (header.getText().equalsIgnoreCase(headerName)) {
-				return header;
+		List<WebElement> headers = new ArrayList<>(columnHeaders);
+		List<String> texts = getTexts(headers);
+		for (int i = 0; i < texts.size(); i++) {
+			if (texts.get(i).equalsIgnoreCase(headerName)) {
+				return headers.get(i);
 			}
 		}
 		throw new NoSuchElementException("Column header not found: " + headerName);
@@ -32,11 +112,8 @@ public class GridHelper {
 	 */
 	public List<String> getColumnValuesByIndex(List<WebElement> gridCells, List<WebElement> columnHeaders,
 			int columnIndex) {
-		List<String> columnValues = new ArrayList<>();
-		for (int i = columnIndex; i < gridCells.size(); i += columnHeaders.size()) {
-			columnValues.add(gridCells.get(i).getText());
-		}
-		return columnValues;
+		List<WebElement> columnElements = getColumnElementsByIndex(gridCells, columnHeaders, columnIndex);
+		return getTexts(columnElements);
 	}
 
 	/**
@@ -58,9 +135,11 @@ public class GridHelper {
 	
 	public List<WebElement> getColumnElementsByIndex(List<WebElement> gridCells, List<WebElement> columnHeaders,
 			int columnIndex) {
+		List<WebElement> cells = new ArrayList<>(gridCells); // A page factory list finds the elements on every call
+		int columnCount = columnHeaders.size();
 		List<WebElement> columnValues = new ArrayList<>();
-		for (int i = columnIndex; i < gridCells.size(); i += columnHeaders.size()) {
-			columnValues.add(gridCells.get(i));
+		for (int i = columnIndex; i < cells.size(); i += columnCount) {
+			columnValues.add(cells.get(i));
 		}
 		return columnValues;
 	}
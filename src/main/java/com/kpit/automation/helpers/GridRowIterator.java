@@ -0,0 +1,182 @@
+package com.kpit.automation.helpers;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Streams all the rows of a virtual-scrolling jqxGrid, which only renders the
+ * rows of its viewport. The grid is scrolled programmatically by almost a full
+ * viewport at a time, and every newly rendered block of rows is read with one
+ * script call. Consecutive blocks overlap, so rows already yielded from the
+ * previous block are skipped by row id. Only the current block and the ids of
+ * the previous one are held, whatever the size of the grid.
+ *
+ * <pre>
+ * GridRowIterator rows = gridHelper.streamRows(driver);
+ * while (rows.hasNext()) {
+ * 	GridRowIterator.Row row = rows.next();
+ * 	row.get("Status");
+ * }
+ * </pre>
+ */
+public class GridRowIterator implements Iterator<GridRowIterator.Row> {
+
+	private static final Logger log = Logger.getLogger(GridRowIterator.class);
+
+	/**
+	 * Scrolls the grid to the offset given as second argument, waits two animation
+	 * frames for the grid to render and returns the rendered rows with the
+	 * geometry of the scroll: current offset, maximum offset and step.
+	 */
+	private static final String SCROLL_AND_READ = "var done = arguments[arguments.length - 1];"
+			+ " var root = arguments[0] || document.querySelector(\"jqxgrid > div[role='grid']\");"
+			+ " if (!root) { done(null); return; }"
+			+ " var read = function () { " + GridSnapshot.READ_ROWS + " };"
+			+ " var host = root.closest('[id]'); var api = window.jQuery && host && jQuery(host).jqxGrid ? function () {"
+			+ " var $host = jQuery(host); return $host.jqxGrid.apply($host, arguments); } : null;"
+			+ " var top = arguments[1], row = root.querySelector(\"div[role='row']\");"
+			+ " var rowHeight = row && row.offsetHeight ? row.offsetHeight : 1, viewport, maxTop;"
+			+ " if (api) { rowHeight = api('rowsheight') || rowHeight;"
+			+ " var content = root.querySelector(\"[id^='contenttable']\") || root;"
+			+ " viewport = content.parentNode.clientHeight || root.clientHeight;"
+			+ " maxTop = Math.max(0, api('getdatainformation').rowscount * rowHeight - viewport);"
+			+ " top = Math.min(top, maxTop); api('scrolloffset', top, api('scrolloffset').left); }"
+			+ " else { var pane = " + GridSnapshot.FIND_PANE + ";"
+			+ " if (!pane) { viewport = 0; maxTop = 0; top = 0; }"
+			+ " else { viewport = pane.clientHeight; maxTop = Math.max(0, pane.scrollHeight - viewport);"
+			+ " top = Math.min(top, maxTop); pane.scrollTop = top; pane.dispatchEvent(new Event('scroll')); } }"
+			+ " requestAnimationFrame(function () { requestAnimationFrame(function () {"
+			+ " var block = read(root); if (block) { block.top = top; block.maxTop = maxTop;"
+			+ " block.step = Math.max(rowHeight, viewport - rowHeight); }"
+			+ " done(block); }); });";
+
+	/**
+	 * A row of the grid.
+	 */
+	public static class Row {
+		private final String id;
+		private final String[] cells;
+		private final GridSnapshot block;
+
+		Row(String id, String[] cells, GridSnapshot block) {
+			this.id = id;
+			this.cells = cells;
+			this.block = block;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String[] getCells() {
+			return cells;
+		}
+
+		/**
+		 * Returns the cell of a column.
+		 *
+		 * @param headerName the header text, ignoring case
+		 * @return the cell text
+		 */
+		public String get(String headerName) {
+			return cells[block.getColumnIndex(headerName)];
+		}
+	}
+
+	private final JavascriptExecutor executor;
+	private final WebElement grid;
+
+	private GridSnapshot block;
+	private int position;
+	private Set<String> previousIds = Collections.emptySet();
+	private Set<String> currentIds = new HashSet<String>();
+	private double top;
+	private boolean lastBlock;
+	private Row next;
+	private long blocks;
+	private long rows;
+
+	/**
+	 * Constructor for GridRowIterator.
+	 *
+	 * @param driver the WebDriver instance
+	 * @param grid   the {@code div[role='grid']} element, or null for the first
+	 *               jqxGrid of the page
+	 */
+	public GridRowIterator(WebDriver driver, WebElement grid) {
+		this.executor = (JavascriptExecutor) driver;
+		this.grid = grid;
+	}
+
+	/**
+	 * Returns the column headers, once the first block has been read.
+	 *
+	 * @return the header texts
+	 */
+	public List<String> getHeaders() {
+		if (block == null) {
+			hasNext();
+		}
+		return block == null ? Collections.<String>emptyList() : block.getHeaders();
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (next == null) {
+			if (block != null && position < block.getRowCount()) {
+				String id = block.getRowId(position);
+				if (!previousIds.contains(id) && currentIds.add(id)) {
+					next = new Row(id, block.getRow(position), block);
+				}
+				position++;
+			} else if (lastBlock) {
+				log.info("Streamed " + rows + " grid rows in " + blocks + " blocks");
+				return false;
+			} else {
+				readNextBlock();
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Row next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more grid rows");
+		}
+		Row row = next;
+		next = null;
+		rows++;
+		return row;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readNextBlock() {
+		Object result = executor.executeAsyncScript(SCROLL_AND_READ, grid, top);
+		blocks++;
+		block = GridSnapshot.fromScriptResult(result);
+		position = 0;
+		previousIds = currentIds;
+		currentIds = new HashSet<String>();
+		if (!(result instanceof Map)) {
+			lastBlock = true;
+			return;
+		}
+		Map<String, Object> geometry = (Map<String, Object>) result;
+		double current = ((Number) geometry.get("top")).doubleValue();
+		double maxTop = ((Number) geometry.get("maxTop")).doubleValue();
+		double step = ((Number) geometry.get("step")).doubleValue();
+		lastBlock = current >= maxTop || step <= 0;
+		top = current + step;
+	}
+}
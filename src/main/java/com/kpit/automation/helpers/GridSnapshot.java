@@ -0,0 +1,158 @@
+package com.kpit.automation.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.NoSuchElementException;
+
+/**
+ * In-memory copy of the rendered rows of a jqxGrid: the header texts, the row
+ * ids and the cell texts, read in a single script call by
+ * {@link GridHelper#getGridSnapshot(org.openqa.selenium.WebDriver)}. Cells are
+ * kept row by row in one array, so that a 500 x 10 grid is 5000 strings and
+ * every lookup is local.
+ */
+public class GridSnapshot {
+
+	/**
+	 * Expression finding the scrollable element of a grid without the jqxGrid
+	 * API: the root or its first descendant whose content overflows vertically.
+	 */
+	static final String FIND_PANE = "[root].concat(Array.prototype.slice.call(root.querySelectorAll('*'))).filter(function (node) {"
+			+ " return node.scrollHeight > node.clientHeight + 1 && getComputedStyle(node).overflowY !== 'visible'; })[0]";
+
+	/**
+	 * Reads the header texts, row ids and cell texts of the rendered rows of a
+	 * grid. The grid root is the first argument, or the first jqxGrid of the page.
+	 * The row id is taken from the row attributes, then from the jqxGrid API, and
+	 * falls back to the position of the row in the data; rows without any text
+	 * (the empty rows jqxGrid renders below the data) are skipped.
+	 */
+	static final String READ_ROWS = "var root = arguments[0] || document.querySelector(\"jqxgrid > div[role='grid']\");"
+			+ " if (!root) { return null; }"
+			+ " var text = function (node) { return (node.innerText || node.textContent || '').trim(); };"
+			+ " var headers = Array.prototype.map.call(root.querySelectorAll(\"div[role='columnheader']\"), text);"
+			+ " var host = root.closest('[id]'); var api = window.jQuery && host && jQuery(host).jqxGrid ? function () {"
+			+ " var $host = jQuery(host); return $host.jqxGrid.apply($host, arguments); } : null;"
+			+ " var first = 0, rows = root.querySelectorAll(\"div[role='row']\");"
+			+ " if (api) { try { first = Math.round(api('scrolloffset').top / api('rowsheight')) || 0; } catch (e) { first = 0; } }"
+			+ " else if (rows.length && rows[0].offsetHeight) { var pane = " + FIND_PANE + ";"
+			+ " first = pane ? Math.round(pane.scrollTop / rows[0].offsetHeight) : 0; }"
+			+ " var rowIds = [], cells = [];"
+			+ " Array.prototype.forEach.call(rows, function (row, i) {"
+			+ " var values = Array.prototype.map.call(row.querySelectorAll(\"div[role='gridcell']\"), text);"
+			+ " if (!values.length || values.join('') === '') { return; }"
+			+ " var id = row.getAttribute('data-row-id') || row.getAttribute('row-id') || row.getAttribute('aria-rowindex');"
+			+ " if (!id && api) { try { var bound = api('getrowboundindex', first + i); var rowId = api('getrowid', bound);"
+			+ " id = rowId == null ? null : String(rowId); } catch (e) { id = null; } }"
+			+ " rowIds.push(id || String(first + i));"
+			+ " for (var c = 0; c < headers.length; c++) { cells.push(c < values.length ? values[c] : ''); } });"
+			+ " return { headers: headers, rowIds: rowIds, cells: cells };";
+
+	private final String[] headers;
+	private final String[] rowIds;
+	private final String[] cells;
+
+	GridSnapshot(String[] headers, String[] rowIds, String[] cells) {
+		this.headers = headers;
+		this.rowIds = rowIds;
+		this.cells = cells;
+	}
+
+	/**
+	 * Builds a snapshot from the result of {@link #READ_ROWS}.
+	 */
+	@SuppressWarnings("unchecked")
+	static GridSnapshot fromScriptResult(Object result) {
+		if (!(result instanceof Map)) {
+			return new GridSnapshot(new String[0], new String[0], new String[0]);
+		}
+		Map<String, Object> map = (Map<String, Object>) result;
+		return new GridSnapshot(toArray((List<Object>) map.get("headers")), toArray((List<Object>) map.get("rowIds")),
+				toArray((List<Object>) map.get("cells")));
+	}
+
+	private static String[] toArray(List<Object> values) {
+		if (values == null) {
+			return new String[0];
+		}
+		String[] array = new String[values.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = values.get(i) == null ? "" : values.get(i).toString();
+		}
+		return array;
+	}
+
+	public List<String> getHeaders() {
+		return Collections.unmodifiableList(Arrays.asList(headers));
+	}
+
+	public int getColumnCount() {
+		return headers.length;
+	}
+
+	public int getRowCount() {
+		return rowIds.length;
+	}
+
+	public String getRowId(int row) {
+		return rowIds[row];
+	}
+
+	public String getCell(int row, int column) {
+		return cells[row * headers.length + column];
+	}
+
+	/**
+	 * Returns the cells of a row.
+	 *
+	 * @param row the index of the row
+	 * @return the cell texts, one per column
+	 */
+	public String[] getRow(int row) {
+		return Arrays.copyOfRange(cells, row * headers.length, (row + 1) * headers.length);
+	}
+
+	/**
+	 * Returns the index of a column, ignoring case.
+	 *
+	 * @param headerName the header text
+	 * @return the index of the column
+	 * @throws NoSuchElementException if there is no such column
+	 */
+	public int getColumnIndex(String headerName) {
+		for (int i = 0; i < headers.length; i++) {
+			if (headers[i].equalsIgnoreCase(headerName)) {
+				return i;
+			}
+		}
+		throw new NoSuchElementException("Column header not found: " + headerName);
+	}
+
+	/**
+	 * Returns the values of a column.
+	 *
+	 * @param columnIndex the index of the column
+	 * @return the cell texts of the column, in row order
+	 */
+	public List<String> getColumnValues(int columnIndex) {
+		List<String> values = new ArrayList<String>(rowIds.length);
+		for (int row = 0; row < rowIds.length; row++) {
+			values.add(cells[row * headers.length + columnIndex]);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the values of a column.
+	 *
+	 * @param headerName the header text, ignoring case
+	 * @return the cell texts of the column, in row order
+	 */
+	public List<String> getColumnValues(String headerName) {
+		return getColumnValues(getColumnIndex(headerName));
+	}
+}
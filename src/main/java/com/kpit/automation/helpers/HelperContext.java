@@ -0,0 +1,163 @@
+/**
+ * HelperContext class holds the helpers of a browser session, shared by all its page objects.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.helpers;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+
+import com.kpit.automation.utilities.FileReaderUtility;
+
+/**
+ * Helpers of one browser session. Page objects used to create their own set of
+ * thirteen helpers, each with its logger and some with their own waits; the
+ * context creates a helper the first time it is asked for and hands the same
+ * instance to every page of the session, so creating a page object costs a map
+ * lookup. The helpers are stateless apart from the driver, and a session is
+ * driven by one thread at a time.
+ *
+ * <p>
+ * The contexts, element caches and network monitors of a session are kept
+ * until the session pool calls {@link #remove(WebDriver)} on reset or quit.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HelperContext {
+
+	private static final Map<WebDriver, HelperContext> contexts = new ConcurrentHashMap<WebDriver, HelperContext>();
+
+	private final WebDriver driver;
+	private final Map<Class<?>, Object> helpers = new ConcurrentHashMap<Class<?>, Object>();
+	private final Map<WaitPolicy, WaitHelper> waitHelpers = Collections
+			.synchronizedMap(new EnumMap<WaitPolicy, WaitHelper>(WaitPolicy.class));
+
+	private HelperContext(WebDriver driver) {
+		this.driver = driver;
+	}
+
+	/**
+	 * Returns the helper context of the given driver.
+	 *
+	 * @param driver the WebDriver instance
+	 * @return the helper context of the session
+	 */
+	public static HelperContext forDriver(WebDriver driver) {
+		return contexts.computeIfAbsent(driver, HelperContext::new);
+	}
+
+	/**
+	 * Drops everything kept for the session of the given driver: its helpers,
+	 * element cache, network monitor and implicit wait.
+	 *
+	 * @param driver the WebDriver instance whose session is reset or quit
+	 */
+	public static void remove(WebDriver driver) {
+		contexts.remove(driver);
+		ElementCache.remove(driver);
+		NetworkMonitor.remove(driver);
+		WaitHelper.remove(driver);
+	}
+
+	public WebDriver getDriver() {
+		return driver;
+	}
+
+	public AlertHelper getAlertHelper() {
+		return get(AlertHelper.class, () -> new AlertHelper(driver));
+	}
+
+	public BrowserHelper getBrowserHelper() {
+		return get(BrowserHelper.class, () -> new BrowserHelper(driver));
+	}
+
+	public CheckBoxHelper getCheckBoxHelper() {
+		return get(CheckBoxHelper.class, CheckBoxHelper::new);
+	}
+
+	public DatePickerHelper getDatePickerHelper() {
+		return get(DatePickerHelper.class, () -> new DatePickerHelper(driver));
+	}
+
+	public DropDownHelper getDropDownHelper() {
+		return get(DropDownHelper.class, () -> new DropDownHelper(driver));
+	}
+
+	public FileUploadHelper getFileUploadHelper() {
+		return get(FileUploadHelper.class, FileUploadHelper::new);
+	}
+
+	public GridHelper getGridHelper() {
+		return get(GridHelper.class, GridHelper::new);
+	}
+
+	public JavaScriptHelper getJavaScriptHelper() {
+		return get(JavaScriptHelper.class, () -> new JavaScriptHelper(driver));
+	}
+
+	public MouseActionHelper getMouseActionHelper() {
+		return get(MouseActionHelper.class, () -> new MouseActionHelper(driver));
+	}
+
+	public PopUpHelper getPopUpHelper() {
+		return get(PopUpHelper.class, () -> new PopUpHelper(driver));
+	}
+
+	public VerificationHelper getVerificationHelper() {
+		return get(VerificationHelper.class, VerificationHelper::new);
+	}
+
+	/**
+	 * Returns the wait helper of the default policy, {@link WaitPolicy#BACKEND_TASK}.
+	 *
+	 * @return the wait helper
+	 */
+	public WaitHelper getWaitHelper() {
+		return getWaitHelper(WaitPolicy.BACKEND_TASK);
+	}
+
+	/**
+	 * Returns the wait helper of a policy.
+	 *
+	 * @param policy the wait policy
+	 * @return the wait helper
+	 */
+	public WaitHelper getWaitHelper(WaitPolicy policy) {
+		return waitHelpers.computeIfAbsent(policy, key -> new WaitHelper(driver, key));
+	}
+
+	public WebTableUtility getWebTableUtility() {
+		return get(WebTableUtility.class, () -> new WebTableUtility(driver));
+	}
+
+	public FileReaderUtility getFileReaderUtility() {
+		return get(FileReaderUtility.class, FileReaderUtility::new);
+	}
+
+	public ElementCache getElementCache() {
+		return ElementCache.forDriver(driver);
+	}
+
+	private <T> T get(Class<T> type, Supplier<T> factory) {
+		Object helper = helpers.get(type);
+		if (helper == null) {
+			helper = factory.get(); // Created outside the map, helpers may ask the context for other helpers
+			Object previous = helpers.putIfAbsent(type, helper);
+			if (previous != null) {
+				helper = previous;
+			}
+		}
+		return type.cast(helper);
+	}
+}
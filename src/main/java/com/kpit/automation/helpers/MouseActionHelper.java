@@ -11,6 +11,7 @@ import org.apache.log4j.Logger;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import com.kpit.automation.utilities.LoggerUtility;
 
 /**
@@ -128,7 +129,7 @@ public class MouseActionHelper extends LoggerUtility {
 	public void doubleClick(WebElement element) throws Exception {
 		try {
 			Actions builder = new Actions(driver);
-			Thread.sleep(2000);
+			new WaitHelper(driver, WaitPolicy.FAST_UI).until(ExpectedConditions.elementToBeClickable(element));
 			builder.doubleClick(element).build().perform(); // Performing double click action
 			log.info("Double click on element is successful"); // Logging success
 		} catch (Exception ex) {
@@ -0,0 +1,264 @@
+/**
+ * NetworkMonitor class tracks the in-flight requests of a browser window from DevTools network events.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.helpers;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.kpit.automation.utilities.LoggerUtility;
+
+/**
+ * Tracks the XHR and fetch requests in flight in the current window of a
+ * browser. On Chromium browsers it subscribes to the raw CDP {@code Network}
+ * events (request sent, loading finished, loading failed or cancelled), so that
+ * {@link #waitForIdle(Duration, int, Duration)} blocks on a condition signalled
+ * by those events instead of polling the page. Browsers without DevTools fall
+ * back to an XHR/fetch counter injected in the page, which is polled.
+ *
+ * <p>
+ * One monitor is kept per session. Call {@link #attach()} before the action
+ * whose traffic should be awaited, so that its requests are counted from the
+ * start.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class NetworkMonitor extends LoggerUtility {
+
+	/**
+	 * Logger instance for logging messages.
+	 */
+	private Logger log = getLogger(NetworkMonitor.class);
+
+	/**
+	 * Monitors of the live sessions, removed through
+	 * {@link HelperContext#remove(WebDriver)} when a session is reset or quit.
+	 */
+	private static final Map<WebDriver, NetworkMonitor> monitors = new ConcurrentHashMap<WebDriver, NetworkMonitor>();
+
+	/**
+	 * Resource types counted as in flight. Web sockets, event streams, images,
+	 * fonts and other page resources may stay open or keep loading for as long as
+	 * the page lives.
+	 */
+	private static final Set<String> TRACKED_TYPES = Set.of("XHR", "Fetch");
+
+	private static final Function<JsonInput, Map<String, Object>> EVENT_PARAMS = input -> input.read(Json.MAP_TYPE);
+
+	private static final String INSTALL_COUNTER = "if (!window.__inflight) {"
+			+ " var s = window.__inflight = { count: 0, last: Date.now() };"
+			+ " var done = function () { s.count--; s.last = Date.now(); };"
+			+ " var send = XMLHttpRequest.prototype.send;"
+			+ " XMLHttpRequest.prototype.send = function () { s.count++; s.last = Date.now();"
+			+ " this.addEventListener('loadend', done); return send.apply(this, arguments); };"
+			+ " if (window.fetch) { var fetch = window.fetch; window.fetch = function () { s.count++; s.last = Date.now();"
+			+ " return fetch.apply(this, arguments).finally(done); }; } }";
+
+	private static final String COUNTER_IDLE = "var s = window.__inflight;"
+			+ " return !s || (s.count <= arguments[1] && Date.now() - s.last >= arguments[0]);";
+
+	private final WebDriver driver;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final Set<String> inflight = new HashSet<String>();
+	private long lastActivity = System.nanoTime();
+	private String attachedWindow;
+	private boolean devToolsAvailable;
+
+	private NetworkMonitor(WebDriver driver) {
+		this.driver = driver;
+		this.devToolsAvailable = driver instanceof HasDevTools;
+	}
+
+	/**
+	 * Returns the monitor of the given driver.
+	 *
+	 * @param driver the WebDriver instance
+	 * @return the network monitor of the driver
+	 */
+	public static NetworkMonitor forDriver(WebDriver driver) {
+		return monitors.computeIfAbsent(driver, NetworkMonitor::new);
+	}
+
+	/**
+	 * Drops the monitor of the given driver and unsubscribes it from the DevTools
+	 * events of the session.
+	 *
+	 * @param driver the WebDriver instance
+	 */
+	public static void remove(WebDriver driver) {
+		NetworkMonitor monitor = monitors.remove(driver);
+		if (monitor != null) {
+			monitor.detach();
+		}
+	}
+
+	/**
+	 * Starts tracking the current window, if it is not tracked yet. Switching to
+	 * another window and attaching again moves the tracking to that window.
+	 */
+	public synchronized void attach() {
+		String window = driver.getWindowHandle();
+		if (window.equals(attachedWindow)) {
+			return;
+		}
+		if (devToolsAvailable) {
+			try {
+				DevTools devTools = ((HasDevTools) driver).getDevTools();
+				devTools.clearListeners();
+				devTools.createSession(window);
+				reset();
+				devTools.addListener(new Event<Map<String, Object>>("Network.requestWillBeSent", EVENT_PARAMS),
+						params -> {
+							if (TRACKED_TYPES.contains(String.valueOf(params.get("type")))) {
+								started(String.valueOf(params.get("requestId")));
+							}
+						});
+				devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished", EVENT_PARAMS),
+						params -> finished(String.valueOf(params.get("requestId"))));
+				devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed", EVENT_PARAMS),
+						params -> finished(String.valueOf(params.get("requestId")))); // Cancelled requests included
+				devTools.send(new Command<Void>("Network.enable", Map.of()));
+				attachedWindow = window;
+				log.info("Network monitor attached to window : " + window);
+				return;
+			} catch (Exception ex) {
+				log.info("DevTools network events not available, using the page counter : " + ex.getMessage());
+				devToolsAvailable = false;
+			}
+		}
+		((JavascriptExecutor) driver).executeScript(INSTALL_COUNTER);
+		attachedWindow = window;
+	}
+
+	/**
+	 * Blocks until no more than {@code maxInflight} requests have been in flight,
+	 * with no request starting or finishing, for {@code quietPeriod}.
+	 *
+	 * @param quietPeriod the time the network must stay quiet
+	 * @param maxInflight the number of open requests tolerated, for long polls
+	 * @param timeout     the maximum time to wait
+	 * @throws TimeoutException     if the network does not settle in time
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void waitForIdle(Duration quietPeriod, int maxInflight, Duration timeout)
+			throws TimeoutException, InterruptedException {
+		attach();
+		if (!devToolsAvailable) {
+			((JavascriptExecutor) driver).executeScript(INSTALL_COUNTER);
+			new WebDriverWait(driver, timeout, Duration.ofMillis(100)).until(webDriver -> (Boolean) ((JavascriptExecutor) webDriver)
+					.executeScript(COUNTER_IDLE, quietPeriod.toMillis(), maxInflight));
+			return;
+		}
+		long quietNanos = quietPeriod.toNanos();
+		long deadline = System.nanoTime() + timeout.toNanos();
+		lock.lock();
+		try {
+			while (true) {
+				long now = System.nanoTime();
+				if (now >= deadline) {
+					throw new TimeoutException("Network not idle after " + timeout.toMillis() + " ms, " + inflight.size()
+							+ " requests in flight");
+				}
+				long wait;
+				if (inflight.size() <= maxInflight) {
+					long quietFor = now - lastActivity;
+					if (quietFor >= quietNanos) {
+						return;
+					}
+					wait = quietNanos - quietFor; // Woken early by any request starting or finishing
+				} else {
+					wait = deadline - now;
+				}
+				changed.await(Math.min(wait, deadline - now), TimeUnit.NANOSECONDS);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of requests currently in flight.
+	 *
+	 * @return the number of open requests
+	 */
+	public int getInflightCount() {
+		lock.lock();
+		try {
+			return inflight.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void started(String requestId) {
+		lock.lock();
+		try {
+			inflight.add(requestId);
+			lastActivity = System.nanoTime();
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void finished(String requestId) {
+		lock.lock();
+		try {
+			if (inflight.remove(requestId)) {
+				lastActivity = System.nanoTime();
+				changed.signalAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private synchronized void detach() {
+		if (devToolsAvailable && attachedWindow != null) {
+			try {
+				((HasDevTools) driver).getDevTools().clearListeners();
+			} catch (Exception ex) {
+				log.info("Could not clear the DevTools listeners : " + ex.getMessage());
+			}
+		}
+		attachedWindow = null;
+		reset();
+	}
+
+	private void reset() {
+		lock.lock();
+		try {
+			inflight.clear();
+			lastActivity = System.nanoTime();
+		} finally {
+			lock.unlock();
+		}
+	}
+}
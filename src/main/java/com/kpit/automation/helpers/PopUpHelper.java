@@ -4,6 +4,7 @@ import org.apache.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.testng.Assert;
 
 import com.kpit.automation.utilities.LoggerUtility;
@@ -13,9 +14,11 @@ public class PopUpHelper extends LoggerUtility {
 	private Logger log = getLogger(PopUpHelper.class);
 	
 	private WebDriver driver;
+	private WaitHelper waitHelper;
 
 	public PopUpHelper(WebDriver driver) {
 		this.driver = driver;
+		this.waitHelper = new WaitHelper(driver, WaitPolicy.FAST_UI);
 	}
 
 	public boolean clickOnOkButton() {
@@ -38,9 +41,11 @@ public class PopUpHelper extends LoggerUtility {
 	public String verifyPopUp(WebElement element) {
 		String strMsg = null;
 		try {
-			element.isDisplayed();
-			Thread.sleep(2000);
-			strMsg = element.getText();
+			waitHelper.until(ExpectedConditions.visibilityOf(element));
+			strMsg = waitHelper.until(webDriver -> {
+				String text = element.getText();
+				return text.isEmpty() ? null : text; // Message rendered in the pop-up
+			});
 			logScreenshot();
 			clickOnPopUpOkButton();
 		} catch (Exception ex) {
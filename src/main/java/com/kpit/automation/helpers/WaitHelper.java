@@ -10,19 +10,33 @@ package com.kpit.automation.helpers;
 import org.apache.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.kpit.automation.locators.LocatedElement;
 import com.kpit.automation.utilities.LoggerUtility;
+import com.kpit.automation.utilities.SleepGuard;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
- * Class for handling WebDriver waits.
+ * Class for handling WebDriver waits. Explicit waits follow a {@link WaitPolicy}
+ * (timeout and backoff polling schedule), {@link WaitPolicy#BACKEND_TASK} unless
+ * another one is chosen with {@link #using(WaitPolicy)}. The implicit wait of the
+ * session ({@code wait.implicit.seconds}) guards the direct interactions of the
+ * pages; it is suspended while an explicit wait runs, so that lookups inside a
+ * condition fail at once and the two waits do not add up.
  *
  * @author Aakash Saxena
  * @version 1.0
@@ -37,8 +51,23 @@ public class WaitHelper extends LoggerUtility {
 	 */
 	private Logger log = getLogger(WaitHelper.class);
 
+	/**
+	 * Implicit wait of each live session, restored after every explicit wait.
+	 * Removed through {@link HelperContext#remove(WebDriver)} when the session is
+	 * reset or quit.
+	 */
+	private static final Map<WebDriver, Duration> implicitWaits = new ConcurrentHashMap<WebDriver, Duration>();
+
+	/**
+	 * Depth of the explicit waits running on the current thread, conditions may
+	 * wait themselves.
+	 */
+	private static final ThreadLocal<int[]> waitDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+	private static final String PAGES_PACKAGE = "com.kpit.automation.pages.";
+
 	private WebDriver driver;
-	private WebDriverWait wait;
+	private WaitPolicy policy;
 
 	/**
 	 * Constructor for WaitHelper.
@@ -46,8 +75,128 @@ public class WaitHelper extends LoggerUtility {
 	 * @param driver the WebDriver instance
 	 */
 	public WaitHelper(WebDriver driver) {
+		this(driver, WaitPolicy.BACKEND_TASK);
+	}
+
+	/**
+	 * Constructor for WaitHelper with a given wait policy.
+	 *
+	 * @param driver the WebDriver instance
+	 * @param policy the policy of the explicit waits
+	 */
+	public WaitHelper(WebDriver driver, WaitPolicy policy) {
 		this.driver = driver;
-		this.wait = new WebDriverWait(this.driver, Duration.ofSeconds(1200)); // Default timeout of 10 seconds
+		this.policy = policy;
+	}
+
+	/**
+	 * Returns a WaitHelper whose explicit waits follow the given policy.
+	 *
+	 * @param policy the wait policy
+	 * @return a WaitHelper on the same driver
+	 */
+	public WaitHelper using(WaitPolicy policy) {
+		return policy == this.policy ? this : new WaitHelper(driver, policy);
+	}
+
+	/**
+	 * Waits until the condition returns a non null, non false value, following the
+	 * policy of this helper.
+	 *
+	 * @param <T>       the type of the condition result
+	 * @param condition the condition to wait for
+	 * @return the result of the condition
+	 */
+	public <T> T until(Function<? super WebDriver, T> condition) {
+		return until(policy, condition);
+	}
+
+	/**
+	 * Waits until the condition returns a non null, non false value, following the
+	 * given policy. The implicit wait is suspended while the condition is polled.
+	 *
+	 * @param <T>       the type of the condition result
+	 * @param policy    the wait policy
+	 * @param condition the condition to wait for
+	 * @return the result of the condition
+	 */
+	public <T> T until(WaitPolicy policy, Function<? super WebDriver, T> condition) {
+		long start = System.nanoTime();
+		WaitStatistics.Outcome outcome = WaitStatistics.Outcome.ERROR;
+		Duration implicitWait = suspendImplicitWait();
+		try {
+			T result = new FluentWait<WebDriver>(driver, Clock.systemDefaultZone(), policy.newSleeper())
+					.withTimeout(policy.getTimeout()).pollingEvery(Duration.ofMillis(policy.getPollMillis(0)))
+					.ignoring(NotFoundException.class).until(condition);
+			outcome = WaitStatistics.Outcome.SUCCESS;
+			return result;
+		} catch (TimeoutException ex) {
+			outcome = WaitStatistics.Outcome.TIMEOUT;
+			throw ex;
+		} finally {
+			resumeImplicitWait(implicitWait);
+			recordWait(condition.getClass().isSynthetic() ? "custom condition" : String.valueOf(condition), outcome,
+					start, policy.getTimeout());
+		}
+	}
+
+	/**
+	 * Records the latency of a wait in {@link WaitStatistics}, attributed to the
+	 * {@code waitFor*} method and to the page-object method on the call stack.
+	 */
+	private void recordWait(String target, WaitStatistics.Outcome outcome, long start, Duration timeout) {
+		long micros = (System.nanoTime() - start) / 1000;
+		String[] callers = StackWalker.getInstance().walk(frames -> {
+			String[] found = { "until", null, null };
+			frames.forEach(frame -> {
+				String className = frame.getClassName();
+				String method = className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+				if (className.equals(WaitHelper.class.getName())) {
+					if (frame.getMethodName().startsWith("waitFor")) {
+						found[0] = frame.getMethodName();
+					}
+				} else if (found[1] == null && className.startsWith(PAGES_PACKAGE)) {
+					found[1] = method;
+				} else if (found[2] == null) {
+					found[2] = method;
+				}
+			});
+			return found;
+		});
+		WaitStatistics.record(callers[0], target, callers[1] != null ? callers[1] : String.valueOf(callers[2]),
+				outcome, micros, timeout);
+	}
+
+	private Duration suspendImplicitWait() {
+		int[] depth = waitDepth.get();
+		if (depth[0]++ > 0) {
+			return Duration.ZERO; // Already suspended by the enclosing wait
+		}
+		Duration implicitWait = implicitWaits.get(driver);
+		if (implicitWait == null) {
+			implicitWait = driver.manage().timeouts().getImplicitWaitTimeout();
+			implicitWaits.put(driver, implicitWait);
+		}
+		if (!implicitWait.isZero()) {
+			driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+		}
+		return implicitWait;
+	}
+
+	private void resumeImplicitWait(Duration implicitWait) {
+		if (--waitDepth.get()[0] == 0 && !implicitWait.isZero()) {
+			driver.manage().timeouts().implicitlyWait(implicitWait);
+		}
+	}
+
+	/**
+	 * Forgets the implicit wait of the given driver, whose session is reset or
+	 * quit.
+	 *
+	 * @param driver the WebDriver instance
+	 */
+	public static void remove(WebDriver driver) {
+		implicitWaits.remove(driver);
 	}
 
 	// Explicit Waits
@@ -56,7 +205,7 @@ public class WaitHelper extends LoggerUtility {
 	 * Method for for waiting until an alert is present.
 	 */
 	public void waitForAlertIsPresent() {
-		wait.until(ExpectedConditions.alertIsPresent());
+		until(ExpectedConditions.alertIsPresent());
 	}
 
 	/**
@@ -68,7 +217,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForElementSelectionStateToBe(WebElement element, boolean isSelected) {
 		try {
 			log.info("Wait for the element : " + element);
-			wait.until(ExpectedConditions.elementSelectionStateToBe(element, isSelected));
+			until(ExpectedConditions.elementSelectionStateToBe(element, isSelected));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + element);
 			ex.printStackTrace();
@@ -84,7 +233,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForElementToBeClickable(WebElement element) {
 		try {
 			log.info("Wait for the element : " + element);
-			wait.until(ExpectedConditions.elementToBeClickable(element));
+			until(ExpectedConditions.elementToBeClickable(element));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + element);
 			ex.printStackTrace();
@@ -100,7 +249,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForElementToBeSelected(WebElement element) {
 		try {
 			log.info("Wait for the element : " + element);
-			wait.until(ExpectedConditions.elementToBeSelected(element));
+			until(ExpectedConditions.elementToBeSelected(element));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + element);
 			ex.printStackTrace();
@@ -116,7 +265,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForFrameToBeAvailableAndSwitchToIt(By frameLocator) {
 		try {
 			log.info("Wait for the element : " + frameLocator);
-			wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(frameLocator));
+			until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(frameLocator));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + frameLocator);
 			ex.printStackTrace();
@@ -132,7 +281,14 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForInvisibilityOf(WebElement element) {
 		try {
 			log.info("Wait for the element : " + element);
-			wait.until(ExpectedConditions.invisibilityOf(element));
+			if (element instanceof LocatedElement) { // Not located again when stale, a stale element is gone
+				LocatedElement located = (LocatedElement) element;
+				WebElement found = located.getFoundElement();
+				until(found != null ? ExpectedConditions.invisibilityOf(found)
+						: ExpectedConditions.invisibilityOfElementLocated(located.getLocator()));
+			} else {
+				until(ExpectedConditions.invisibilityOf(element));
+			}
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + element);
 			ex.printStackTrace();
@@ -148,7 +304,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForInvisibilityOfTheElementLocated(By by) {
 		try {
 			log.info("Wait for the element : " + by);
-			wait.until(ExpectedConditions.invisibilityOfElementLocated(by));
+			until(ExpectedConditions.invisibilityOfElementLocated(by));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + by);
 			ex.printStackTrace();
@@ -165,7 +321,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForInvisibilityOfElementWithText(By by, String text) {
 		try {
 			log.info("Wait for the element : " + by);
-			wait.until(ExpectedConditions.invisibilityOfElementWithText(by, text));
+			until(ExpectedConditions.invisibilityOfElementWithText(by, text));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + by);
 			ex.printStackTrace();
@@ -181,7 +337,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForPresenceOfAllElementsLocatedBy(By by) {
 		try {
 			log.info("Wait for the element : " + by);
-			wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(by));
+			until(ExpectedConditions.presenceOfAllElementsLocatedBy(by));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + by);
 			ex.printStackTrace();
@@ -197,7 +353,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForPresenceOfElementLocated(By by) {
 		try {
 			log.info("Wait for the element : " + by);
-			wait.until(ExpectedConditions.presenceOfElementLocated(by));
+			until(ExpectedConditions.presenceOfElementLocated(by));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + by);
 			ex.printStackTrace();
@@ -214,7 +370,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForTextToBePresentInElement(WebElement element, String text) {
 		try {
 			log.info("Wait for the element : " + element);
-			wait.until(ExpectedConditions.textToBePresentInElement(element, text));
+			until(ExpectedConditions.textToBePresentInElement(element, text));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + element);
 			ex.printStackTrace();
@@ -234,7 +390,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForTextToBePresentInElementLocated(By by, String text) {
 		try {
 			log.info("Wait for the element : " + by);
-			wait.until(ExpectedConditions.textToBePresentInElementLocated(by, text));
+			until(ExpectedConditions.textToBePresentInElementLocated(by, text));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + by);
 			ex.printStackTrace();
@@ -253,7 +409,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForTextToBePresentInElementValue(WebElement element, String text) {
 		try {
 			log.info("Wait for the element : " + element);
-			wait.until(ExpectedConditions.textToBePresentInElementValue(element, text));
+			until(ExpectedConditions.textToBePresentInElementValue(element, text));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + element);
 			ex.printStackTrace();
@@ -270,7 +426,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForTitleIs(String title) {
 		try {
 			log.info("Wait for the title : " + title);
-			wait.until(ExpectedConditions.titleIs(title));
+			until(ExpectedConditions.titleIs(title));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for title : " + title);
 			ex.printStackTrace();
@@ -287,7 +443,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForTitleContains(String title) {
 		try {
 			log.info("Wait for the title : " + title);
-			wait.until(ExpectedConditions.titleContains(title));
+			until(ExpectedConditions.titleContains(title));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for title : " + title);
 			ex.printStackTrace();
@@ -304,7 +460,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForVisibilityOf(WebElement element) {
 		try {
 			log.info("Wait for the element : " + element);
-			wait.until(ExpectedConditions.visibilityOf(element));
+			until(ExpectedConditions.visibilityOf(element));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + element);
 			ex.printStackTrace();
@@ -321,7 +477,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForVisibilityOfAllElements(List<WebElement> elements) {
 		try {
 			log.info("Wait for the element : " + elements);
-			wait.until(ExpectedConditions.visibilityOfAllElements(elements));
+			until(ExpectedConditions.visibilityOfAllElements(elements));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + elements);
 			ex.printStackTrace();
@@ -339,7 +495,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForVisibilityOfAllElementsLocatedBy(By by) {
 		try {
 			log.info("Wait for the element : " + by);
-			wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(by));
+			until(ExpectedConditions.visibilityOfAllElementsLocatedBy(by));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + by);
 			ex.printStackTrace();
@@ -358,7 +514,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForVisibilityOfElementLocated(By by) {
 		try {
 			log.info("Wait for the element : " + by);
-			wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+			until(ExpectedConditions.visibilityOfElementLocated(by));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for element : " + by);
 			ex.printStackTrace();
@@ -375,7 +531,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForUrlContains(String partialUrl) {
 		try {
 			log.info("Wait for the url : " + partialUrl);
-			wait.until(ExpectedConditions.urlContains(partialUrl));
+			until(ExpectedConditions.urlContains(partialUrl));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for url : " + partialUrl);
 			ex.printStackTrace();
@@ -392,7 +548,7 @@ public class WaitHelper extends LoggerUtility {
 	public void waitForNumberOfWindowsToBe(int numberOfWindows) {
 		try {
 			log.info("Wait for the number of windows to be : " + numberOfWindows);
-			wait.until(ExpectedConditions.numberOfWindowsToBe(numberOfWindows));
+			until(ExpectedConditions.numberOfWindowsToBe(numberOfWindows));
 		} catch (Exception ex) {
 			log.info("Some error occurred while waiting for the number of windows : " + numberOfWindows);
 			ex.printStackTrace();
@@ -400,6 +556,109 @@ public class WaitHelper extends LoggerUtility {
 		}
 	}
 
+	/**
+	 * Waits for the text of the element to differ from the given one, e.g. the
+	 * title of a calendar after moving to the next year.
+	 *
+	 * @param element      the WebElement instance
+	 * @param previousText the text before the action
+	 */
+	public void waitForTextToChange(WebElement element, String previousText) {
+		try {
+			log.info("Wait for the text to change from : " + previousText);
+			until(webDriver -> {
+				try {
+					return !element.getText().equals(previousText);
+				} catch (StaleElementReferenceException ex) {
+					return false;
+				}
+			});
+		} catch (Exception ex) {
+			log.info("Some error occured while wait for the text to change : " + element);
+			ex.printStackTrace();
+			log.error(ex);
+		}
+	}
+
+	/**
+	 * Waits for the texts of the elements to stay the same over two successive
+	 * polls, i.e. for a table or a list to finish re-rendering.
+	 *
+	 * @param elements the elements, typically the cells of a table
+	 * @return the settled texts of the elements
+	 */
+	public List<String> waitForStableText(List<WebElement> elements) {
+		List<String> settled = null;
+		try {
+			log.info("Wait for the texts of the elements to settle");
+			Object[] previous = new Object[1];
+			settled = until(webDriver -> {
+				List<String> current;
+				try {
+					current = elements.stream().map(WebElement::getText).collect(Collectors.toList());
+				} catch (StaleElementReferenceException ex) {
+					previous[0] = null;
+					return null;
+				}
+				boolean stable = current.equals(previous[0]);
+				previous[0] = current;
+				return stable ? current : null;
+			});
+		} catch (Exception ex) {
+			log.info("Some error occured while wait for the texts of the elements to settle");
+			ex.printStackTrace();
+			log.error(ex);
+		}
+		return settled;
+	}
+
+	// Network Waits
+	/**
+	 * Starts counting the requests of the current window. Call it before the
+	 * action whose traffic is awaited with
+	 * {@link #waitForNetworkIdle(Duration, int)}.
+	 */
+	public void watchNetwork() {
+		try {
+			NetworkMonitor.forDriver(driver).attach();
+		} catch (Exception ex) {
+			log.info("Some error occured while attaching the network monitor");
+			ex.printStackTrace();
+			log.error(ex);
+		}
+	}
+
+	/**
+	 * Waits until the XHR traffic of the current window has settled: no more than
+	 * {@code maxInflight} requests open and none started or finished for
+	 * {@code quietPeriod}. Driven by DevTools network events on Chromium browsers.
+	 *
+	 * @param quietPeriod the time the network must stay quiet
+	 * @param maxInflight the number of open requests tolerated, such as long polls
+	 */
+	public void waitForNetworkIdle(Duration quietPeriod, int maxInflight) {
+		long start = System.nanoTime();
+		WaitStatistics.Outcome outcome = WaitStatistics.Outcome.ERROR;
+		try {
+			log.info("Wait for the network to be idle for : " + quietPeriod.toMillis() + " ms");
+			NetworkMonitor.forDriver(driver).waitForIdle(quietPeriod, maxInflight, policy.getTimeout());
+			outcome = WaitStatistics.Outcome.SUCCESS;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			log.error(ex);
+		} catch (java.util.concurrent.TimeoutException | TimeoutException ex) {
+			outcome = WaitStatistics.Outcome.TIMEOUT;
+			log.info("Some error occured while wait for the network to be idle");
+			log.error(ex);
+		} catch (Exception ex) {
+			log.info("Some error occured while wait for the network to be idle");
+			ex.printStackTrace();
+			log.error(ex);
+		} finally {
+			recordWait("network idle " + quietPeriod.toMillis() + " ms", outcome, start, policy.getTimeout());
+		}
+	}
+
 	// Implicit Wait
 	/**
 	 * Sets an implicit wait for the specified number of seconds.
@@ -411,6 +670,7 @@ public class WaitHelper extends LoggerUtility {
 		try {
 			log.info("Wait for the : " + seconds + " seconds");
 			driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(seconds));
+			implicitWaits.put(driver, Duration.ofSeconds(seconds));
 		} catch (Exception ex) {
 			log.info("Some error occured while wait for the : " + seconds + " seconds");
 			ex.printStackTrace();
@@ -420,15 +680,18 @@ public class WaitHelper extends LoggerUtility {
 
 	// Thread Sleep
 	/**
-	 * Stops the program execution for the specified number of seconds.
+	 * Stops the program execution for the specified number of seconds. The sleep
+	 * is recorded by {@link SleepGuard} and shows in the report of the test;
+	 * prefer waiting on a condition.
 	 *
 	 * @param seconds the number of seconds to wait
 	 * @throws InterruptedException if the thread is interrupted while waiting
 	 */
 	public void holdScript(int seconds) {
 		try {
-			Thread.sleep(1000 * seconds);
+			SleepGuard.sleep(1000L * seconds);
 		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			e.printStackTrace();
 		}
 	}
@@ -0,0 +1,104 @@
+/**
+ * WaitPolicy enum defines the timeout and polling schedule of the explicit waits.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.helpers;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openqa.selenium.support.ui.Sleeper;
+
+import com.kpit.automation.utilities.FileReaderUtility;
+
+/**
+ * Named wait policies. Each policy has a timeout and a polling schedule that
+ * starts with a short interval and grows exponentially up to a maximum, with a
+ * random jitter so that parallel sessions do not poll in lockstep. UI changes
+ * that finish quickly are detected after a few milliseconds, while long backend
+ * waits settle on a few WebDriver round-trips per minute.
+ *
+ * <p>
+ * The timeout of a policy can be overridden in the configuration file, e.g.
+ * {@code wait.backend.task.timeout.seconds = 1800}.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum WaitPolicy {
+
+	/**
+	 * Menus, pop-ups and buttons reacting to a click.
+	 */
+	FAST_UI("fast.ui", 20, 50, 500, 1.5, 0.1),
+
+	/**
+	 * Tasks processed by the backend, such as a trace file execution.
+	 */
+	BACKEND_TASK("backend.task", 1200, 500, 10000, 2.0, 0.2),
+
+	/**
+	 * Charts and grids rendering their data.
+	 */
+	CHART_RENDER("chart.render", 120, 200, 2000, 1.5, 0.2);
+
+	private static final FileReaderUtility config = new FileReaderUtility();
+
+	private final String key;
+	private final long defaultTimeoutSeconds;
+	private final long initialPollMillis;
+	private final long maxPollMillis;
+	private final double multiplier;
+	private final double jitter;
+
+	WaitPolicy(String key, long defaultTimeoutSeconds, long initialPollMillis, long maxPollMillis, double multiplier,
+			double jitter) {
+		this.key = key;
+		this.defaultTimeoutSeconds = defaultTimeoutSeconds;
+		this.initialPollMillis = initialPollMillis;
+		this.maxPollMillis = maxPollMillis;
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+	}
+
+	/**
+	 * Returns the timeout of the policy. The setting is read on every call, so a
+	 * system property or configuration loaded later in the run applies.
+	 *
+	 * @return the configured timeout, or the default of the policy
+	 */
+	public Duration getTimeout() {
+		return Duration.ofSeconds(Long.parseLong(config
+				.getConfigData("wait." + key + ".timeout.seconds", String.valueOf(defaultTimeoutSeconds)).trim()));
+	}
+
+	/**
+	 * Returns the interval before the given poll, without jitter.
+	 *
+	 * @param attempt the number of polls already done
+	 * @return the polling interval in milliseconds
+	 */
+	public long getPollMillis(int attempt) {
+		return (long) Math.min(maxPollMillis, initialPollMillis * Math.pow(multiplier, attempt));
+	}
+
+	/**
+	 * Returns a new sleeper following the polling schedule of the policy. The
+	 * sleeper keeps count of its calls, so one must be created per wait.
+	 *
+	 * @return a backoff sleeper for a single wait
+	 */
+	public Sleeper newSleeper() {
+		int[] attempt = { 0 };
+		return ignoredInterval -> {
+			long interval = getPollMillis(attempt[0]++);
+			double factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+			Thread.sleep(Math.max(1, (long) (interval * factor)));
+		};
+	}
+}
@@ -0,0 +1,161 @@
+/**
+ * This class collects the latency of the explicit waits per condition, page-object method and test.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import com.kpit.automation.utilities.LatencyHistogram;
+
+/**
+ * Latency statistics of the {@link WaitHelper} waits. Every wait records how
+ * long it took into histograms keyed by condition type (the {@code waitFor*}
+ * method) and by the page-object method that issued it, for the suite and for
+ * the test running on the thread. Timeouts, errors and waits that took more
+ * than 80% of their timeout are counted per condition, to show which waits
+ * dominate the run and which are close to timing out.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class WaitStatistics {
+
+	/**
+	 * Outcome of a wait.
+	 */
+	public enum Outcome {
+		SUCCESS, TIMEOUT, ERROR
+	}
+
+	private static final Logger log = Logger.getLogger(WaitStatistics.class);
+
+	private static final double NEAR_TIMEOUT = 0.8;
+
+	private static final Map<String, LatencyHistogram> byCondition = new ConcurrentHashMap<String, LatencyHistogram>();
+	private static final Map<String, LatencyHistogram> byPageMethod = new ConcurrentHashMap<String, LatencyHistogram>();
+	private static final Map<String, AtomicLong> counters = new ConcurrentHashMap<String, AtomicLong>();
+	private static final ThreadLocal<Map<String, LatencyHistogram>> testHistograms = ThreadLocal
+			.withInitial(TreeMap::new);
+
+	private WaitStatistics() {
+	}
+
+	/**
+	 * Records a wait.
+	 *
+	 * @param condition  the condition type, e.g. waitForVisibilityOf
+	 * @param target     the locator or element waited on
+	 * @param pageMethod the page-object method that waited
+	 * @param outcome    the outcome of the wait
+	 * @param micros     the time waited in microseconds
+	 * @param timeout    the timeout of the wait
+	 */
+	public static void record(String condition, String target, String pageMethod, Outcome outcome, long micros,
+			Duration timeout) {
+		byCondition.computeIfAbsent(condition, key -> new LatencyHistogram()).record(micros);
+		byPageMethod.computeIfAbsent(pageMethod, key -> new LatencyHistogram()).record(micros);
+		testHistograms.get().computeIfAbsent(condition, key -> new LatencyHistogram()).record(micros);
+		if (outcome != Outcome.SUCCESS) {
+			count(condition, outcome.name().toLowerCase());
+			log.warn(condition + " " + outcome + " after " + micros / 1000 + " ms on " + target + " in " + pageMethod);
+		} else if (micros > timeout.toNanos() / 1000 * NEAR_TIMEOUT) {
+			count(condition, "nearTimeout");
+		}
+	}
+
+	/**
+	 * Clears the histograms of the test running on the current thread.
+	 */
+	public static void startTest() {
+		testHistograms.get().clear();
+	}
+
+	/**
+	 * Returns the histograms of the test running on the current thread, by
+	 * condition type, and clears them.
+	 *
+	 * @return the histograms of the test
+	 */
+	public static Map<String, LatencyHistogram> finishTest() {
+		Map<String, LatencyHistogram> histograms = new TreeMap<String, LatencyHistogram>(testHistograms.get());
+		testHistograms.get().clear();
+		return histograms;
+	}
+
+	/**
+	 * Returns the suite histograms by condition type.
+	 *
+	 * @return the histograms, sorted by condition
+	 */
+	public static Map<String, LatencyHistogram> getByCondition() {
+		return new TreeMap<String, LatencyHistogram>(byCondition);
+	}
+
+	/**
+	 * Returns the suite histograms by page-object method.
+	 *
+	 * @return the histograms, sorted by method
+	 */
+	public static Map<String, LatencyHistogram> getByPageMethod() {
+		return new TreeMap<String, LatencyHistogram>(byPageMethod);
+	}
+
+	/**
+	 * Returns a counter of a condition, e.g. its number of timeouts.
+	 *
+	 * @param condition the condition type
+	 * @param name      timeout, error or nearTimeout
+	 * @return the value of the counter
+	 */
+	public static long getCount(String condition, String name) {
+		AtomicLong counter = counters.get(condition + "|" + name);
+		return counter == null ? 0 : counter.get();
+	}
+
+	/**
+	 * Writes the statistics as JSON.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(File file) throws IOException {
+		Map<String, Object> conditions = new TreeMap<String, Object>();
+		for (Map.Entry<String, LatencyHistogram> entry : byCondition.entrySet()) {
+			Map<String, Object> summary = new LinkedHashMap<String, Object>(entry.getValue().toSummary());
+			summary.put("timeouts", getCount(entry.getKey(), "timeout"));
+			summary.put("errors", getCount(entry.getKey(), "error"));
+			summary.put("nearTimeout", getCount(entry.getKey(), "nearTimeout"));
+			conditions.put(entry.getKey(), summary);
+		}
+		Map<String, Object> pageMethods = new TreeMap<String, Object>();
+		for (Map.Entry<String, LatencyHistogram> entry : byPageMethod.entrySet()) {
+			pageMethods.put(entry.getKey(), entry.getValue().toSummary());
+		}
+		Map<String, Object> document = new LinkedHashMap<String, Object>();
+		document.put("conditions", conditions);
+		document.put("pageMethods", pageMethods);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), new Json().toJson(document).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void count(String condition, String name) {
+		counters.computeIfAbsent(condition + "|" + name, key -> new AtomicLong()).incrementAndGet();
+	}
+}
@@ -9,13 +9,14 @@ package com.kpit.automation.helpers;
 
 import org.apache.log4j.Logger;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import com.kpit.automation.utilities.LoggerUtility;
 
-import java.util.Comparator;
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Class for handling web table operations.
@@ -33,6 +34,37 @@ public class WebTableUtility extends LoggerUtility {
 	 */
 	private Logger log = getLogger(WebTableUtility.class);
 
+	/**
+	 * Time without network traffic after which a table is considered refreshed.
+	 */
+	private static final Duration REFRESH_QUIET = Duration.ofMillis(300);
+
+	private WaitHelper waitHelper;
+	private GridHelper gridHelper = new GridHelper();
+
+	/**
+	 * Constructor for WebTableUtility.
+	 *
+	 * @param driver the WebDriver instance
+	 */
+	public WebTableUtility(WebDriver driver) {
+		this.waitHelper = new WaitHelper(driver, WaitPolicy.FAST_UI);
+	}
+
+	/**
+	 * Waits for the table to be refreshed after an action started with
+	 * {@link WaitHelper#watchNetwork()}: its data requests completed and its rows
+	 * re-rendered.
+	 *
+	 * @param elementsList the rows of the table, or null if not known
+	 */
+	private void waitForTableRefresh(List<WebElement> elementsList) {
+		waitHelper.waitForNetworkIdle(REFRESH_QUIET, 0);
+		if (elementsList != null) {
+			waitHelper.waitForStableText(elementsList);
+		}
+	}
+
 	/**
      * Method to apply filter to a web table.
      *
@@ -45,8 +77,9 @@ public class WebTableUtility extends LoggerUtility {
 	public boolean applyFilter(WebElement filterInput, String filterValue, List<WebElement> elementsList) {
 		try {
 			clearFilter(filterInput);
+			waitHelper.watchNetwork();
 			filterInput.sendKeys(filterValue);
-			Thread.sleep(2000);
+			waitForTableRefresh(elementsList);
 			return verifyTableFilter(elementsList, filterValue);
 		} catch (Exception ex) {
 			log.error("Error occurred while applying filter: " + ex.getMessage());
@@ -58,15 +91,14 @@ public class WebTableUtility extends LoggerUtility {
      * Method to clear the filter input field.
      *
      * @param filterInput The WebElement representing the filter input field.
-     *
-     * @throws InterruptedException If the thread is interrupted while waiting.
      */
 	public void clearFilter(WebElement filterInput) {
 		try {
+			waitHelper.watchNetwork();
 			filterInput.clear();
 			filterInput.sendKeys(Keys.TAB);
-			Thread.sleep(2000);
-		} catch (InterruptedException ex) {
+			waitForTableRefresh(null);
+		} catch (Exception ex) {
 			log.error("Error occurred while clearing filter: " + ex.getMessage());
 		}
 	}
@@ -77,29 +109,31 @@ public class WebTableUtility extends LoggerUtility {
      * @param tableHeader The WebElement representing the table header.
      * @param elementsList The List of WebElements representing the table rows.
      * @return True if the sorting is applied successfully, false otherwise.
-     *
-     * @throws InterruptedException If the thread is interrupted while waiting.
      */
 	public boolean applySorting(WebElement tableHeader, List<WebElement> elementsList) {
 		try {
 			boolean isAscending = false;
+			waitHelper.watchNetwork();
 			tableHeader.click();
-			Thread.sleep(2000);
+			waitForTableRefresh(elementsList);
 			logReport("Ascending sort applied");
-			logListOfReport(elementsList.stream().map(WebElement::getText).collect(Collectors.toList()));
+			ColumnStore.Column ascending = ColumnStore.column("sorted", gridHelper.getTexts(elementsList));
+			logListOfReport(ascending.toList());
 			logScreenshot();
-			boolean ascendingSort = verifyTableSortAsc(elementsList);
+			boolean ascendingSort = ascending.isSorted(true);
+			ColumnStore.Column descending = ascending;
 			if (!isAscending) {
 				tableHeader.click(); // Click again to sort in descending order
-				Thread.sleep(2000);
+				waitForTableRefresh(elementsList);
 				logReport("Descending sort applied");
-				logListOfReport(elementsList.stream().map(WebElement::getText).collect(Collectors.toList()));
+				descending = ColumnStore.column("sorted", gridHelper.getTexts(elementsList));
+				logListOfReport(descending.toList());
 				logScreenshot();
 			}
-			boolean descendingSort = verifyTableSortDesc(elementsList);
+			boolean descendingSort = descending.isSorted(false);
 			tableHeader.click();
 			return ascendingSort != descendingSort; // != used due to wrong web table rows count returned.!
-		} catch (InterruptedException ex) {
+		} catch (Exception ex) {
 			log.error("Error occurred while applying sorting: " + ex.getMessage());
 			return false;
 		}
@@ -110,8 +144,6 @@ public class WebTableUtility extends LoggerUtility {
      *
      * @param dropdown The WebElement representing the dropdown.
      * @param options The List of WebElements representing the dropdown options.
-     *
-     * @throws InterruptedException If the thread is interrupted while waiting.
      */
 	public void selectNumberOfRowsToShow(WebElement dropdown, List<WebElement> options) {
 		try {
@@ -119,19 +151,19 @@ public class WebTableUtility extends LoggerUtility {
 			for (int rows : noOfRows) {
 				// Click the dropdown to expand the list of options
 				dropdown.click();
-				Thread.sleep(2000);
+				waitHelper.until(ExpectedConditions.visibilityOfAllElements(options));
 				for (WebElement option : options) {
 					if (option.getText().equals(String.valueOf(rows).trim())) {
+						waitHelper.watchNetwork();
 						option.click();
 						dropdown.sendKeys(Keys.TAB);
-						Thread.sleep(2000);
-						// Add logic to wait for the table to refresh after selecting the option
+						waitForTableRefresh(null);
 						break;
 					}
 					
 				}
 			}
-		} catch (InterruptedException ex) {
+		} catch (Exception ex) {
 			log.error("Error occurred while selecting number of rows: " + ex.getMessage());
 		}
 	}
@@ -141,18 +173,15 @@ public class WebTableUtility extends LoggerUtility {
      *
      * @param goToPageInput The WebElement representing the "Go to page" input field.
      * @param pageNumber The page number to navigate to.
-     *
-     * @throws InterruptedException If the thread is interrupted while waiting.
      */
 	public void goToPage(WebElement goToPageInput, int pageNumber) {
 		try {
 			goToPageInput.clear();
-			Thread.sleep(3000);
+			waitHelper.watchNetwork();
 			goToPageInput.sendKeys(String.valueOf(pageNumber));
 			goToPageInput.sendKeys(Keys.TAB); // Assuming hitting enter navigates to the page
-			Thread.sleep(2000);
-			// Add logic to wait for the table to refresh
-		} catch (InterruptedException ex) {
+			waitForTableRefresh(null);
+		} catch (Exception ex) {
 			log.error("Error occurred while navigating to page: " + ex.getMessage());
 		}
 	}
@@ -161,17 +190,15 @@ public class WebTableUtility extends LoggerUtility {
      * Method to navigate to the next page.
      *
      * @param nextButton The WebElement representing the "Next" button.
-     *
-     * @throws InterruptedException If the thread is interrupted while waiting.
      */
 	public void goToNextPage(WebElement nextButton) {
 		try {
 			if (nextButton.isEnabled()) {
+				waitHelper.watchNetwork();
 				nextButton.click();
-				Thread.sleep(2000);
-				// Add logic to wait for the table to refresh
+				waitForTableRefresh(null);
 			}
-		} catch (InterruptedException ex) {
+		} catch (Exception ex) {
 			log.error("Error occurred while navigating to next page: " + ex.getMessage());
 		}
 	}
@@ -180,17 +207,15 @@ public class WebTableUtility extends LoggerUtility {
      * Method to navigate to the previous page.
      *
      * @param previousButton The WebElement representing the "Previous" button.
-     *
-     * @throws InterruptedException If the thread is interrupted while waiting.
      */
 	public void goToPreviousPage(WebElement previousButton) {
 		try {
 			if (previousButton.isEnabled()) {
+				waitHelper.watchNetwork();
 				previousButton.click();
-				Thread.sleep(2000);
-				// Add logic to wait for the table to refresh
+				waitForTableRefresh(null);
 			}
-		} catch (InterruptedException ex) {
+		} catch (Exception ex) {
 			log.error("Error occurred while navigating to previous page: " + ex.getMessage());
 		}
 	}
@@ -204,15 +229,8 @@ public class WebTableUtility extends LoggerUtility {
      */
 	public boolean verifyTableFilter(List<WebElement> elementsList, String filterValue) {
 		try {
-			// capture text of all elementsList into new (original) list
-			List<String> originalList = elementsList.stream().map(WebElement::getText).collect(Collectors.toList());
-
-			// filter on the original list
-			List<String> filteredList = originalList.stream()
-					.filter(s -> s.toLowerCase().contains(filterValue.toLowerCase())).collect(Collectors.toList());
-
-			// compare original list vs filtered list size
-			return originalList.equals(filteredList);
+			// capture text of all elementsList in one call and check every cell contains the filter
+			return ColumnStore.column("filtered", gridHelper.getTexts(elementsList)).allContain(filterValue);
 		} catch (Exception ex) {
 			log.error("Error occurred while verifying table filter: " + ex.getMessage());
 			return false;
@@ -227,12 +245,8 @@ public class WebTableUtility extends LoggerUtility {
      */
 	public boolean verifyTableSortAsc(List<WebElement> elementsList) {
 		try {
-			// capture text of all elementsList into new (original) list
-			List<String> originalList = elementsList.stream().map(s -> s.getText()).collect(Collectors.toList());
-
-			// sort on the original list
-			List<String> sortedList = originalList.stream().sorted().collect(Collectors.toList());
-			return originalList.equals(sortedList);
+			// capture text of all elementsList in one call and check the order in a single pass
+			return ColumnStore.column("sorted", gridHelper.getTexts(elementsList)).isSorted(true);
 		} catch (Exception ex) {
 			log.error("Error occurred while verifying ascending sort: " + ex.getMessage());
 			return false;
@@ -247,16 +261,47 @@ public class WebTableUtility extends LoggerUtility {
 	 */
 	public boolean verifyTableSortDesc(List<WebElement> elementsList) {
 		try {
-			// capture text of all elementsList into new (original) list
-			List<String> originalList = elementsList.stream().map(s -> s.getText()).collect(Collectors.toList());
-
-			// sort on the original list
-			List<String> sortedList = originalList.stream().sorted(Comparator.reverseOrder())
-					.collect(Collectors.toList());
-			return originalList.equals(sortedList);
+			// capture text of all elementsList in one call and check the order in a single pass
+			return ColumnStore.column("sorted", gridHelper.getTexts(elementsList)).isSorted(false);
 		} catch (Exception ex) {
 			log.error("Error occurred while verifying descending sort: " + ex.getMessage());
 			return false;
 		}
 	}
+
+	/**
+	 * Method to verify if a column of an extracted table only holds rows matching
+	 * the filter.
+	 *
+	 * @param table       The column store of the table, e.g. built from a grid snapshot.
+	 * @param column      The header of the filtered column.
+	 * @param filterValue The value the table is filtered with.
+	 * @return True if every cell of the column contains the filter value, false otherwise.
+	 */
+	public boolean verifyTableFilter(ColumnStore table, String column, String filterValue) {
+		try {
+			return table.get(column).allContain(filterValue);
+		} catch (Exception ex) {
+			log.error("Error occurred while verifying table filter: " + ex.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Method to verify if a column of an extracted table is sorted, numerically
+	 * for numeric columns.
+	 *
+	 * @param table     The column store of the table, e.g. built from a grid snapshot.
+	 * @param column    The header of the sorted column.
+	 * @param ascending True for ascending order, false for descending order.
+	 * @return True if the column is sorted in the given order, false otherwise.
+	 */
+	public boolean verifyTableSort(ColumnStore table, String column, boolean ascending) {
+		try {
+			return table.get(column).isSorted(ascending);
+		} catch (Exception ex) {
+			log.error("Error occurred while verifying sort: " + ex.getMessage());
+			return false;
+		}
+	}
 }
\ No newline at end of file
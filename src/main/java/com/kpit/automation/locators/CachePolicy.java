@@ -0,0 +1,37 @@
+/**
+ * CachePolicy enum defines how a generated locator caches the element it finds.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.locators;
+
+/**
+ * Caching policies of the generated locators.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum CachePolicy {
+
+	/**
+	 * The element is looked up on every use, as PageFactory does. The default of
+	 * the generated locators.
+	 */
+	NONE,
+
+	/**
+	 * The element or list is kept in the
+	 * {@link com.kpit.automation.helpers.ElementCache} of the driver until the DOM
+	 * changes, which costs a script call on every read instead of a lookup.
+	 */
+	EPOCH,
+
+	/**
+	 * The element is looked up once and looked up again only when it goes stale,
+	 * for controls that are never re-rendered.
+	 */
+	PINNED
+}
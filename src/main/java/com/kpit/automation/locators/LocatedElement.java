@@ -0,0 +1,250 @@
+/**
+ * LocatedElement class is a WebElement that resolves its locator when it is used.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.locators;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+/**
+ * WebElement bound to a locator. A pinned element keeps the element it found
+ * and looks it up again only when it goes stale; an unpinned one looks it up on
+ * every use, through whatever lookup it was given (a plain find, the element
+ * cache, a wait). In both cases a command failing on a stale element is retried
+ * once on a fresh lookup.
+ *
+ * <p>
+ * Script arguments and actions unwrap it through {@link WrapsElement}.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LocatedElement implements WebElement, WrapsElement, Locatable {
+
+	private final By by;
+	private final Supplier<WebElement> lookup;
+	private final boolean pinned;
+	private WebElement element;
+
+	/**
+	 * Constructor for an element looked up on every use.
+	 *
+	 * @param by     the locator, for messages
+	 * @param lookup finds the element
+	 */
+	public LocatedElement(By by, Supplier<WebElement> lookup) {
+		this(by, lookup, false, null);
+	}
+
+	/**
+	 * Constructor for a pinned element.
+	 *
+	 * @param by      the locator, for messages
+	 * @param lookup  finds the element
+	 * @param element the element already found, or null to find it on first use
+	 */
+	public LocatedElement(By by, Supplier<WebElement> lookup, WebElement element) {
+		this(by, lookup, true, element);
+	}
+
+	private LocatedElement(By by, Supplier<WebElement> lookup, boolean pinned, WebElement element) {
+		this.by = by;
+		this.lookup = lookup;
+		this.pinned = pinned;
+		this.element = element;
+	}
+
+	public By getLocator() {
+		return by;
+	}
+
+	/**
+	 * Returns the element this pinned element holds, without looking it up. A
+	 * wait for the element to go away checks it as is, a stale one being gone.
+	 *
+	 * @return the element found last, or null if it is looked up on every use or
+	 *         was not found yet
+	 */
+	public WebElement getFoundElement() {
+		return element;
+	}
+
+	@Override
+	public WebElement getWrappedElement() {
+		if (!pinned) {
+			return lookup.get();
+		}
+		if (element == null) {
+			element = lookup.get();
+		}
+		return element;
+	}
+
+	private <T> T call(Function<WebElement, T> command) {
+		try {
+			return command.apply(getWrappedElement());
+		} catch (StaleElementReferenceException ex) {
+			element = null;
+			return command.apply(getWrappedElement());
+		}
+	}
+
+	private void run(Consumer<WebElement> command) {
+		call(current -> {
+			command.accept(current);
+			return null;
+		});
+	}
+
+	@Override
+	public void click() {
+		run(WebElement::click);
+	}
+
+	@Override
+	public void submit() {
+		run(WebElement::submit);
+	}
+
+	@Override
+	public void sendKeys(CharSequence... keysToSend) {
+		run(current -> current.sendKeys(keysToSend));
+	}
+
+	@Override
+	public void clear() {
+		run(WebElement::clear);
+	}
+
+	@Override
+	public String getTagName() {
+		return call(WebElement::getTagName);
+	}
+
+	@Override
+	public String getDomProperty(String name) {
+		return call(current -> current.getDomProperty(name));
+	}
+
+	@Override
+	public String getDomAttribute(String name) {
+		return call(current -> current.getDomAttribute(name));
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public String getAttribute(String name) {
+		return call(current -> current.getAttribute(name));
+	}
+
+	@Override
+	public String getAriaRole() {
+		return call(WebElement::getAriaRole);
+	}
+
+	@Override
+	public String getAccessibleName() {
+		return call(WebElement::getAccessibleName);
+	}
+
+	@Override
+	public boolean isSelected() {
+		return call(WebElement::isSelected);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return call(WebElement::isEnabled);
+	}
+
+	@Override
+	public String getText() {
+		return call(WebElement::getText);
+	}
+
+	@Override
+	public List<WebElement> findElements(By locator) {
+		return call(current -> current.findElements(locator));
+	}
+
+	@Override
+	public WebElement findElement(By locator) {
+		return call(current -> current.findElement(locator));
+	}
+
+	@Override
+	public SearchContext getShadowRoot() {
+		return call(WebElement::getShadowRoot);
+	}
+
+	@Override
+	public boolean isDisplayed() {
+		return call(WebElement::isDisplayed);
+	}
+
+	@Override
+	public Point getLocation() {
+		return call(WebElement::getLocation);
+	}
+
+	@Override
+	public Dimension getSize() {
+		return call(WebElement::getSize);
+	}
+
+	@Override
+	public Rectangle getRect() {
+		return call(WebElement::getRect);
+	}
+
+	@Override
+	public String getCssValue(String propertyName) {
+		return call(current -> current.getCssValue(propertyName));
+	}
+
+	@Override
+	public <X> X getScreenshotAs(OutputType<X> target) {
+		return call(current -> current.getScreenshotAs(target));
+	}
+
+	@Override
+	public Coordinates getCoordinates() {
+		return call(current -> ((Locatable) current).getCoordinates());
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		Object unwrapped = other instanceof WrapsElement ? ((WrapsElement) other).getWrappedElement() : other;
+		return getWrappedElement().equals(unwrapped);
+	}
+
+	@Override
+	public int hashCode() {
+		return getWrappedElement().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "Located element '" + by + "'";
+	}
+}
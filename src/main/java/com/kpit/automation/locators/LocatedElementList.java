@@ -0,0 +1,80 @@
+/**
+ * LocatedElementList class is a list of WebElements that resolves its locator when it is used.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.locators;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+/**
+ * List of the elements matching a locator, looked up whenever the list is read.
+ * Iterating looks the elements up once, not once per element.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LocatedElementList extends AbstractList<WebElement> {
+
+	private final By by;
+	private final Supplier<List<WebElement>> lookup;
+
+	/**
+	 * Constructor for LocatedElementList.
+	 *
+	 * @param by     the locator, for messages
+	 * @param lookup finds the elements
+	 */
+	public LocatedElementList(By by, Supplier<List<WebElement>> lookup) {
+		this.by = by;
+		this.lookup = lookup;
+	}
+
+	public By getLocator() {
+		return by;
+	}
+
+	@Override
+	public WebElement get(int index) {
+		return lookup.get().get(index);
+	}
+
+	@Override
+	public int size() {
+		return lookup.get().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return lookup.get().isEmpty();
+	}
+
+	@Override
+	public Iterator<WebElement> iterator() {
+		return lookup.get().iterator();
+	}
+
+	@Override
+	public Object[] toArray() {
+		return lookup.get().toArray();
+	}
+
+	@Override
+	public <T> T[] toArray(T[] array) {
+		return lookup.get().toArray(array);
+	}
+
+	@Override
+	public String toString() {
+		return "Located elements '" + by + "'";
+	}
+}
@@ -0,0 +1,48 @@
+/**
+ * LocatorOptions annotation sets the caching and wait policies of a generated locator.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.locators;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.kpit.automation.helpers.WaitPolicy;
+
+/**
+ * Options of a {@code @FindBy} field of a {@link PageLocators} page.
+ *
+ * <pre>
+ * &#64;FindBy(xpath = "//button[text()='Execute']")
+ * &#64;LocatorOptions(cache = CachePolicy.PINNED, waitFor = WaitPolicy.FAST_UI)
+ * WebElement btnExecute;
+ * </pre>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface LocatorOptions {
+
+	/**
+	 * How the located element is cached, {@link CachePolicy#NONE} by default.
+	 * {@link CachePolicy#PINNED} suits controls that are rendered once,
+	 * {@link CachePolicy#EPOCH} controls shared by several page objects.
+	 */
+	CachePolicy cache() default CachePolicy.NONE;
+
+	/**
+	 * The wait policy to wait for the element with when it is looked up, none by
+	 * default. At most one policy.
+	 */
+	WaitPolicy[] waitFor() default {};
+}
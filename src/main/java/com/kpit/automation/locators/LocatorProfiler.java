@@ -0,0 +1,407 @@
+/**
+ * LocatorProfiler class times the locator lookups of the page objects and substitutes faster equivalent locators.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.locators;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import com.kpit.automation.utilities.FileReaderUtility;
+import com.kpit.automation.utilities.LatencyHistogram;
+
+/**
+ * Locator profiling mode, enabled with {@code locator.profiling = true}. Every
+ * lookup of the page objects, through their generated locators or
+ * {@code BasePage.getElement}, is timed against the live page and attributed to
+ * the page object and field that own the locator.
+ *
+ * <p>
+ * XPath locators that have a CSS equivalent (tag and attribute steps, such as
+ * {@code //div[@class='modal-content']//input[@name='username']}) are
+ * translated; the first time the XPath matches something, both locators are
+ * run and the CSS selector (or {@code By.id} for a bare id) replaces the XPath
+ * for the rest of the run only if it returns the very same elements, in the
+ * same order. Locators on text, such as {@code //button[text()='Execute']},
+ * have no CSS equivalent and are only timed.
+ * </p>
+ *
+ * <p>
+ * When profiling is off, lookups go straight to the driver.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class LocatorProfiler {
+
+	private static final Logger log = Logger.getLogger(LocatorProfiler.class);
+
+	private static final boolean ENABLED = Boolean
+			.parseBoolean(new FileReaderUtility().getConfigData("locator.profiling", "false"));
+
+	private static final String SAME_ELEMENTS = "var a = arguments[0], b = arguments[1];"
+			+ " return a.length === b.length && a.every(function (element, i) { return element === b[i]; });";
+
+	private static final Pattern STEP = Pattern.compile("(//?)([A-Za-z][\\w-]*|\\*)");
+	private static final Pattern EQUALS = Pattern.compile("@([\\w:-]+)\\s*=\\s*('[^']*'|\"[^\"]*\")");
+	private static final Pattern HAS = Pattern.compile("@([\\w:-]+)");
+	private static final Pattern FUNCTION = Pattern
+			.compile("(contains|starts-with)\\(\\s*@([\\w:-]+)\\s*,\\s*('[^']*'|\"[^\"]*\")\\s*\\)");
+	private static final Pattern ID_ONLY = Pattern.compile("\\*?\\[id='([^'\\s]+)'\\]");
+
+	private static final Map<String, Map<String, Entry>> pages = new ConcurrentHashMap<String, Map<String, Entry>>();
+	private static final Map<By, By> substitutes = new ConcurrentHashMap<By, By>();
+
+	/**
+	 * Profile of one locator of a page object.
+	 */
+	public static class Entry {
+		private final String page;
+		private final String field;
+		private final By locator;
+		private final LatencyHistogram lookups = new LatencyHistogram();
+		private volatile String substitution = "";
+
+		Entry(String page, String field, By locator) {
+			this.page = page;
+			this.field = field;
+			this.locator = locator;
+		}
+
+		public String getPage() {
+			return page;
+		}
+
+		public String getField() {
+			return field;
+		}
+
+		public By getLocator() {
+			return locator;
+		}
+
+		public LatencyHistogram getLookups() {
+			return lookups;
+		}
+
+		/**
+		 * Returns what happened to the locator: the substitute and the verification
+		 * timings, why it was not substituted, or an empty string.
+		 */
+		public String getSubstitution() {
+			return substitution;
+		}
+	}
+
+	private LocatorProfiler() {
+	}
+
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Finds an element, timing the lookup when profiling.
+	 *
+	 * @param driver the WebDriver instance
+	 * @param page   the page object owning the locator
+	 * @param field  the field of the locator, or null
+	 * @param by     the locator
+	 * @return the element
+	 */
+	public static WebElement findElement(WebDriver driver, String page, String field, By by) {
+		if (!ENABLED) {
+			return driver.findElement(by);
+		}
+		Entry entry = entry(page, field, by);
+		By effective = substitute(driver, entry);
+		long start = System.nanoTime();
+		try {
+			return driver.findElement(effective);
+		} finally {
+			entry.lookups.record((System.nanoTime() - start) / 1000);
+		}
+	}
+
+	/**
+	 * Finds elements, timing the lookup when profiling.
+	 *
+	 * @param driver the WebDriver instance
+	 * @param page   the page object owning the locator
+	 * @param field  the field of the locator, or null
+	 * @param by     the locator
+	 * @return the elements
+	 */
+	public static List<WebElement> findElements(WebDriver driver, String page, String field, By by) {
+		if (!ENABLED) {
+			return driver.findElements(by);
+		}
+		Entry entry = entry(page, field, by);
+		By effective = substitute(driver, entry);
+		long start = System.nanoTime();
+		try {
+			return driver.findElements(effective);
+		} finally {
+			entry.lookups.record((System.nanoTime() - start) / 1000);
+		}
+	}
+
+	/**
+	 * Condition for the presence of an element, profiled when profiling.
+	 */
+	public static ExpectedCondition<WebElement> presenceOfElementLocated(String page, String field, By by) {
+		if (!ENABLED) {
+			return ExpectedConditions.presenceOfElementLocated(by);
+		}
+		return new ExpectedCondition<WebElement>() {
+			@Override
+			public WebElement apply(WebDriver driver) {
+				return findElement(driver, page, field, by);
+			}
+
+			@Override
+			public String toString() {
+				return "presence of element located by: " + by;
+			}
+		};
+	}
+
+	/**
+	 * Condition for the presence of at least one element, profiled when
+	 * profiling.
+	 */
+	public static ExpectedCondition<List<WebElement>> presenceOfAllElementsLocatedBy(String page, String field,
+			By by) {
+		if (!ENABLED) {
+			return ExpectedConditions.presenceOfAllElementsLocatedBy(by);
+		}
+		return new ExpectedCondition<List<WebElement>>() {
+			@Override
+			public List<WebElement> apply(WebDriver driver) {
+				List<WebElement> elements = findElements(driver, page, field, by);
+				return elements.isEmpty() ? null : elements;
+			}
+
+			@Override
+			public String toString() {
+				return "presence of any elements located by " + by;
+			}
+		};
+	}
+
+	/**
+	 * Returns the profiled locators of each page object, slowest first by total
+	 * lookup time.
+	 *
+	 * @param limit the number of locators per page object
+	 * @return the slowest locators per page object
+	 */
+	public static Map<String, List<Entry>> getSlowestLocators(int limit) {
+		Map<String, List<Entry>> slowest = new TreeMap<String, List<Entry>>();
+		for (Map.Entry<String, Map<String, Entry>> page : pages.entrySet()) {
+			List<Entry> entries = new ArrayList<Entry>(page.getValue().values());
+			entries.sort(Comparator.comparingLong((Entry entry) -> entry.lookups.getTotal()).reversed());
+			slowest.put(page.getKey(), entries.subList(0, Math.min(limit, entries.size())));
+		}
+		return slowest;
+	}
+
+	/**
+	 * Writes the profile of every locator as JSON, page by page, slowest first.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(File file) throws IOException {
+		Map<String, Object> document = new LinkedHashMap<String, Object>();
+		for (Map.Entry<String, List<Entry>> page : getSlowestLocators(Integer.MAX_VALUE).entrySet()) {
+			List<Object> locators = new ArrayList<Object>();
+			for (Entry entry : page.getValue()) {
+				Map<String, Object> locator = new LinkedHashMap<String, Object>();
+				locator.put("field", entry.field == null ? "" : entry.field);
+				locator.put("locator", entry.locator.toString());
+				locator.put("lookups", entry.lookups.toSummary());
+				locator.put("substitution", entry.substitution);
+				locators.add(locator);
+			}
+			document.put(page.getKey(), locators);
+		}
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), new Json().toJson(document).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Entry entry(String page, String field, By by) {
+		return pages.computeIfAbsent(page, key -> new ConcurrentHashMap<String, Entry>())
+				.computeIfAbsent(by.toString(), key -> new Entry(page, field, by));
+	}
+
+	/**
+	 * Returns the locator to use for an entry, verifying its CSS equivalent the
+	 * first time the original locator matches elements.
+	 */
+	private static By substitute(WebDriver driver, Entry entry) {
+		By original = entry.locator;
+		By substitute = substitutes.get(original);
+		if (substitute != null) {
+			if (entry.substitution.isEmpty()) {
+				entry.substitution = "replaced by " + substitute;
+			}
+			return substitute;
+		}
+		String xpath = xpathOf(original);
+		if (xpath == null || !entry.substitution.isEmpty()) {
+			return original;
+		}
+		By candidate = toCss(xpath);
+		if (candidate == null) {
+			entry.substitution = "no CSS equivalent";
+			return original;
+		}
+		long originalMicros;
+		long candidateMicros;
+		List<WebElement> expected;
+		boolean same;
+		try {
+			long start = System.nanoTime();
+			expected = driver.findElements(original);
+			originalMicros = (System.nanoTime() - start) / 1000;
+			if (expected.isEmpty()) {
+				return original; // Nothing to compare with yet, verified on a later lookup
+			}
+			start = System.nanoTime();
+			List<WebElement> actual = driver.findElements(candidate);
+			candidateMicros = (System.nanoTime() - start) / 1000;
+			same = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(SAME_ELEMENTS, expected, actual));
+		} catch (InvalidSelectorException ex) {
+			entry.substitution = "not replaced, " + candidate + " is not a valid selector";
+			log.info("Locator " + original + " kept, " + candidate + " is not a valid selector : " + ex.getMessage());
+			return original;
+		} catch (WebDriverException ex) {
+			log.info("Locator " + original + " kept, could not verify " + candidate + " : " + ex.getMessage());
+			return original; // Verified again on a later lookup, e.g. once the page stopped changing
+		}
+		if (!same) {
+			entry.substitution = "not replaced, " + candidate + " matches other elements";
+			log.info("Locator " + original + " kept, " + candidate + " matches other elements");
+			return original;
+		}
+		substitutes.put(original, candidate);
+		entry.substitution = "replaced by " + candidate + " (" + originalMicros + " us -> " + candidateMicros + " us)";
+		log.info("Locator " + original + " replaced by " + candidate + " after verification on " + expected.size()
+				+ " elements");
+		return candidate;
+	}
+
+	private static String xpathOf(By by) {
+		String text = by.toString();
+		return text.startsWith("By.xpath: ") ? text.substring("By.xpath: ".length()) : null;
+	}
+
+	/**
+	 * Translates an XPath made of tag and attribute steps to CSS.
+	 *
+	 * @param xpath the XPath expression
+	 * @return the CSS locator, {@code By.id} for a bare id, or null if the
+	 *         expression has no CSS equivalent
+	 */
+	static By toCss(String xpath) {
+		StringBuilder css = new StringBuilder();
+		int position = 0;
+		while (position < xpath.length()) {
+			Matcher step = STEP.matcher(xpath).region(position, xpath.length());
+			if (!step.lookingAt() || (position == 0 && step.group(1).length() == 1)) {
+				return null; // Absolute paths and axes have no CSS equivalent
+			}
+			if (position > 0) {
+				css.append(step.group(1).length() == 2 ? " " : " > ");
+			}
+			css.append(step.group(2));
+			position = step.end();
+			while (position < xpath.length() && xpath.charAt(position) == '[') {
+				int end = closingBracket(xpath, position);
+				if (end < 0) {
+					return null;
+				}
+				for (String condition : xpath.substring(position + 1, end).split("\\s+and\\s+")) {
+					String selector = attributeSelector(condition.trim());
+					if (selector == null) {
+						return null;
+					}
+					css.append(selector);
+				}
+				position = end + 1;
+			}
+		}
+		String selector = css.toString();
+		Matcher id = ID_ONLY.matcher(selector);
+		return id.matches() ? By.id(id.group(1)) : By.cssSelector(selector);
+	}
+
+	private static String attributeSelector(String condition) {
+		Matcher matcher = EQUALS.matcher(condition);
+		if (matcher.matches()) {
+			return "[" + matcher.group(1) + "=" + cssString(matcher.group(2)) + "]";
+		}
+		matcher = FUNCTION.matcher(condition);
+		if (matcher.matches()) {
+			return "[" + matcher.group(2) + ("contains".equals(matcher.group(1)) ? "*=" : "^=")
+					+ cssString(matcher.group(3)) + "]";
+		}
+		matcher = HAS.matcher(condition);
+		if (matcher.matches()) {
+			return "[" + matcher.group(1) + "]";
+		}
+		return null; // text(), positions, functions of the content
+	}
+
+	private static String cssString(String literal) {
+		String value = literal.substring(1, literal.length() - 1);
+		return value.contains("'") ? "\"" + value.replace("\"", "\\\"") + "\"" : "'" + value + "'";
+	}
+
+	private static int closingBracket(String xpath, int open) {
+		char quote = 0;
+		for (int i = open + 1; i < xpath.length(); i++) {
+			char c = xpath.charAt(i);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '\'' || c == '"') {
+				quote = c;
+			} else if (c == '[') {
+				return -1; // Nested predicates
+			} else if (c == ']') {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * Locators class builds the elements of the generated page locators.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.locators;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.kpit.automation.helpers.ElementCache;
+import com.kpit.automation.helpers.HelperContext;
+import com.kpit.automation.helpers.WaitPolicy;
+
+/**
+ * Runtime support of the classes generated for {@link PageLocators} pages. The
+ * generated code calls {@link #element} and {@link #elements} with the
+ * precomputed locator of each field and its options.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class Locators {
+
+	private Locators() {
+	}
+
+	/**
+	 * Builds the element of a field.
+	 *
+	 * @param driver the WebDriver instance
+	 * @param page   the page object, for the locator profile
+	 * @param field  the field, for the locator profile
+	 * @param by     the locator
+	 * @param cache  the caching policy
+	 * @param wait   the wait policy of the lookup, or null to find the element
+	 *               without waiting
+	 * @return the element, looked up when it is used
+	 */
+	public static WebElement element(WebDriver driver, String page, String field, By by, CachePolicy cache,
+			WaitPolicy wait) {
+		Supplier<WebElement> find = wait == null ? () -> LocatorProfiler.findElement(driver, page, field, by)
+				: () -> HelperContext.forDriver(driver).getWaitHelper(wait)
+						.until(LocatorProfiler.presenceOfElementLocated(page, field, by));
+		switch (cache) {
+		case EPOCH:
+			ElementCache elementCache = ElementCache.forDriver(driver);
+			return new LocatedElement(by, () -> elementCache.find(by, key -> find.get()));
+		case PINNED:
+			return new LocatedElement(by, find, null);
+		default:
+			return new LocatedElement(by, find);
+		}
+	}
+
+	/**
+	 * Builds the element list of a field. Lists are never pinned, only a
+	 * {@link CachePolicy#EPOCH} list is cached.
+	 *
+	 * @param driver the WebDriver instance
+	 * @param page   the page object, for the locator profile
+	 * @param field  the field, for the locator profile
+	 * @param by     the locator
+	 * @param cache  the caching policy
+	 * @param wait   the wait policy of the lookup, or null to find the elements
+	 *               without waiting
+	 * @return the list, looked up when it is read
+	 */
+	public static List<WebElement> elements(WebDriver driver, String page, String field, By by, CachePolicy cache,
+			WaitPolicy wait) {
+		Supplier<List<WebElement>> find = wait == null ? () -> LocatorProfiler.findElements(driver, page, field, by)
+				: () -> HelperContext.forDriver(driver).getWaitHelper(wait)
+						.until(LocatorProfiler.presenceOfAllElementsLocatedBy(page, field, by));
+		if (cache != CachePolicy.EPOCH) {
+			return new LocatedElementList(by, find);
+		}
+		ElementCache elementCache = ElementCache.forDriver(driver);
+		return new LocatedElementList(by, () -> elementCache.findAll(by, key -> find.get()));
+	}
+}
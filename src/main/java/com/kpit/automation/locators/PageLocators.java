@@ -0,0 +1,47 @@
+/**
+ * PageLocators annotation marks the page objects whose locators are generated at build time.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.locators;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a page object whose {@code @FindBy} fields are initialized by a
+ * generated {@code <Page>Locators} class instead of {@code PageFactory}. The
+ * class is generated in the package of the page by
+ * {@code com.kpit.automation.processor.LocatorProcessor}; the page calls its
+ * {@code init(this)} method from its constructor.
+ *
+ * <pre>
+ * &#64;PageLocators
+ * public class LoginToPlatformPage extends BasePage {
+ * 	public LoginToPlatformPage(WebDriver driver) {
+ * 		super(driver);
+ * 		LoginToPlatformPageLocators.init(this);
+ * 	}
+ * }
+ * </pre>
+ *
+ * <p>
+ * The locators are built once, as constants of the generated class, and their
+ * syntax is checked at compile time. The annotated fields must be
+ * {@code WebElement} or {@code List<WebElement>} and must not be private.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface PageLocators {
+}
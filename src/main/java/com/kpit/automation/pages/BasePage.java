@@ -15,40 +15,98 @@ import com.kpit.automation.helpers.DatePickerHelper;
 import com.kpit.automation.helpers.DropDownHelper;
 import com.kpit.automation.helpers.FileUploadHelper;
 import com.kpit.automation.helpers.GridHelper;
+import com.kpit.automation.helpers.GridRowIterator;
+import com.kpit.automation.helpers.GridSnapshot;
+import com.kpit.automation.helpers.HelperContext;
 import com.kpit.automation.helpers.JavaScriptHelper;
 import com.kpit.automation.helpers.MouseActionHelper;
 import com.kpit.automation.helpers.PopUpHelper;
 import com.kpit.automation.helpers.VerificationHelper;
 import com.kpit.automation.helpers.WaitHelper;
+import com.kpit.automation.helpers.WaitPolicy;
 import com.kpit.automation.helpers.WebTableUtility;
+import com.kpit.automation.locators.LocatorProfiler;
+import com.kpit.automation.locators.PageLocators;
+import com.kpit.automation.utilities.FileReaderUtility;
 
+@PageLocators
 public class BasePage extends Page {
 
 	private Logger log = getLogger(BasePage.class);
 
-	AlertHelper alertHelper = new AlertHelper(driver);
-	BrowserHelper browserHelper = new BrowserHelper(driver);
-	CheckBoxHelper checkBoxHelper = new CheckBoxHelper();
-	DatePickerHelper datePickerHelper= new DatePickerHelper(driver);
-	DropDownHelper dropDownHelper = new DropDownHelper(driver);
-	FileUploadHelper fileUploadHelper = new FileUploadHelper();
-	GridHelper gridHelper = new GridHelper();
-	JavaScriptHelper javaScriptHelper = new JavaScriptHelper(driver);
-	MouseActionHelper mouseActionHelper = new MouseActionHelper(driver);
-	PopUpHelper popUpHelper = new PopUpHelper(driver);
-	VerificationHelper verificationHelper = new VerificationHelper();
-	WaitHelper waitHelper = new WaitHelper(driver);
-	WebTableUtility webTableUtility = new WebTableUtility();
+	HelperContext helpers = HelperContext.forDriver(driver);
 
 	public BasePage(WebDriver driver) {
 		super(driver);
+		BasePageLocators.init(this);
+	}
+
+	// Helpers are created on first use and shared by the pages of the session
+	AlertHelper getAlertHelper() {
+		return helpers.getAlertHelper();
+	}
+
+	BrowserHelper getBrowserHelper() {
+		return helpers.getBrowserHelper();
+	}
+
+	CheckBoxHelper getCheckBoxHelper() {
+		return helpers.getCheckBoxHelper();
+	}
+
+	DatePickerHelper getDatePickerHelper() {
+		return helpers.getDatePickerHelper();
+	}
+
+	DropDownHelper getDropDownHelper() {
+		return helpers.getDropDownHelper();
+	}
+
+	FileUploadHelper getFileUploadHelper() {
+		return helpers.getFileUploadHelper();
+	}
+
+	GridHelper getGridHelper() {
+		return helpers.getGridHelper();
+	}
+
+	JavaScriptHelper getJavaScriptHelper() {
+		return helpers.getJavaScriptHelper();
+	}
+
+	MouseActionHelper getMouseActionHelper() {
+		return helpers.getMouseActionHelper();
+	}
+
+	PopUpHelper getPopUpHelper() {
+		return helpers.getPopUpHelper();
+	}
+
+	VerificationHelper getVerificationHelper() {
+		return helpers.getVerificationHelper();
+	}
+
+	WaitHelper getWaitHelper() {
+		return helpers.getWaitHelper();
+	}
+
+	WaitHelper getWaitHelper(WaitPolicy policy) {
+		return helpers.getWaitHelper(policy);
+	}
+
+	WebTableUtility getWebTableUtility() {
+		return helpers.getWebTableUtility();
+	}
+
+	FileReaderUtility getFileReaderUtility() {
+		return helpers.getFileReaderUtility();
 	}
 	
 	@FindBy(xpath = "//jqxgrid/div[@role='grid']//div[@role='columnheader']")
-    private List<WebElement> columnHeaders;
+    List<WebElement> columnHeaders;
 
     @FindBy(xpath = "//jqxgrid/div[@role='grid']//div[@role='row']/div[@role='gridcell']")
-    private List<WebElement> gridCells;
+    List<WebElement> gridCells;
 
     public List<WebElement> getColumnHeaders() {
         return columnHeaders;
@@ -58,6 +116,20 @@ public class BasePage extends Page {
         return gridCells;
     }
 
+    /**
+     * Reads the headers and rendered rows of the jqxGrid in a single round-trip.
+     */
+    public GridSnapshot getGridSnapshot() {
+        return getGridHelper().getGridSnapshot(driver);
+    }
+
+    /**
+     * Streams every row of the jqxGrid, scrolling through its virtual rows.
+     */
+    public GridRowIterator getGridRows() {
+        return getGridHelper().streamRows(driver);
+    }
+
 	@Override
 	public String getPageTitle() {
 		return driver.getTitle();
@@ -73,8 +145,9 @@ public class BasePage extends Page {
 	public WebElement getElement(By locator) {
 		WebElement element = null;
 		try {
-			waitHelper.waitForPresenceOfElementLocated(locator);
-			element = driver.findElement(locator);
+			element = helpers.getElementCache().find(locator,
+					by -> getWaitHelper().until(
+							LocatorProfiler.presenceOfElementLocated(getClass().getSimpleName(), null, by)));
 		} catch (Exception ex) {
 			log.info("Some error occured while creation of element : " + locator.toString());
 			ex.printStackTrace();
@@ -86,8 +159,9 @@ public class BasePage extends Page {
 	public List<WebElement> getElements(By locator) {
 		List<WebElement> elements = null;
 		try {
-			waitHelper.waitForPresenceOfElementLocated(locator);
-			elements = driver.findElements(locator);
+			elements = helpers.getElementCache().findAll(locator,
+					by -> getWaitHelper().until(
+							LocatorProfiler.presenceOfAllElementsLocatedBy(getClass().getSimpleName(), null, by)));
 		} catch (Exception ex) {
 			log.info("Some error occured while creation of element : " + locator.toString());
 			ex.printStackTrace();
@@ -1,17 +1,28 @@
 package com.kpit.automation.pages;
 
 import org.apache.log4j.Logger;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.testng.Assert;
 
+import com.kpit.automation.base.DriverRegistry;
+import com.kpit.automation.base.SessionSnapshot;
+import com.kpit.automation.helpers.WaitPolicy;
+import com.kpit.automation.locators.PageLocators;
+
+@PageLocators
 public class LoginToPlatformPage extends BasePage {
 
 	private Logger log = getLogger(LoginToPlatformPage.class);
 
+	private static final By SYSTEM_MAP = By.id("zoomInButton");
+	private static final By LOGIN_FORM = By.name("username");
+
 	public LoginToPlatformPage(WebDriver driver) {
 		super(driver);
+		LoginToPlatformPageLocators.init(this);
 	}
 
 	@FindBy(xpath = "//input[@value='Continue']")
@@ -32,12 +43,12 @@ public class LoginToPlatformPage extends BasePage {
 	public void continueButton() {
 		try {
 			log.info("Clicking on Continue Button");
-			Thread.sleep(2000);
+			getWaitHelper(WaitPolicy.FAST_UI).waitForElementToBeClickable(continueButton);
 			// driver.switchTo()
 			// Assert.assertEquals(true,
-			// verificationHelper.verifyElementPresent(continueButton));
+			// getVerificationHelper().verifyElementPresent(continueButton));
 			continueButton.click();
-			Thread.sleep(5000);
+			getWaitHelper(WaitPolicy.FAST_UI).waitForInvisibilityOf(continueButton);
 
 		} catch (Exception ex) {
 			ex.printStackTrace();
@@ -49,23 +60,27 @@ public class LoginToPlatformPage extends BasePage {
 	public void login(String strUsername, String strPassword) {
 		try {
 			log.info("Login execution start");
+			long start = System.currentTimeMillis();
 			logReport("Login to the application");
 			logReport("<b>Login test is started with valid Username and valid Password");
 			logScreenshot();
 //			Thread.sleep(2000);
-			waitHelper.waitForVisibilityOf(userName);
-			// Assert.assertEquals(true, verificationHelper.verifyElementPresent(userName));
+			getWaitHelper().waitForVisibilityOf(userName);
+			// Assert.assertEquals(true, getVerificationHelper().verifyElementPresent(userName));
 			userName.sendKeys(strUsername);
-			// Assert.assertEquals(true, verificationHelper.verifyElementPresent(passWord));
+			// Assert.assertEquals(true, getVerificationHelper().verifyElementPresent(passWord));
 			passWord.sendKeys(strPassword);
 			logScreenshot();
-			// waitHelper.waitForElementToBeClickable(signInButton);
+			// getWaitHelper().waitForElementToBeClickable(signInButton);
 			signInButton.click();
 //			Thread.sleep(2000);
 			logReport("user logged in successfully.");
-			waitHelper.waitForVisibilityOf(initializing);
+			getWaitHelper().waitForVisibilityOf(initializing);
 			logScreenshot();
-			waitHelper.waitForInvisibilityOf(initializing);
+			getWaitHelper().waitForInvisibilityOf(initializing);
+			DriverRegistry.markAuthenticated(driver);
+			SessionSnapshot.capture(driver, System.currentTimeMillis() - start,
+					Long.parseLong(getFileReaderUtility().getConfigData("session.snapshot.ttl.seconds", "1800")));
 			log.info("Login execution end");
 		} catch (Exception ex) {
 			ex.printStackTrace();
@@ -74,4 +89,68 @@ public class LoginToPlatformPage extends BasePage {
 		}
 	}
 
+	/**
+	 * Restores the authenticated session captured by the last successful
+	 * {@link #login(String, String)} into this browser, so that it lands on the
+	 * system map without going through the login form.
+	 *
+	 * @return true if the session is logged in after the restore, false if there
+	 *         is no valid snapshot or the restore did not log in
+	 */
+	public boolean restoreSession() {
+		SessionSnapshot snapshot = SessionSnapshot.getCurrent();
+		if (snapshot == null) {
+			return false;
+		}
+		if (snapshot.isExpired(Long.parseLong(getFileReaderUtility().getConfigData("session.snapshot.margin.seconds", "120")))) {
+			log.info("Session snapshot expired at " + snapshot.getExpiry() + ", falling back to login");
+			SessionSnapshot.invalidate(snapshot);
+			return false;
+		}
+		try {
+			long start = System.currentTimeMillis();
+			snapshot.restore(driver, getFileReaderUtility().getConfigData("session.snapshot.restore.path", "/favicon.ico"));
+			// Either the system map or the login form, whichever shows first, without paying the implicit wait
+			String landed = getWaitHelper(WaitPolicy.FAST_UI).until(
+					webDriver -> !webDriver.findElements(SYSTEM_MAP).isEmpty() ? "systemMap"
+							: !webDriver.findElements(LOGIN_FORM).isEmpty() ? "login" : null);
+			if (!"systemMap".equals(landed)) {
+				log.info("Session snapshot did not log in, falling back to login");
+				SessionSnapshot.invalidate(snapshot);
+				return false;
+			}
+			getWaitHelper().waitForInvisibilityOf(initializing);
+			long restoreMillis = System.currentTimeMillis() - start;
+			long saved = snapshot.recordRestore(restoreMillis);
+			DriverRegistry.markAuthenticated(driver);
+			log.info("Session restored in " + restoreMillis + " ms, " + saved + " ms saved over login");
+			logReport("Session restored from snapshot in " + restoreMillis + " ms (" + saved + " ms saved)");
+			return true;
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			log.error(ex);
+			SessionSnapshot.invalidate(snapshot);
+			driver.get(getFileReaderUtility().getConfigData("app.url")); // Back to the login form
+			return false;
+		}
+	}
+
+	/**
+	 * Makes sure this browser is logged in: does nothing if it already is,
+	 * restores the session snapshot if there is a valid one and logs in through
+	 * the form otherwise. Parallel sessions are set up concurrently; only the
+	 * capture of the snapshot is serialised.
+	 *
+	 * @param strUsername the user name used if a real login is needed
+	 * @param strPassword the password used if a real login is needed
+	 */
+	public void ensureLoggedIn(String strUsername, String strPassword) {
+		if (DriverRegistry.isAuthenticated()) {
+			return;
+		}
+		if (!restoreSession()) {
+			login(strUsername, strPassword);
+		}
+	}
+
 }
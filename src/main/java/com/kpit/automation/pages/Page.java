@@ -4,16 +4,21 @@ import java.util.List;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
+
 import com.kpit.automation.utilities.LoggerUtility;
 
+/**
+ * Base of the page objects. The {@code @FindBy} fields of a page are set by the
+ * locator class generated for it at build time, see
+ * {@link com.kpit.automation.locators.PageLocators}; each page calls
+ * {@code <Page>Locators.init(this)} from its constructor.
+ */
 public abstract class Page extends LoggerUtility {
 
 	public WebDriver driver;
 
 	public Page(WebDriver driver) {
 		this.driver = driver;
-		PageFactory.initElements(driver, this);
 	}
 
 	public abstract String getPageTitle();
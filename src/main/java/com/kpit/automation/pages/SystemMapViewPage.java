@@ -9,24 +9,37 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 
+import com.kpit.automation.helpers.WaitHelper;
+import com.kpit.automation.helpers.WaitPolicy;
+import com.kpit.automation.locators.CachePolicy;
+import com.kpit.automation.locators.LocatorOptions;
+import com.kpit.automation.locators.PageLocators;
+
+@PageLocators
 public class SystemMapViewPage extends BasePage {
 
 	private Logger log = getLogger(SystemMapViewPage.class);
 	
-	private WebDriverWait wait;
+	private WaitHelper fastUi;
+	private WaitHelper chartRender;
+
+	private static final Duration NETWORK_QUIET = Duration.ofMillis(500);
 
 	public SystemMapViewPage(WebDriver driver) {
 		super(driver);
-		this.wait = new WebDriverWait(this.driver, Duration.ofSeconds(10));
+		SystemMapViewPageLocators.init(this);
+		this.fastUi = getWaitHelper(WaitPolicy.FAST_UI);
+		this.chartRender = getWaitHelper(WaitPolicy.CHART_RENDER);
 	}
 
 	@FindBy(xpath = "//button[@id='zoomInButton']")
+	@LocatorOptions(cache = CachePolicy.PINNED)
 	WebElement zoomInButton;
 
 	@FindBy(xpath = "//button[contains(text(),'Tools')]")
+	@LocatorOptions(cache = CachePolicy.PINNED)
 	WebElement dropDownTools;
 
 	@FindBy(xpath = "//div[contains(text(),'Autom.')]")
@@ -36,31 +49,35 @@ public class SystemMapViewPage extends BasePage {
 	// WebElement chkStartUpTime;
 
 	public WebElement getPresetCheckbox(String labelText) {
-		return wait.until(ExpectedConditions.visibilityOfElementLocated(
+		return fastUi.until(ExpectedConditions.visibilityOfElementLocated(
                 By.xpath("//div[text()='" + labelText + "']/following-sibling::input")));
 	}
 
 	@FindBy(xpath = "//button[text()='Browse']")
+	@LocatorOptions(cache = CachePolicy.EPOCH)
 	WebElement btnBrowse;
 
 	// @FindBy(xpath = "//div[contains(text(),'StartUpTime')]/preceding-sibling::div/input")
 	// WebElement chkTraceFile;
 
 	public WebElement getTraceFileCheckbox(String labelText1) {
-		return wait.until(ExpectedConditions.visibilityOfElementLocated(
+		return fastUi.until(ExpectedConditions.visibilityOfElementLocated(
                 By.xpath("//div[contains(text(),'" + labelText1 + "')]/preceding-sibling::div/input")));
 	}
 
 	@FindBy(xpath = "//button[text()='Select']")
+	@LocatorOptions(cache = CachePolicy.EPOCH)
 	WebElement btnSelect;
 
 	@FindBy(xpath = "//button[text()='Execute']")
+	@LocatorOptions(cache = CachePolicy.EPOCH)
 	WebElement btnExecute;
 
 	@FindBy(xpath = "//button[contains(@class,'image-button')]")
 	WebElement btnInfo;
 
 	@FindBy(xpath = "//button[@id='header-tasks-button']")
+	@LocatorOptions(cache = CachePolicy.PINNED)
 	WebElement btnTask;
 
 	@FindBy(xpath = "//div[@id='task-table-body']")
@@ -70,6 +87,7 @@ public class SystemMapViewPage extends BasePage {
 	WebElement lstTask;
 
 	@FindBy(xpath = "//button[contains(@title,'Details')]")
+	@LocatorOptions(cache = CachePolicy.EPOCH)
 	WebElement btnDetails;
 
 	@FindBy(xpath = "//button[contains(@title,'Performa')]")
@@ -78,6 +96,9 @@ public class SystemMapViewPage extends BasePage {
 	@FindBy(xpath = "(//app-task-progress-tab//div[@class='body'])[1]")
 	WebElement lblTaskRow;
 
+	@FindBy(xpath = "//app-task-progress-tab")
+	WebElement lblTaskDetails;
+
 	@FindBy(xpath = "//div[text()='SUCCESS']")
 	WebElement lblStatus;
 
@@ -100,9 +121,9 @@ public class SystemMapViewPage extends BasePage {
 	public void clickZoomInButton() {
 		try {
 			log.info("Clicking on Zoom in Button");
-			waitHelper.waitForElementToBeClickable(zoomInButton);
+			fastUi.waitForElementToBeClickable(zoomInButton);
 			zoomInButton.click();
-			waitHelper.waitForVisibilityOf(dropDownTools);
+			fastUi.waitForVisibilityOf(dropDownTools);
 			logScreenshot();
 		} catch (Exception ex) {
 			ex.printStackTrace();
@@ -111,13 +132,23 @@ public class SystemMapViewPage extends BasePage {
 		}
 	}
 
+	// Zoom in the system map, unless an earlier test of the session already did
+	public void openSystemMap() {
+		List<WebElement> tools = driver.findElements(SystemMapViewPageLocators.DROP_DOWN_TOOLS);
+		if (!tools.isEmpty() && tools.get(0).isDisplayed()) {
+			log.info("System map already zoomed in");
+			return;
+		}
+		clickZoomInButton();
+	}
+
 	// Click on Tool button to select option from drop down
 	public void clickOnTools() {
 		try {
 			log.info("Clicking on Tools Button");
-			waitHelper.waitForElementToBeClickable(dropDownTools);
+			fastUi.waitForElementToBeClickable(dropDownTools);
 			dropDownTools.click();
-			waitHelper.waitForVisibilityOf(traceFileAnalysis);
+			fastUi.waitForVisibilityOf(traceFileAnalysis);
 			logScreenshot();
 		} catch (Exception ex) {
 			ex.printStackTrace();
@@ -130,9 +161,9 @@ public class SystemMapViewPage extends BasePage {
 	public void clickOnTraceFileAnalysis() {
 		try {
 			log.info("Clicking on Trace File Analysis");
-			waitHelper.waitForElementToBeClickable(traceFileAnalysis);
+			fastUi.waitForElementToBeClickable(traceFileAnalysis);
 			traceFileAnalysis.click();
-			waitHelper.waitForVisibilityOf(btnBrowse);
+			fastUi.waitForVisibilityOf(btnBrowse);
 			logScreenshot();
 		} catch (Exception ex) {
 			ex.printStackTrace();
@@ -145,10 +176,10 @@ public class SystemMapViewPage extends BasePage {
 	public void selectPreset(String label) {
 		try {
 			log.info("Selecting Start up time Preset");
-			waitHelper.waitForElementToBeClickable(getPresetCheckbox(label));
-			checkBoxHelper.selectCheckBox(getPresetCheckbox(label));
+			fastUi.waitForElementToBeClickable(getPresetCheckbox(label));
+			getCheckBoxHelper().selectCheckBox(getPresetCheckbox(label));
 			logScreenshot();
-			verificationHelper.verifyElementIsDisabled(btnExecute);
+			getVerificationHelper().verifyElementIsDisabled(btnExecute);
 			btnBrowse.click();
 		} catch (Exception ex) {
 			ex.printStackTrace();
@@ -161,11 +192,11 @@ public class SystemMapViewPage extends BasePage {
 	public void selectTraceFile(String label1) {
 		try {
 			log.info("Selecting trace file");
-			verificationHelper.verifyElementIsDisabled(btnSelect);
-			waitHelper.waitForVisibilityOf(getTraceFileCheckbox(label1));
+			getVerificationHelper().verifyElementIsDisabled(btnSelect);
+			fastUi.waitForVisibilityOf(getTraceFileCheckbox(label1));
 			logScreenshot();
-			checkBoxHelper.selectCheckBox(getTraceFileCheckbox(label1));
-			verificationHelper.verifyElementIsEnabled(btnSelect);
+			getCheckBoxHelper().selectCheckBox(getTraceFileCheckbox(label1));
+			getVerificationHelper().verifyElementIsEnabled(btnSelect);
 			logScreenshot();
 			btnSelect.click();
 		} catch (Exception ex) {
@@ -179,12 +210,14 @@ public class SystemMapViewPage extends BasePage {
 	public void executeTrace() {
 		try {
 			log.info("Execute trace file");
-			waitHelper.waitForVisibilityOf(btnExecute);
-			verificationHelper.verifyElementIsEnabled(btnExecute);
+			getWaitHelper().waitForVisibilityOf(btnExecute);
+			getVerificationHelper().verifyElementIsEnabled(btnExecute);
 			logScreenshot();
+			getWaitHelper().watchNetwork();
 			btnExecute.click();
+			fastUi.waitForNetworkIdle(NETWORK_QUIET, 0); // The task is submitted, not run, by then
 			logScreenshot();
-			waitHelper.waitForElementToBeClickable(btnInfo);
+			getWaitHelper().waitForElementToBeClickable(btnInfo);
 			logScreenshot();
 			btnInfo.click();
 		} catch (Exception ex) {
@@ -198,9 +231,9 @@ public class SystemMapViewPage extends BasePage {
 	public void selectTaskFromList() {
 		try {
 			log.info("Get running task from the list");
-			verificationHelper.verifyElementIsDisplayed(btnTask);
+			getVerificationHelper().verifyElementIsDisplayed(btnTask);
 			btnTask.click();
-			waitHelper.waitForVisibilityOfAllElements(lstAllTasks);
+			getWaitHelper().waitForVisibilityOfAllElements(lstAllTasks);
 			logReport("List of all Tasks opened");
 			logScreenshot();
 			lstTask.click();
@@ -211,11 +244,43 @@ public class SystemMapViewPage extends BasePage {
 		}
 	}
 
+	// Row of the task list for a preset run on a trace file, the newest one first
+	private By getTaskRow(String preset, String traceFile) {
+		return By.xpath("(//div[@id='task-table-body']/div[@class='task-table-body-row'][contains(., '" + preset
+				+ "')][contains(., '" + traceFile + "')])[1]");
+	}
+
+	// Select the task of a preset and trace file from the task list
+	public void selectTaskFromList(String preset, String traceFile) {
+		try {
+			log.info("Get the task of " + preset + " on " + traceFile + " from the list");
+			getVerificationHelper().verifyElementIsDisplayed(btnTask);
+			btnTask.click();
+			getWaitHelper().waitForVisibilityOfAllElements(lstAllTasks);
+			logReport("List of all Tasks opened");
+			logScreenshot();
+			fastUi.until(ExpectedConditions.elementToBeClickable(getTaskRow(preset, traceFile))).click();
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			log.error(ex);
+			Assert.fail();
+		}
+	}
+
+	// Go to the task processing details and check they are the ones of the trace file
+	public void goToTaskDetails(String traceFile) {
+		goToTaskDetails();
+		getWaitHelper().waitForVisibilityOf(lblTaskRow);
+		Assert.assertTrue(lblTaskDetails.getText().contains(traceFile),
+				"The opened task does not belong to the trace file " + traceFile);
+		logReport("Task details of " + traceFile + " opened");
+	}
+
 	// Go to the task processing details
 	public void goToTaskDetails() {
 		try {
 			log.info("Get details of selected task");
-			waitHelper.waitForVisibilityOf(btnDetails);
+			getWaitHelper().waitForVisibilityOf(btnDetails);
 			logReport("Automated Trace File Analysis pop-up open");
 			logScreenshot();
 			btnDetails.click();
@@ -229,30 +294,40 @@ public class SystemMapViewPage extends BasePage {
 
 	// Go to performa chart
 	public void goToPerformaChart() {
+		goToPerformaChart(null);
+	}
+
+	// Go to performa chart and check it is rendered for the trace file, if one is given
+	public void goToPerformaChart(String traceFile) {
 		try {
 			log.info("Go to performa chart");
-			javaScriptHelper.scrollDownVertical();
-			waitHelper.waitForVisibilityOf(lblTaskRow);
-			javaScriptHelper.scrollDownVertical();
+			getJavaScriptHelper().scrollDownVertical();
+			getWaitHelper().waitForVisibilityOf(lblTaskRow);
+			getJavaScriptHelper().scrollDownVertical();
 			logReport("Task progress details opened");
 			logScreenshot();
-			waitHelper.waitForElementToBeClickable(btnPerforma);
+			getWaitHelper().waitForElementToBeClickable(btnPerforma);
 			logReport("Select Performa option on task progres");
 			btnPerforma.click();
-			waitHelper.waitForNumberOfWindowsToBe(2);
-			browserHelper.SwitchToWindow(1);
+			getWaitHelper().waitForNumberOfWindowsToBe(2);
+			getBrowserHelper().SwitchToWindow(1);
+			getWaitHelper().watchNetwork();
 			logReport("Chart opened in a new tab");
-			waitHelper.waitForVisibilityOf(lblChart);
+			chartRender.waitForVisibilityOf(lblChart);
 			logScreenshot();
-			waitHelper.waitForVisibilityOfAllElements(lblLoading);
+			chartRender.waitForVisibilityOfAllElements(lblLoading);
 			logScreenshot();
-			waitHelper.waitForVisibilityOfAllElements(lblSubChart);
-			Thread.sleep(5000);
+			chartRender.waitForVisibilityOfAllElements(lblSubChart);
+			chartRender.waitForNetworkIdle(NETWORK_QUIET, 0);
 			logScreenshot();
-			browserHelper.switchToParentWithChildClose();
+			if (traceFile != null) {
+				Assert.assertTrue(driver.findElement(By.tagName("body")).getText().contains(traceFile),
+						"The rendered chart does not belong to the trace file " + traceFile);
+			}
+			getBrowserHelper().switchToParentWithChildClose();
 			logReport("New tab closed");
 			logScreenshot();
-			waitHelper.waitForElementToBeClickable(btnTaskDtlClose);
+			getWaitHelper().waitForElementToBeClickable(btnTaskDtlClose);
 			btnTaskDtlClose.click();
 		} catch (Exception ex) {
 			ex.printStackTrace();
@@ -264,34 +339,34 @@ public class SystemMapViewPage extends BasePage {
 	public void goToCreatedTask() {
 		try {
 			log.info("Go to created task");
-			verificationHelper.verifyElementIsDisplayed(btnTask);
+			getVerificationHelper().verifyElementIsDisplayed(btnTask);
 			btnTask.click();
 			logReport("List of all Tasks opened");
-			waitHelper.waitForVisibilityOfAllElements(lstAllTasks);
+			getWaitHelper().waitForVisibilityOfAllElements(lstAllTasks);
 			logScreenshot();
 			lstTask.click();
-			waitHelper.waitForVisibilityOf(btnDetails);
+			getWaitHelper().waitForVisibilityOf(btnDetails);
 			logReport("Task selected");
 			logScreenshot();
 			btnDetails.click();
-			waitHelper.waitForVisibilityOf(lblTaskRow);
-			javaScriptHelper.scrollDownVertical();
+			getWaitHelper().waitForVisibilityOf(lblTaskRow);
+			getJavaScriptHelper().scrollDownVertical();
 			logReport("Task progress details opened");
 			logScreenshot();
-			waitHelper.waitForElementToBeClickable(btnPerforma);
-			javaScriptHelper.scrollDownVertical();
+			getWaitHelper().waitForElementToBeClickable(btnPerforma);
+			getJavaScriptHelper().scrollDownVertical();
 			logScreenshot();
 			logReport("Select Performa option on task progress");
 			btnPerforma.click();
-			waitHelper.waitForNumberOfWindowsToBe(2);
-			browserHelper.SwitchToWindow(1);
+			getWaitHelper().waitForNumberOfWindowsToBe(2);
+			getBrowserHelper().SwitchToWindow(1);
 			logReport("Chart opened in a new tab");
-			waitHelper.waitForVisibilityOf(lblChart);
+			getWaitHelper().waitForVisibilityOf(lblChart);
 			logScreenshot();
-			browserHelper.switchToParentWithChildClose();
+			getBrowserHelper().switchToParentWithChildClose();
 			logReport("New tab closed");
 			logScreenshot();
-			waitHelper.waitForElementToBeClickable(btnTaskDtlClose);
+			getWaitHelper().waitForElementToBeClickable(btnTaskDtlClose);
 			btnTaskDtlClose.click();
 			logScreenshot();
 		} catch (Exception ex) {
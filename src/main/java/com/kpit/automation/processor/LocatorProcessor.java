@@ -0,0 +1,414 @@
+/**
+ * LocatorProcessor class generates the locator classes of the page objects at build time.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+/**
+ * Annotation processor generating a {@code <Page>Locators} class for every
+ * class annotated with {@code com.kpit.automation.locators.PageLocators}. For
+ * each {@code @FindBy} field of the page the generated class holds the
+ * {@code By} as a constant and assigns the field with
+ * {@code com.kpit.automation.locators.Locators}, so that pages initialize
+ * without reflection or proxies.
+ *
+ * <p>
+ * Locators are validated while generating: XPath expressions are compiled, CSS
+ * selectors checked for balanced brackets, parentheses and quotes, and class
+ * names for spaces. An invalid locator, a private field or a field of another
+ * type than {@code WebElement} or {@code List<WebElement>} fails the
+ * compilation. The processor only depends on the JDK, annotations are read from
+ * their mirrors.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SupportedAnnotationTypes("com.kpit.automation.locators.PageLocators")
+public class LocatorProcessor extends AbstractProcessor {
+
+	private static final String PAGE_LOCATORS = "com.kpit.automation.locators.PageLocators";
+	private static final String FIND_BY = "org.openqa.selenium.support.FindBy";
+	private static final String LOCATOR_OPTIONS = "com.kpit.automation.locators.LocatorOptions";
+	private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+	private static final String LIST = "java.util.List";
+
+	/**
+	 * A field to generate, with the Java expression of its locator.
+	 */
+	private static class Field {
+		private final String name;
+		private final boolean list;
+		private final String by;
+		private final String cache;
+		private final String wait;
+
+		Field(String name, boolean list, String by, String cache, String wait) {
+			this.name = name;
+			this.list = list;
+			this.by = by;
+			this.cache = cache;
+			this.wait = wait;
+		}
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		TypeElement pageLocators = processingEnv.getElementUtils().getTypeElement(PAGE_LOCATORS);
+		if (pageLocators == null) {
+			return false;
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(pageLocators)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				error(element, "@PageLocators is only allowed on classes");
+				continue;
+			}
+			TypeElement page = (TypeElement) element;
+			List<Field> fields = new ArrayList<Field>();
+			boolean valid = true;
+			for (Element member : page.getEnclosedElements()) {
+				if (member.getKind() != ElementKind.FIELD) {
+					continue;
+				}
+				AnnotationMirror findBy = mirror(member, FIND_BY);
+				if (findBy == null) {
+					if (mirror(member, "org.openqa.selenium.support.FindBys") != null
+							|| mirror(member, "org.openqa.selenium.support.FindAll") != null) {
+						error(member, "@FindBys and @FindAll are not supported on @PageLocators pages");
+						valid = false;
+					}
+					continue;
+				}
+				Field field = field((VariableElement) member, findBy);
+				if (field == null) {
+					valid = false;
+				} else {
+					fields.add(field);
+				}
+			}
+			if (valid) {
+				write(page, fields);
+			}
+		}
+		return true;
+	}
+
+	private Field field(VariableElement member, AnnotationMirror findBy) {
+		Set<Modifier> modifiers = member.getModifiers();
+		if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)
+				|| modifiers.contains(Modifier.STATIC)) {
+			error(member, "Locator fields must not be private, final or static");
+			return null;
+		}
+		Boolean list = elementType(member.asType());
+		if (list == null) {
+			error(member, "Locator fields must be WebElement or List<WebElement>");
+			return null;
+		}
+		String by = locator(member, values(findBy));
+		if (by == null) {
+			return null;
+		}
+		String cache = "NONE"; // Caching is opted into per field, a cached element may not be the current match
+		String wait = null;
+		AnnotationMirror options = mirror(member, LOCATOR_OPTIONS);
+		if (options != null) {
+			Map<String, Object> values = values(options);
+			if (values.containsKey("cache")) {
+				cache = values.get("cache").toString();
+			}
+			Object waits = values.get("waitFor");
+			if (waits instanceof List && !((List<?>) waits).isEmpty()) {
+				List<?> policies = (List<?>) waits;
+				if (policies.size() > 1) {
+					error(member, "At most one wait policy per locator");
+					return null;
+				}
+				wait = ((AnnotationValue) policies.get(0)).getValue().toString();
+			}
+		}
+		return new Field(member.getSimpleName().toString(), list, by, cache, wait);
+	}
+
+	/**
+	 * Returns false for WebElement, true for List&lt;WebElement&gt;, null for any
+	 * other type.
+	 */
+	private Boolean elementType(TypeMirror type) {
+		if (!(type instanceof DeclaredType)) {
+			return null;
+		}
+		DeclaredType declared = (DeclaredType) type;
+		String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+		if (WEB_ELEMENT.equals(name)) {
+			return Boolean.FALSE;
+		}
+		if (LIST.equals(name) && declared.getTypeArguments().size() == 1
+				&& WEB_ELEMENT.equals(declared.getTypeArguments().get(0).toString())) {
+			return Boolean.TRUE;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the Java expression of the locator of a {@code @FindBy}, after
+	 * checking its syntax.
+	 */
+	private String locator(Element member, Map<String, Object> values) {
+		String how = null;
+		String using = null;
+		String[] shortcuts = { "id", "name", "className", "css", "tagName", "linkText", "partialLinkText", "xpath" };
+		for (String shortcut : shortcuts) {
+			Object value = values.get(shortcut);
+			if (value != null && !value.toString().isEmpty()) {
+				if (how != null) {
+					error(member, "@FindBy must use a single locator strategy, found " + how + " and " + shortcut);
+					return null;
+				}
+				how = shortcut;
+				using = value.toString();
+			}
+		}
+		if (how == null && values.get("using") != null) {
+			how = howToStrategy(values.containsKey("how") ? values.get("how").toString() : "UNSET");
+			using = values.get("using").toString();
+		}
+		if (how == null || using == null || using.trim().isEmpty()) {
+			error(member, "@FindBy has no locator");
+			return null;
+		}
+		String problem = check(how, using);
+		if (problem != null) {
+			error(member, "Invalid " + how + " locator \"" + using + "\": " + problem);
+			return null;
+		}
+		String literal = literal(using);
+		switch (how) {
+		case "css":
+			return "By.cssSelector(" + literal + ")";
+		case "idOrName":
+			return "new org.openqa.selenium.support.pagefactory.ByIdOrName(" + literal + ")";
+		default:
+			return "By." + how + "(" + literal + ")";
+		}
+	}
+
+	private static String howToStrategy(String how) {
+		switch (how) {
+		case "CLASS_NAME":
+			return "className";
+		case "CSS":
+			return "css";
+		case "ID":
+			return "id";
+		case "LINK_TEXT":
+			return "linkText";
+		case "NAME":
+			return "name";
+		case "PARTIAL_LINK_TEXT":
+			return "partialLinkText";
+		case "TAG_NAME":
+			return "tagName";
+		case "XPATH":
+			return "xpath";
+		default:
+			return "idOrName"; // ID_OR_NAME and UNSET, as PageFactory does
+		}
+	}
+
+	/**
+	 * Checks the syntax of a locator.
+	 *
+	 * @return the problem found, or null if the locator is valid
+	 */
+	static String check(String how, String using) {
+		switch (how) {
+		case "xpath":
+			try {
+				XPathFactory.newInstance().newXPath().compile(using);
+				return null;
+			} catch (XPathExpressionException ex) {
+				Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+				return cause.getMessage() == null ? "not a valid XPath expression" : cause.getMessage();
+			}
+		case "css":
+			return checkCss(using);
+		case "className":
+			return using.trim().contains(" ") ? "compound class names are not supported, use a CSS selector" : null;
+		case "id":
+		case "name":
+		case "tagName":
+			return using.trim().equals(using) ? null : "leading or trailing spaces";
+		default:
+			return null;
+		}
+	}
+
+	private static String checkCss(String selector) {
+		if (selector.startsWith("/") || selector.startsWith("(")) {
+			return "looks like an XPath expression";
+		}
+		StringBuilder open = new StringBuilder();
+		char quote = 0;
+		for (int i = 0; i < selector.length(); i++) {
+			char c = selector.charAt(i);
+			if (quote != 0) {
+				if (c == '\\') {
+					i++;
+				} else if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '\\') {
+				i++;
+			} else if (c == '\'' || c == '"') {
+				quote = c;
+			} else if (c == '[' || c == '(') {
+				open.append(c);
+			} else if (c == ']' || c == ')') {
+				if (open.length() == 0 || open.charAt(open.length() - 1) != (c == ']' ? '[' : '(')) {
+					return "unbalanced '" + c + "' at " + i;
+				}
+				open.setLength(open.length() - 1);
+			}
+		}
+		if (quote != 0) {
+			return "unterminated string";
+		}
+		if (open.length() > 0) {
+			return "unclosed '" + open.charAt(open.length() - 1) + "'";
+		}
+		String trimmed = selector.trim();
+		char last = trimmed.charAt(trimmed.length() - 1);
+		if (last == '>' || last == '+' || last == '~' || last == ',') {
+			return "ends with a combinator";
+		}
+		return null;
+	}
+
+	private void write(TypeElement page, List<Field> fields) {
+		String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+		String pageName = page.getSimpleName().toString();
+		String className = pageName + "Locators";
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(packageName).append(";\n\n");
+		source.append("import org.openqa.selenium.By;\n\n");
+		source.append("import com.kpit.automation.locators.CachePolicy;\n");
+		source.append("import com.kpit.automation.locators.Locators;\n\n");
+		source.append("/**\n * Locators of {@link ").append(pageName).append("}, generated from its @FindBy fields.\n */\n");
+		source.append("@javax.annotation.processing.Generated(\"").append(LocatorProcessor.class.getName())
+				.append("\")\n");
+		source.append("final class ").append(className).append(" {\n\n");
+		for (Field field : fields) {
+			source.append("\tstatic final By ").append(constant(field.name)).append(" = ").append(field.by)
+					.append(";\n");
+		}
+		source.append("\n\tprivate ").append(className).append("() {\n\t}\n\n");
+		source.append("\t/**\n\t * Initializes the locator fields of the page.\n\t */\n");
+		source.append("\tstatic void init(").append(pageName).append(" page) {\n");
+		for (Field field : fields) {
+			source.append("\t\tpage.").append(field.name).append(" = Locators.")
+					.append(field.list ? "elements" : "element").append("(page.driver, \"").append(pageName)
+					.append("\", \"").append(field.name).append("\", ").append(constant(field.name)).append(", CachePolicy.").append(field.cache).append(", ")
+					.append(field.wait == null ? "null" : "com.kpit.automation.helpers.WaitPolicy." + field.wait)
+					.append(");\n");
+		}
+		source.append("\t}\n}\n");
+		try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + className, page)
+				.openWriter()) {
+			writer.write(source.toString());
+		} catch (IOException ex) {
+			error(page, "Could not write " + className + ": " + ex.getMessage());
+		}
+	}
+
+	private static String constant(String fieldName) {
+		return fieldName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+	}
+
+	private static String literal(String value) {
+		StringBuilder literal = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			switch (c) {
+			case '"':
+				literal.append("\\\"");
+				break;
+			case '\\':
+				literal.append("\\\\");
+				break;
+			case '\n':
+				literal.append("\\n");
+				break;
+			case '\t':
+				literal.append("\\t");
+				break;
+			default:
+				literal.append(c);
+			}
+		}
+		return literal.append('"').toString();
+	}
+
+	private AnnotationMirror mirror(Element element, String annotation) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+				return mirror;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the explicit values of an annotation, enum constants by name.
+	 */
+	private static Map<String, Object> values(AnnotationMirror mirror) {
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues()
+				.entrySet()) {
+			Object value = entry.getValue().getValue();
+			if (value instanceof VariableElement) {
+				value = ((VariableElement) value).getSimpleName().toString();
+			}
+			values.put(entry.getKey().getSimpleName().toString(), value);
+		}
+		return values;
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
@@ -0,0 +1,278 @@
+/**
+ * This class traces the WebDriver commands of the tests and aggregates their timings.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.reporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import com.kpit.automation.utilities.LatencyHistogram;
+
+/**
+ * Traces every WebDriver command (find, click, getText, executeScript,
+ * screenshot, ...) of the drivers decorated with it in {@code BaseTest}. Each
+ * command is timed, its payload size estimated (characters of the arguments and
+ * of the result, bytes of screenshots) and attributed to the running test, to
+ * the nearest project method that issued it and to the page-object method.
+ *
+ * <p>
+ * Each test gets a command timeline, written by {@link Listeners} as a CSV
+ * file, and aggregates per command and per caller; the suite aggregates are
+ * published in the Extent report and in command-trace.json.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class CommandTracer implements WebDriverListener {
+
+	private static final String PROJECT_PACKAGE = "com.kpit.automation.";
+	private static final String PAGES_PACKAGE = "com.kpit.automation.pages.";
+	private static final int MAX_TIMELINE = 20000;
+
+	private static final Map<String, LatencyHistogram> byCommand = new ConcurrentHashMap<String, LatencyHistogram>();
+	private static final Map<String, LatencyHistogram> byCaller = new ConcurrentHashMap<String, LatencyHistogram>();
+	private static final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+	private static final ThreadLocal<TestTrace> tests = ThreadLocal.withInitial(() -> new TestTrace("setup"));
+
+	/**
+	 * Commands of one test.
+	 */
+	public static class TestTrace {
+		private final String name;
+		private final long start = System.nanoTime();
+		private final List<String> timeline = new ArrayList<String>();
+		private final Map<String, LatencyHistogram> commands = new TreeMap<String, LatencyHistogram>();
+		private final Map<String, LatencyHistogram> callers = new TreeMap<String, LatencyHistogram>();
+		private int dropped;
+
+		TestTrace(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Map<String, LatencyHistogram> getCommands() {
+			return commands;
+		}
+
+		/**
+		 * Returns the callers that issued the most commands.
+		 *
+		 * @param limit the number of callers to return
+		 * @return the histograms of the busiest callers, busiest first
+		 */
+		public Map<String, LatencyHistogram> getBusiestCallers(int limit) {
+			return callers.entrySet().stream()
+					.sorted(Comparator.comparingLong(
+							(Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().getCount()).reversed())
+					.limit(limit).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a,
+							LinkedHashMap::new));
+		}
+
+		public boolean isEmpty() {
+			return commands.isEmpty();
+		}
+
+		/**
+		 * Writes the command timeline as CSV.
+		 *
+		 * @param file the file to write
+		 * @throws IOException if the file cannot be written
+		 */
+		public void writeTimeline(File file) throws IOException {
+			List<String> lines = new ArrayList<String>(timeline.size() + 2);
+			lines.add("offset_ms,command,duration_us,payload,outcome,caller,page_method");
+			lines.addAll(timeline);
+			if (dropped > 0) {
+				lines.add("# " + dropped + " more commands not listed");
+			}
+			file.getParentFile().mkdirs();
+			Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Starts the trace of the test running on the current thread.
+	 *
+	 * @param name the name of the test
+	 */
+	public static void startTest(String name) {
+		tests.set(new TestTrace(name));
+	}
+
+	/**
+	 * Returns the trace of the test running on the current thread and starts a
+	 * new, unattributed one.
+	 *
+	 * @return the trace of the test
+	 */
+	public static TestTrace finishTest() {
+		TestTrace trace = tests.get();
+		tests.set(new TestTrace("setup"));
+		return trace;
+	}
+
+	public static Map<String, LatencyHistogram> getByCommand() {
+		return new TreeMap<String, LatencyHistogram>(byCommand);
+	}
+
+	public static Map<String, LatencyHistogram> getByCaller() {
+		return new TreeMap<String, LatencyHistogram>(byCaller);
+	}
+
+	/**
+	 * Writes the suite aggregates as JSON.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(File file) throws IOException {
+		Map<String, Object> document = new LinkedHashMap<String, Object>();
+		document.put("commands", summaries(byCommand));
+		document.put("callers", summaries(byCaller));
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), new Json().toJson(document).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public void beforeAnyCall(Object target, Method method, Object[] args) {
+		starts.get().push(System.nanoTime());
+	}
+
+	@Override
+	public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+		record(method, args, result, "ok");
+	}
+
+	@Override
+	public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+		record(method, args, null, e.getTargetException().getClass().getSimpleName());
+	}
+
+	private void record(Method method, Object[] args, Object result, String outcome) {
+		Long start = starts.get().poll();
+		if (start == null) {
+			return;
+		}
+		long end = System.nanoTime();
+		long micros = (end - start) / 1000;
+		String command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+		String[] callers = callers();
+		long payload = payload(args) + payload(result);
+
+		byCommand.computeIfAbsent(command, key -> new LatencyHistogram()).record(micros);
+		byCaller.computeIfAbsent(callers[0], key -> new LatencyHistogram()).record(micros);
+
+		TestTrace trace = currentTrace();
+		trace.commands.computeIfAbsent(command, key -> new LatencyHistogram()).record(micros);
+		trace.callers.computeIfAbsent(callers[0], key -> new LatencyHistogram()).record(micros);
+		if (trace.timeline.size() < MAX_TIMELINE) {
+			trace.timeline.add((start - trace.start) / 1000000 + "," + command + "," + micros + "," + payload + ","
+					+ outcome + "," + callers[0] + "," + callers[1]);
+		} else {
+			trace.dropped++;
+		}
+	}
+
+	private TestTrace currentTrace() {
+		TestTrace trace = tests.get();
+		if ("setup".equals(trace.name)) {
+			ITestResult result = Reporter.getCurrentTestResult();
+			if (result != null && result.getStatus() == ITestResult.STARTED) {
+				startTest(result.getTestClass().getRealClass().getSimpleName() + "." + result.getName());
+				trace = tests.get();
+			}
+		}
+		return trace;
+	}
+
+	/**
+	 * Returns the nearest project method on the call stack and the page-object
+	 * method, if any.
+	 */
+	private static String[] callers() {
+		return StackWalker.getInstance().walk(frames -> {
+			String[] found = { "unknown", "" };
+			frames.filter(frame -> frame.getClassName().startsWith(PROJECT_PACKAGE)
+					&& !frame.getClassName().equals(CommandTracer.class.getName())).forEach(frame -> {
+						String className = frame.getClassName();
+						String method = className.substring(className.lastIndexOf('.') + 1) + "."
+								+ frame.getMethodName();
+						if ("unknown".equals(found[0])) {
+							found[0] = method;
+						}
+						if (found[1].isEmpty() && className.startsWith(PAGES_PACKAGE)) {
+							found[1] = method;
+						}
+					});
+			return found;
+		});
+	}
+
+	private static long payload(Object value) {
+		if (value == null) {
+			return 0;
+		} else if (value instanceof CharSequence) {
+			return ((CharSequence) value).length();
+		} else if (value instanceof byte[]) {
+			return ((byte[]) value).length;
+		} else if (value instanceof File) {
+			return ((File) value).length();
+		} else if (value instanceof Object[]) {
+			long size = 0;
+			for (Object item : (Object[]) value) {
+				size += payload(item);
+			}
+			return size;
+		} else if (value instanceof Collection) {
+			long size = 0;
+			for (Object item : (Collection<?>) value) {
+				size += payload(item);
+			}
+			return size;
+		} else if (value instanceof Map) {
+			long size = 0;
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				size += payload(entry.getKey()) + payload(entry.getValue());
+			}
+			return size;
+		}
+		return 0;
+	}
+
+	private static Map<String, Object> summaries(Map<String, LatencyHistogram> histograms) {
+		Map<String, Object> summaries = new TreeMap<String, Object>();
+		for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+			summaries.put(entry.getKey(), entry.getValue().toSummary());
+		}
+		return summaries;
+	}
+}
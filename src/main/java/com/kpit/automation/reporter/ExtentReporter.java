@@ -7,7 +7,9 @@ import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.markuputils.ExtentColor;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.JsonFormatter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.kpit.automation.base.Shard;
 
 /**
  * This class is responsible for creating and managing the ExtentReports object.
@@ -37,8 +39,10 @@ public class ExtentReporter {
 	 * @return The ExtentReports object.
 	 */
 	public static ExtentReports getReportObject() {
-		// Generate the report path with the current timestamp
-		String reportPath = "./src/test/resources/reports/" + dtf.format(LocalDateTime.now());
+		// Generate the report path with the current timestamp, in a folder of its own when the suite is sharded
+		Shard shard = new Shard();
+		String reportPath = "./src/test/resources/reports/" + (shard.isSharded() ? shard.getName() + "/" : "")
+				+ dtf.format(LocalDateTime.now());
 
 		// Create ExtentSparkReporter instance with the report path
 		ExtentSparkReporter extentSparkReporter = new ExtentSparkReporter(reportPath);
@@ -53,6 +57,13 @@ public class ExtentReporter {
 		extentReports = new ExtentReports();
 		extentReports.attachReporter(extentSparkReporter);
 
+		// Keep a JSON archive of every shard so that ShardReportMerger can rebuild one report
+		if (shard.isSharded()) {
+			extentReports.attachReporter(
+					new JsonFormatter(ShardReportMerger.SHARD_OUTPUT + shard.getName() + "/" + ShardReportMerger.EXTENT_JSON));
+			extentReports.setSystemInfo("Shard", shard.getName());
+		}
+
 		// Set system information for the report
 		extentReports.setSystemInfo("Organization", "KPIT");
 		extentReports.setSystemInfo("Project", "KOAST");
@@ -2,11 +2,16 @@ package com.kpit.automation.reporter;
 
 import java.io.File;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -18,17 +23,27 @@ import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.markuputils.ExtentColor;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.kpit.automation.base.BaseTest;
+import com.kpit.automation.base.DriverRegistry;
+import com.kpit.automation.base.Shard;
+import com.kpit.automation.helpers.WaitStatistics;
+import com.kpit.automation.locators.LocatorProfiler;
+import com.kpit.automation.utilities.DatabaseUtility;
+import com.kpit.automation.utilities.LatencyHistogram;
+import com.kpit.automation.utilities.SleepGuard;
 
-public class Listeners extends BaseTest implements ITestListener {
+public class Listeners extends BaseTest implements ITestListener, ISuiteListener {
 
-	public static ExtentTest test;
 	public static ExtentReports extent;
 	public static ThreadLocal<ExtentTest> extentTest = new ThreadLocal<ExtentTest>(); // Thread safe
 
 	@Override
 	public void onStart(ITestContext context) {
 		try {
-			extent = ExtentReporter.getReportObject();
+			synchronized (Listeners.class) { // <test> tags running in parallel share one report
+				if (extent == null) {
+					extent = ExtentReporter.getReportObject();
+				}
+			}
 		} catch (Exception ex) {
 			ex.printStackTrace();
 		}
@@ -36,7 +51,10 @@ public class Listeners extends BaseTest implements ITestListener {
 
 	@Override
 	public void onTestStart(ITestResult result) {
-		test = extent.createTest(result.getMethod().getMethodName(),
+		SleepGuard.startTest();
+		WaitStatistics.startTest();
+		CommandTracer.startTest(result.getTestClass().getRealClass().getSimpleName() + "." + result.getName());
+		ExtentTest test = extent.createTest(result.getMethod().getMethodName(),
 				"<b> Description for test:</b> " + result.getMethod().getDescription());
 		extentTest.set(test); // unique thread id(ErrorValidationTest)->test
 		test.assignCategory(result.getTestClass().getRealClass().getSimpleName());
@@ -51,17 +69,20 @@ public class Listeners extends BaseTest implements ITestListener {
 			extentTest.get().log(Status.PASS, MarkupHelper
 					.createLabel(result.getMethod().getMethodName() + " " + "is successfull!", ExtentColor.GREEN));
 			Reporter.log(result.getMethod().getMethodName() + " test passed");
-			if (result.isSuccess()) {
+			reportSleeps();
+			reportWaits();
+			reportCommands(result);
+			if (result.isSuccess() && DriverRegistry.hasDriver()) {
 				Calendar calendar = Calendar.getInstance();
 				SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd_MM_yyyy_hh_mm_ss");
 				String methodName = result.getName();
-				File src = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+				File src = ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.FILE);
 				String reportDirectory = new File(System.getProperty("user.dir")).getAbsolutePath()
 						+ "/src/test/resources/";
 				File dest = new File((String) reportDirectory + "/screenshots/success/" + methodName + "_"
 						+ simpleDateFormat.format(calendar.getTime()) + ".png");
 				FileUtils.copyFile(src, dest);
-				test.addScreenCaptureFromPath(dest.getAbsolutePath());
+				extentTest.get().addScreenCaptureFromPath(dest.getAbsolutePath());
 			}
 		} catch (Exception ex) {
 			ex.printStackTrace();
@@ -74,17 +95,20 @@ public class Listeners extends BaseTest implements ITestListener {
 			extentTest.get().log(Status.FAIL, MarkupHelper
 					.createLabel(result.getMethod().getMethodName() + " " + "is failed!!", ExtentColor.RED));
 			extentTest.get().fail(result.getThrowable());
-			if (!result.isSuccess()) {
+			reportSleeps();
+			reportWaits();
+			reportCommands(result);
+			if (!result.isSuccess() && DriverRegistry.hasDriver()) {
 				Calendar calendar = Calendar.getInstance();
 				SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd_MM_yyyy_hh_mm_ss");
 				String methodName = result.getName();
-				File src = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+				File src = ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.FILE);
 				String reportDirectory = new File(System.getProperty("user.dir")).getAbsolutePath()
 						+ "/src/test/resources/";
 				File dest = new File((String) reportDirectory + "/screenshots/failure/" + methodName + "_"
 						+ simpleDateFormat.format(calendar.getTime()) + ".png");
 				FileUtils.copyFile(src, dest);
-				test.addScreenCaptureFromPath(dest.getAbsolutePath());
+				extentTest.get().addScreenCaptureFromPath(dest.getAbsolutePath());
 			}
 		} catch (Exception e1) {
 			e1.printStackTrace();
@@ -93,11 +117,142 @@ public class Listeners extends BaseTest implements ITestListener {
 
 	@Override
 	public void onFinish(ITestContext context) {
+		long wallClock = context.getEndDate().getTime() - context.getStartDate().getTime();
+		Reporter.log(context.getName() + " finished in " + wallClock + " ms with parallel="
+				+ context.getSuite().getXmlSuite().getParallel() + " and thread-count="
+				+ context.getSuite().getXmlSuite().getThreadCount(), true);
+		Reporter.log("Fixed sleeps : " + SleepGuard.getStatistics(), true);
 		if (extent != null) {
+			extent.setSystemInfo("Fixed sleeps", SleepGuard.getStatistics());
 			extent.flush();
 		}
 	}
 
+	/**
+	 * Adds the fixed sleeps recorded during the current test to its report.
+	 */
+	private void reportSleeps() {
+		String sleeps = SleepGuard.finishTest();
+		if (sleeps != null) {
+			extentTest.get().log(Status.WARNING, sleeps);
+		}
+	}
+
+	/**
+	 * Adds the wait latencies of the current test, per condition, to its report.
+	 */
+	private void reportWaits() {
+		Map<String, LatencyHistogram> waits = WaitStatistics.finishTest();
+		if (!waits.isEmpty()) {
+			extentTest.get().info(MarkupHelper.createTable(latencyTable(waits, false)));
+		}
+	}
+
+	/**
+	 * Writes the WebDriver command timeline of the current test and adds its
+	 * command counts and busiest callers to its report.
+	 */
+	private void reportCommands(ITestResult result) {
+		try {
+			CommandTracer.TestTrace trace = CommandTracer.finishTest();
+			if (!trace.isEmpty()) {
+				File timeline = new File(result.getTestContext().getOutputDirectory(),
+						"command-trace/" + trace.getName() + "_" + result.getStartMillis() + ".csv");
+				trace.writeTimeline(timeline);
+				extentTest.get().info(MarkupHelper.createTable(latencyTable(trace.getCommands(), false)));
+				extentTest.get().info(MarkupHelper.createTable(latencyTable(trace.getBusiestCallers(10), false)));
+				extentTest.get().info("Command timeline : " + timeline.getAbsolutePath());
+			}
+		} catch (Exception ex) {
+			ex.printStackTrace();
+		}
+	}
+
+	/**
+	 * Publishes the wait latencies and WebDriver commands of the suite, per condition type and per
+	 * page-object method, to the Extent report and to wait-latency.json.
+	 */
+	@Override
+	public void onFinish(ISuite suite) {
+		try {
+			if (extent != null && !WaitStatistics.getByCondition().isEmpty()) {
+				ExtentTest waits = extent.createTest("Wait latency", "Explicit waits of the suite");
+				waits.info("<b>Per condition</b>");
+				waits.info(MarkupHelper.createTable(latencyTable(WaitStatistics.getByCondition(), true)));
+				waits.info("<b>Per page-object method</b>");
+				waits.info(MarkupHelper.createTable(latencyTable(WaitStatistics.getByPageMethod(), false)));
+			}
+			if (extent != null && !CommandTracer.getByCommand().isEmpty()) {
+				ExtentTest commands = extent.createTest("WebDriver commands", "Commands sent to the browsers");
+				commands.info("<b>Per command</b>");
+				commands.info(MarkupHelper.createTable(latencyTable(CommandTracer.getByCommand(), false)));
+				commands.info("<b>Per caller</b>");
+				commands.info(MarkupHelper.createTable(latencyTable(CommandTracer.getByCaller(), false)));
+			}
+			if (extent != null && LocatorProfiler.isEnabled()) {
+				ExtentTest locators = extent.createTest("Locator profile", "Slowest locators of each page object");
+				for (Map.Entry<String, List<LocatorProfiler.Entry>> page : LocatorProfiler.getSlowestLocators(10)
+						.entrySet()) {
+					locators.info("<b>" + page.getKey() + "</b>");
+					locators.info(MarkupHelper.createTable(locatorTable(page.getValue())));
+				}
+			}
+			String connections = DatabaseUtility.getConnectionPoolStatistics();
+			if (extent != null && connections != null) {
+				extent.setSystemInfo("DB connection pool", connections);
+			}
+			if (extent != null) {
+				extent.flush();
+			}
+			Shard shard = new Shard();
+			String outputDirectory = shard.isSharded() ? ShardReportMerger.SHARD_OUTPUT + shard.getName()
+					: suite.getOutputDirectory();
+			WaitStatistics.write(new File(outputDirectory, "wait-latency.json"));
+			CommandTracer.write(new File(outputDirectory, "command-trace.json"));
+			if (LocatorProfiler.isEnabled()) {
+				LocatorProfiler.write(new File(outputDirectory, "locator-profile.json"));
+			}
+			Reporter.log("Wait latencies and command traces written to " + outputDirectory, true);
+		} catch (Exception ex) {
+			ex.printStackTrace();
+		}
+	}
+
+	private String[][] latencyTable(Map<String, LatencyHistogram> histograms, boolean withOutcomes) {
+		String[][] table = new String[histograms.size() + 1][];
+		table[0] = withOutcomes
+				? new String[] { "Wait", "Count", "p50 ms", "p95 ms", "p99 ms", "Max ms", "Timeouts", "Near timeout" }
+				: new String[] { "Wait", "Count", "p50 ms", "p95 ms", "p99 ms", "Max ms" };
+		int row = 1;
+		for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+			Map<String, Object> summary = entry.getValue().toSummary();
+			String[] cells = { entry.getKey(), String.valueOf(summary.get("count")), String.valueOf(summary.get("p50Ms")),
+					String.valueOf(summary.get("p95Ms")), String.valueOf(summary.get("p99Ms")),
+					String.valueOf(summary.get("maxMs")) };
+			if (withOutcomes) {
+				cells = Arrays.copyOf(cells, 8);
+				cells[6] = String.valueOf(WaitStatistics.getCount(entry.getKey(), "timeout"));
+				cells[7] = String.valueOf(WaitStatistics.getCount(entry.getKey(), "nearTimeout"));
+			}
+			table[row++] = cells;
+		}
+		return table;
+	}
+
+	private String[][] locatorTable(List<LocatorProfiler.Entry> entries) {
+		String[][] table = new String[entries.size() + 1][];
+		table[0] = new String[] { "Field", "Locator", "Lookups", "Total ms", "p95 ms", "Max ms", "Substitution" };
+		int row = 1;
+		for (LocatorProfiler.Entry entry : entries) {
+			Map<String, Object> summary = entry.getLookups().toSummary();
+			table[row++] = new String[] { entry.getField() == null ? "getElement" : entry.getField(),
+					entry.getLocator().toString(), String.valueOf(summary.get("count")),
+					String.valueOf(summary.get("totalMs")), String.valueOf(summary.get("p95Ms")),
+					String.valueOf(summary.get("maxMs")), entry.getSubstitution() };
+		}
+		return table;
+	}
+
 	@Override
 	public void onTestSkipped(ITestResult result) {
 		// TODO Auto-generated method stub
@@ -0,0 +1,125 @@
+/**
+ * This class merges the reports of the shards of a run into one report.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.reporter;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.kpit.automation.utilities.LoggerUtility;
+
+/**
+ * Merge step of a sharded run. Every shard leaves an Extent JSON archive and a
+ * testng-results.xml under {@link #SHARD_OUTPUT}; this class rebuilds them into
+ * a single Extent report and logs the combined totals and timings. The merge
+ * exits with status 1 when no shard output is found.
+ *
+ * <pre>
+ * mvn test -Dshard=1/3   (one per worker)
+ * mvn exec:java -Dexec.mainClass=com.kpit.automation.reporter.ShardReportMerger
+ * </pre>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ShardReportMerger {
+
+	/**
+	 * Logger instance, configuring log4j when the merge runs on its own.
+	 */
+	private static final Logger log = new LoggerUtility().getLogger(ShardReportMerger.class);
+
+	/**
+	 * Folder holding one sub-folder per shard.
+	 */
+	public static final String SHARD_OUTPUT = "./test-output/shards/";
+
+	/**
+	 * Name of the Extent JSON archive written by each shard.
+	 */
+	public static final String EXTENT_JSON = "extent.json";
+
+	private static DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd_MMM_yyyy\\HH_mm_ss");
+
+	public static void main(String[] args) throws Exception {
+		File shardRoot = new File(args.length > 0 ? args[0] : SHARD_OUTPUT);
+		File[] shards = shardRoot.listFiles(File::isDirectory);
+		if (shards == null || shards.length == 0) {
+			log.error("No shard output found in " + shardRoot.getAbsolutePath());
+			System.exit(1);
+		}
+
+		ExtentSparkReporter extentSparkReporter = new ExtentSparkReporter(
+				"./src/test/resources/reports/merged/" + dtf.format(LocalDateTime.now()));
+		extentSparkReporter.config().setTheme(Theme.DARK);
+		extentSparkReporter.config().setReportName("KOST Middleware API Results");
+		extentSparkReporter.config().setDocumentTitle("UI Test Results");
+		extentSparkReporter.config().setEncoding("utf-8");
+
+		ExtentReports extentReports = new ExtentReports();
+		extentReports.attachReporter(extentSparkReporter);
+
+		int total = 0, passed = 0, failed = 0, skipped = 0;
+		long slowestShard = 0, cumulative = 0;
+		for (File shard : shards) {
+			File json = new File(shard, EXTENT_JSON);
+			if (json.exists()) {
+				extentReports.createDomainFromJsonArchive(json.getPath());
+			}
+			File results = new File(shard, "testng-results.xml");
+			if (results.exists()) {
+				Element root = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(results)
+						.getDocumentElement();
+				total += intAttribute(root, "total");
+				passed += intAttribute(root, "passed");
+				failed += intAttribute(root, "failed");
+				skipped += intAttribute(root, "skipped");
+				long duration = suiteDuration(root.getOwnerDocument());
+				cumulative += duration;
+				slowestShard = Math.max(slowestShard, duration);
+				log.info(shard.getName() + " : " + intAttribute(root, "total") + " tests in " + duration + " ms");
+			}
+		}
+
+		extentReports.setSystemInfo("Shards", String.valueOf(shards.length));
+		extentReports.setSystemInfo("Totals", total + " tests, " + passed + " passed, " + failed + " failed, "
+				+ skipped + " skipped");
+		extentReports.setSystemInfo("Wall clock", slowestShard + " ms (" + cumulative + " ms across shards)");
+		extentReports.flush();
+
+		log.info("Merged " + shards.length + " shards : " + total + " tests, " + passed + " passed, "
+				+ failed + " failed, " + skipped + " skipped, wall clock " + slowestShard + " ms, cumulative "
+				+ cumulative + " ms");
+	}
+
+	private static int intAttribute(Element element, String name) {
+		String value = element.getAttribute(name);
+		return value.isEmpty() ? 0 : Integer.parseInt(value);
+	}
+
+	private static long suiteDuration(Document document) {
+		long duration = 0;
+		NodeList suites = document.getElementsByTagName("suite");
+		for (int i = 0; i < suites.getLength(); i++) {
+			String value = ((Element) suites.item(i)).getAttribute("duration-ms");
+			duration += value.isEmpty() ? 0 : Long.parseLong(value);
+		}
+		return duration;
+	}
+}
@@ -0,0 +1,42 @@
+/**
+ * This class writes the TestNG results of a shard into the folder of that shard.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.reporter;
+
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.testng.IReporter;
+import org.testng.ISuite;
+import org.testng.reporters.XMLReporter;
+import org.testng.xml.XmlSuite;
+
+import com.kpit.automation.base.Shard;
+
+/**
+ * Writes the TestNG results of a sharded run into the folder of its shard, so
+ * that workers sharing a workspace do not overwrite each other's
+ * testng-results.xml and {@link ShardReportMerger} can add them up.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ShardReporter implements IReporter {
+
+	private static final Logger log = Logger.getLogger(ShardReporter.class);
+
+	@Override
+	public void generateReport(List<XmlSuite> xmlSuites, List<ISuite> suites, String outputDirectory) {
+		Shard shard = new Shard();
+		if (shard.isSharded()) {
+			String folder = ShardReportMerger.SHARD_OUTPUT + shard.getName();
+			new XMLReporter().generateReport(xmlSuites, suites, folder);
+			log.info("TestNG results of shard " + shard.getName() + " written to " + folder);
+		}
+	}
+}
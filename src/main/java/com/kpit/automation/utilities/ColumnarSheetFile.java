@@ -0,0 +1,286 @@
+/**
+ * ColumnarSheetFile class compiles worksheets to binary columnar files and maps them back in memory.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Binary columnar copies of the test data sheets. The first time a sheet is
+ * read, it is compiled to {@code <cache dir>/<workbook>-<sheet>-<hash>.col},
+ * the hash being that of the workbook path and the exact sheet name; later
+ * runs, and forked JVMs, map that file read-only instead of parsing the
+ * workbook, so the data is shared through the page cache and a data provider
+ * starts in milliseconds. A file is valid only for the workbook whose SHA-256
+ * it records and for the sheet whose name it records, editing the workbook
+ * recompiles it.
+ *
+ * <p>
+ * Layout, big-endian: magic, version, SHA-256 of the workbook (32 bytes),
+ * column count, row count, string count, string id of the sheet name; the end
+ * offset of each string in the
+ * string heap; the string id of each header; the string ids of each column, one
+ * column after the other; the UTF-8 string heap. Every distinct text is stored
+ * once.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class ColumnarSheetFile {
+
+	private static final Logger log = Logger.getLogger(ColumnarSheetFile.class);
+
+	private static final int MAGIC = 0x50584331; // "PXC1"
+	private static final int VERSION = 2;
+	private static final int HASH_LENGTH = 32;
+	private static final int COLUMNS = 4 + 4 + HASH_LENGTH;
+	private static final int ROWS = COLUMNS + 4;
+	private static final int STRING_COUNT = ROWS + 4;
+	private static final int SHEET_NAME = STRING_COUNT + 4;
+	private static final int HEADER_LENGTH = SHEET_NAME + 4;
+
+	private ColumnarSheetFile() {
+	}
+
+	/**
+	 * Computes the SHA-256 of a workbook.
+	 *
+	 * @param workbook the workbook file
+	 * @return the hash
+	 * @throws IOException if the file cannot be read
+	 */
+	public static byte[] hash(File workbook) throws IOException {
+		try (InputStream input = Files.newInputStream(workbook.toPath())) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[65536];
+			for (int read = input.read(buffer); read > 0; read = input.read(buffer)) {
+				digest.update(buffer, 0, read);
+			}
+			return digest.digest();
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Maps the compiled copy of a sheet.
+	 *
+	 * @param cacheDirectory the directory of the compiled sheets
+	 * @param workbook       the workbook file
+	 * @param hash           the SHA-256 of the workbook
+	 * @param sheetName      the name of the sheet
+	 * @return the mapped sheet, or null if it was not compiled from this version of
+	 *         the workbook or from this sheet
+	 * @throws IOException if the file cannot be mapped
+	 */
+	public static SheetData open(File cacheDirectory, File workbook, byte[] hash, String sheetName)
+			throws IOException {
+		File file = fileOf(cacheDirectory, workbook, sheetName);
+		if (!file.isFile() || file.length() < HEADER_LENGTH) {
+			return null;
+		}
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()); // Stays valid once closed
+		}
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			return null;
+		}
+		byte[] recorded = new byte[HASH_LENGTH];
+		buffer.get(8, recorded);
+		if (!Arrays.equals(recorded, hash)) {
+			return null;
+		}
+		MappedSheetData sheet = new MappedSheetData(sheetName, buffer);
+		if (!sheetName.equals(sheet.recordedName)) {
+			log.info(file + " holds sheet " + sheet.recordedName + ", not " + sheetName + ", compiling it again");
+			return null;
+		}
+		return sheet;
+	}
+
+	/**
+	 * Compiles sheets, replacing their previous copies atomically so that
+	 * concurrent JVMs never map a partial file.
+	 *
+	 * @param cacheDirectory the directory of the compiled sheets
+	 * @param workbook       the workbook file
+	 * @param hash           the SHA-256 of the workbook
+	 * @param sheets         the parsed sheets of the workbook
+	 * @throws IOException if a file cannot be written
+	 */
+	public static void write(File cacheDirectory, File workbook, byte[] hash, Map<String, SheetData> sheets)
+			throws IOException {
+		Files.createDirectories(cacheDirectory.toPath());
+		for (SheetData sheet : sheets.values()) {
+			File file = fileOf(cacheDirectory, workbook, sheet.getName());
+			File temporary = File.createTempFile(file.getName(), ".tmp", cacheDirectory);
+			try {
+				Files.write(temporary.toPath(), encode(hash, sheet));
+				Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temporary.toPath());
+			}
+			log.info("Compiled " + workbook.getName() + "/" + sheet.getName() + " to " + file);
+		}
+	}
+
+	private static File fileOf(File cacheDirectory, File workbook, String sheetName) {
+		// The sanitised names of two sheets may collide, the hash of the exact name tells them apart
+		String name = workbook.getName().replaceAll("\\.xlsx?$", "") + "-" + sheetName + "-"
+				+ Integer.toHexString((workbook.getAbsolutePath() + '\0' + sheetName).hashCode());
+		return new File(cacheDirectory, name.replaceAll("[^\\w.-]", "_") + ".col");
+	}
+
+	private static byte[] encode(byte[] hash, SheetData sheet) {
+		Map<String, Integer> ids = new HashMap<String, Integer>();
+		List<byte[]> strings = new ArrayList<byte[]>();
+		int columns = sheet.getColumnCount();
+		int rows = sheet.getRowCount();
+		int nameId = id(sheet.getName(), ids, strings);
+		int[] headerIds = new int[columns];
+		int[] cellIds = new int[columns * rows];
+		String[] headers = sheet.getHeaders();
+		for (int column = 0; column < columns; column++) {
+			headerIds[column] = id(headers[column], ids, strings);
+			for (int row = 0; row < rows; row++) {
+				cellIds[column * rows + row] = id(sheet.getCell(row, column), ids, strings);
+			}
+		}
+		int heap = 0;
+		for (byte[] string : strings) {
+			heap += string.length;
+		}
+		ByteBuffer buffer = ByteBuffer
+				.allocate(HEADER_LENGTH + 4 * (strings.size() + columns + cellIds.length) + heap);
+		buffer.putInt(MAGIC).putInt(VERSION).put(hash).putInt(columns).putInt(rows).putInt(strings.size())
+				.putInt(nameId);
+		int end = 0;
+		for (byte[] string : strings) {
+			end += string.length;
+			buffer.putInt(end);
+		}
+		for (int id : headerIds) {
+			buffer.putInt(id);
+		}
+		for (int id : cellIds) {
+			buffer.putInt(id);
+		}
+		for (byte[] string : strings) {
+			buffer.put(string);
+		}
+		return buffer.array();
+	}
+
+	private static int id(String text, Map<String, Integer> ids, List<byte[]> strings) {
+		String value = text == null ? "" : text;
+		Integer id = ids.get(value);
+		if (id == null) {
+			id = strings.size();
+			ids.put(value, id);
+			strings.add(value.getBytes(StandardCharsets.UTF_8));
+		}
+		return id;
+	}
+
+	/**
+	 * Sheet read from a mapped columnar file. Strings are decoded on first access
+	 * and kept, the cells themselves stay in the mapping.
+	 */
+	static final class MappedSheetData extends SheetData {
+		private final ByteBuffer buffer;
+		private final int columns;
+		private final int rows;
+		private final int offsets;
+		private final int cells;
+		private final int heap;
+		private final String[] strings;
+		private final String recordedName;
+
+		MappedSheetData(String name, ByteBuffer buffer) {
+			this(name, buffer, buffer.getInt(COLUMNS), buffer.getInt(ROWS), buffer.getInt(STRING_COUNT));
+		}
+
+		private MappedSheetData(String name, ByteBuffer buffer, int columns, int rows, int stringCount) {
+			super(name, headers(buffer, columns, stringCount), null);
+			this.buffer = buffer;
+			this.columns = columns;
+			this.rows = rows;
+			this.offsets = HEADER_LENGTH;
+			this.cells = HEADER_LENGTH + 4 * (stringCount + columns);
+			this.heap = cells + 4 * columns * rows;
+			this.strings = new String[stringCount];
+			this.recordedName = string(buffer.getInt(SHEET_NAME));
+		}
+
+		private static String[] headers(ByteBuffer buffer, int columns, int stringCount) {
+			String[] headers = new String[columns];
+			int heap = HEADER_LENGTH + 4 * (stringCount + columns + columns * buffer.getInt(ROWS));
+			for (int column = 0; column < columns; column++) {
+				int id = buffer.getInt(HEADER_LENGTH + 4 * (stringCount + column));
+				headers[column] = decode(buffer, HEADER_LENGTH, heap, id);
+			}
+			return headers;
+		}
+
+		private static String decode(ByteBuffer buffer, int offsets, int heap, int id) {
+			int start = id == 0 ? 0 : buffer.getInt(offsets + 4 * (id - 1));
+			int end = buffer.getInt(offsets + 4 * id);
+			byte[] bytes = new byte[end - start];
+			buffer.get(heap + start, bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public int getColumnCount() {
+			return columns;
+		}
+
+		@Override
+		public int getRowCount() {
+			return rows;
+		}
+
+		@Override
+		public String getCell(int row, int column) {
+			if (row < 0 || row >= rows || column < 0 || column >= columns) {
+				throw new IndexOutOfBoundsException("Cell " + row + "," + column + " outside " + getName());
+			}
+			return string(buffer.getInt(cells + 4 * (column * rows + row)));
+		}
+
+		private String string(int id) {
+			String value = strings[id];
+			if (value == null) {
+				value = decode(buffer, offsets, heap, id);
+				strings[id] = value; // Racy but idempotent, every thread decodes the same text
+			}
+			return value;
+		}
+	}
+}
@@ -0,0 +1,505 @@
+/**
+ * This class keeps a bounded pool of JDBC connections reused across database verifications.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Bounded pool of JDBC connections. A verification leases a connection,
+ * prepares its query through the statement cache of that connection and
+ * closes the lease, which returns the connection to the pool instead of
+ * closing it, so that the next verification does not pay the connection
+ * set-up to the database again.
+ *
+ * <p>
+ * A connection idle for longer than the validation interval is checked with
+ * {@link Connection#isValid(int)} before it is leased, and replaced if the
+ * check fails. A background task closes connections idle for longer than the
+ * idle timeout and logs, once, the lease stack of any connection held for
+ * longer than the leak threshold.
+ * </p>
+ *
+ * <p>
+ * A query run through a {@link CancelHandle} can be cancelled on the database
+ * from another thread while its statement executes.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ConnectionPool extends LoggerUtility {
+
+	/**
+	 * The Logger instance for this class.
+	 */
+	private Logger log = getLogger(ConnectionPool.class);
+
+	/**
+	 * Handle of the task running on the current thread, bound to the connections
+	 * the task leases.
+	 */
+	private static final ThreadLocal<CancelHandle> currentHandle = new ThreadLocal<CancelHandle>();
+
+	private final String url;
+	private final String username;
+	private final String password;
+	private final int maxSize;
+	private final long acquireTimeoutMillis;
+	private final long idleTimeoutMillis;
+	private final long validationIntervalMillis;
+	private final long leakThresholdMillis;
+	private final int statementCacheSize;
+
+	private final BlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<PooledConnection>();
+	private final Set<PooledConnection> leased = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger reserved = new AtomicInteger();
+	private final ScheduledExecutorService evictor;
+	private volatile boolean closed;
+
+	private final LatencyHistogram acquireLatency = new LatencyHistogram();
+	private final AtomicLong created = new AtomicLong();
+	private final AtomicLong validationFailures = new AtomicLong();
+	private final AtomicLong evicted = new AtomicLong();
+	private final AtomicLong leaks = new AtomicLong();
+	private final AtomicLong statementHits = new AtomicLong();
+	private final AtomicLong statementMisses = new AtomicLong();
+
+	/**
+	 * Constructor for ConnectionPool.
+	 *
+	 * @param url                      the JDBC URL of the database
+	 * @param username                 the database user
+	 * @param password                 the password of the user
+	 * @param maxSize                  the maximum number of open connections
+	 * @param acquireTimeoutMillis     the longest wait for a free connection
+	 * @param idleTimeoutMillis        the idle time after which a connection is
+	 *                                 closed
+	 * @param validationIntervalMillis the idle time after which a connection is
+	 *                                 validated before being leased
+	 * @param leakThresholdMillis      the lease time after which a connection is
+	 *                                 reported as leaked
+	 * @param statementCacheSize       the number of prepared statements kept per
+	 *                                 connection
+	 */
+	public ConnectionPool(String url, String username, String password, int maxSize, long acquireTimeoutMillis,
+			long idleTimeoutMillis, long validationIntervalMillis, long leakThresholdMillis, int statementCacheSize) {
+		this.url = url;
+		this.username = username;
+		this.password = password;
+		this.maxSize = Math.max(1, maxSize);
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.validationIntervalMillis = validationIntervalMillis;
+		this.leakThresholdMillis = leakThresholdMillis;
+		this.statementCacheSize = Math.max(1, statementCacheSize);
+		this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "connection-pool-evictor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.max(1000, Math.min(idleTimeoutMillis, leakThresholdMillis) / 2);
+		evictor.scheduleWithFixedDelay(this::evict, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Leases a valid connection, reusing an idle one, opening one if the pool has
+	 * capacity left, or waiting for a connection to be released otherwise.
+	 *
+	 * @return the leased connection, to be closed once the verification is done
+	 * @throws SQLException if no connection could be opened or freed in time
+	 */
+	public PooledConnection lease() throws SQLException {
+		long start = System.nanoTime();
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+		PooledConnection connection = null;
+		try {
+			while (connection == null) {
+				if (closed) {
+					throw new SQLException("Connection pool is closed");
+				}
+				connection = idle.pollFirst(); // Most recently used first, the warmest connection
+				if (connection == null && reserved.incrementAndGet() <= maxSize) {
+					connection = open();
+				} else if (connection == null) {
+					reserved.decrementAndGet();
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						throw new SQLException("No database connection freed within " + acquireTimeoutMillis
+								+ " ms, " + leased.size() + " connections leased");
+					}
+					connection = idle.pollFirst(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)),
+							TimeUnit.NANOSECONDS);
+				}
+				if (connection != null && !isValid(connection)) {
+					discard(connection);
+					connection = null;
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a database connection", ex);
+		}
+		connection.leasedAt = System.currentTimeMillis();
+		connection.leaseStack = new Exception("Connection leased by " + Thread.currentThread().getName());
+		connection.leakReported = false;
+		leased.add(connection);
+		acquireLatency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+		CancelHandle handle = currentHandle.get();
+		if (handle != null && !connection.bind(handle)) {
+			release(connection);
+			throw new SQLException("Query cancelled");
+		}
+		return connection;
+	}
+
+	/**
+	 * Closes every connection of the pool and stops the background task. Leased
+	 * connections are closed when they are released.
+	 */
+	public void shutdown() {
+		closed = true;
+		evictor.shutdownNow();
+		log.info(getStatistics());
+		List<PooledConnection> all = new ArrayList<PooledConnection>();
+		idle.drainTo(all);
+		for (PooledConnection connection : all) {
+			discard(connection);
+		}
+	}
+
+	/**
+	 * Returns a one line summary of the pool metrics.
+	 *
+	 * @return the pool statistics
+	 */
+	public String getStatistics() {
+		Map<String, Object> acquire = acquireLatency.toSummary();
+		return "DB connection pool : leases=" + acquire.get("count") + ", acquire p50=" + acquire.get("p50Ms")
+				+ " ms, p99=" + acquire.get("p99Ms") + " ms, max=" + acquire.get("maxMs") + " ms, active="
+				+ getActiveCount() + ", idle=" + getIdleCount() + ", opened=" + created.get()
+				+ ", validation failures=" + validationFailures.get() + ", evicted=" + evicted.get() + ", leaks="
+				+ leaks.get() + ", statement cache hits=" + statementHits.get() + ", misses="
+				+ statementMisses.get();
+	}
+
+	/**
+	 * Returns the latencies of the leases, waits for a free connection included.
+	 *
+	 * @return the acquire latency histogram
+	 */
+	public LatencyHistogram getAcquireLatency() {
+		return acquireLatency;
+	}
+
+	public int getActiveCount() {
+		return leased.size();
+	}
+
+	public int getIdleCount() {
+		return idle.size();
+	}
+
+	/**
+	 * Opens a connection against a capacity slot already reserved by the caller.
+	 */
+	private PooledConnection open() throws SQLException {
+		try {
+			log.info("Connecting to the Database");
+			PooledConnection connection = new PooledConnection(DriverManager.getConnection(url, username, password));
+			created.incrementAndGet();
+			return connection;
+		} catch (SQLException | RuntimeException ex) {
+			reserved.decrementAndGet();
+			throw ex;
+		}
+	}
+
+	private boolean isValid(PooledConnection connection) {
+		if (System.currentTimeMillis() - connection.releasedAt < validationIntervalMillis) {
+			return true; // Used moments ago, not worth a round-trip
+		}
+		try {
+			if (connection.connection.isValid(5)) {
+				return true;
+			}
+		} catch (SQLException ex) {
+			log.info("Database connection validation failed : " + ex.getMessage());
+		}
+		validationFailures.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Returns a connection to the pool, or closes it if it is broken, was left in
+	 * a transaction or the pool is closed.
+	 */
+	private void release(PooledConnection connection) {
+		if (!leased.remove(connection)) {
+			return;
+		}
+		connection.unbind();
+		boolean reusable = !closed;
+		try {
+			reusable = reusable && !connection.connection.isClosed() && connection.connection.getAutoCommit();
+		} catch (SQLException ex) {
+			reusable = false;
+		}
+		if (reusable) {
+			connection.releasedAt = System.currentTimeMillis();
+			idle.offerFirst(connection);
+		} else {
+			discard(connection);
+		}
+	}
+
+	private void discard(PooledConnection connection) {
+		reserved.decrementAndGet();
+		connection.closeQuietly();
+		log.info("Connection to the Database closed");
+	}
+
+	/**
+	 * Closes the connections idle for too long and reports the leased ones held
+	 * for too long.
+	 */
+	private void evict() {
+		try {
+			long now = System.currentTimeMillis();
+			Iterator<PooledConnection> oldestFirst = idle.descendingIterator();
+			while (oldestFirst.hasNext()) {
+				PooledConnection connection = oldestFirst.next();
+				if (now - connection.releasedAt > idleTimeoutMillis && idle.remove(connection)) {
+					evicted.incrementAndGet();
+					discard(connection);
+				}
+			}
+			for (PooledConnection connection : leased) {
+				if (!connection.leakReported && now - connection.leasedAt > leakThresholdMillis) {
+					connection.leakReported = true;
+					leaks.incrementAndGet();
+					log.error("Database connection leased for more than " + leakThresholdMillis
+							+ " ms and not released", connection.leaseStack);
+				}
+			}
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			log.error(ex);
+		}
+	}
+
+	/**
+	 * Cancels the query of one task. The connections the task leases while it
+	 * runs through {@link #run(Callable)} are bound to the handle until they are
+	 * released, and {@link #cancel()} cancels the statement executing on them,
+	 * never a statement of the task that runs next on the same thread or
+	 * connection.
+	 */
+	public static final class CancelHandle {
+		private volatile boolean cancelled;
+		private volatile PooledConnection connection;
+
+		/**
+		 * Runs a task, binding the connections it leases to this handle.
+		 *
+		 * @param task the task running the queries
+		 * @return the result of the task
+		 * @throws Exception if the task fails
+		 */
+		public <T> T run(Callable<T> task) throws Exception {
+			currentHandle.set(this);
+			try {
+				return task.call();
+			} finally {
+				currentHandle.remove();
+			}
+		}
+
+		/**
+		 * Cancels the statement the task is executing on the database, and fails the
+		 * leases and statements the task would start afterwards. The task gets an
+		 * {@link SQLException} from the cancelled query.
+		 *
+		 * @return true if an executing statement was cancelled
+		 */
+		public boolean cancel() {
+			cancelled = true;
+			PooledConnection current = connection;
+			return current != null && current.cancel(this);
+		}
+	}
+
+	/**
+	 * A leased connection with its cache of prepared statements. A lease is used
+	 * by one thread at a time; closing it returns the connection to the pool.
+	 */
+	public final class PooledConnection implements AutoCloseable {
+		private final Connection connection;
+		private final Map<String, PreparedStatement> statements;
+		private volatile long leasedAt;
+		private volatile long releasedAt;
+		private volatile Exception leaseStack;
+		private volatile boolean leakReported;
+		private CancelHandle handle;
+		private PreparedStatement running;
+
+		PooledConnection(Connection connection) {
+			this.connection = connection;
+			this.releasedAt = System.currentTimeMillis();
+			this.statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+					if (size() > statementCacheSize) {
+						closeQuietly(eldest.getValue());
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		/**
+		 * Returns the prepared statement of a query, preparing it only the first time
+		 * the query runs on this connection. The statement stays open in the cache:
+		 * close its result sets, not the statement. It is the statement
+		 * {@link CancelHandle#cancel()} cancels until {@link #completed()} is called
+		 * or the lease is closed.
+		 *
+		 * @param sql the query, with {@code ?} placeholders for its parameters
+		 * @return the prepared statement, its parameters cleared
+		 * @throws SQLException if the query cannot be prepared or was cancelled
+		 */
+		public PreparedStatement prepare(String sql) throws SQLException {
+			PreparedStatement statement = statements.get(sql);
+			if (statement != null && !statement.isClosed()) {
+				statementHits.incrementAndGet();
+				statement.clearParameters();
+			} else {
+				statementMisses.incrementAndGet();
+				statement = connection.prepareStatement(sql);
+				statements.put(sql, statement);
+			}
+			synchronized (this) {
+				if (handle != null && handle.cancelled) {
+					throw new SQLException("Query cancelled");
+				}
+				running = statement;
+			}
+			return statement;
+		}
+
+		/**
+		 * Marks the statement prepared last as completed, its results read: it is no
+		 * longer cancelled when the task is, the next query on the connection may
+		 * reuse it.
+		 */
+		public synchronized void completed() {
+			running = null;
+		}
+
+		/**
+		 * Returns the underlying connection, for calls the lease does not cover. It
+		 * must not be closed.
+		 *
+		 * @return the JDBC connection
+		 */
+		public Connection getConnection() {
+			return connection;
+		}
+
+		/**
+		 * Returns the connection to the pool.
+		 */
+		@Override
+		public void close() {
+			release(this);
+		}
+
+		/**
+		 * Binds the lease to the handle of the task that leased it.
+		 *
+		 * @return false if the task is already cancelled
+		 */
+		private synchronized boolean bind(CancelHandle by) {
+			if (by.cancelled) {
+				return false;
+			}
+			handle = by;
+			by.connection = this;
+			return true;
+		}
+
+		private synchronized void unbind() {
+			if (handle != null && handle.connection == this) {
+				handle.connection = null;
+			}
+			handle = null;
+			running = null;
+		}
+
+		/**
+		 * Cancels the executing statement, if the lease is still bound to the handle.
+		 * Holding the lock of the lease, it cannot be released and leased again in
+		 * the meantime.
+		 */
+		private synchronized boolean cancel(CancelHandle by) {
+			if (handle != by || running == null) {
+				return false;
+			}
+			try {
+				running.cancel();
+				return true;
+			} catch (SQLException ex) {
+				log.error("Some error occured while cancelling statement", ex);
+				return false;
+			}
+		}
+
+		private void closeQuietly() {
+			for (PreparedStatement statement : statements.values()) {
+				closeQuietly(statement);
+			}
+			statements.clear();
+			try {
+				connection.close();
+			} catch (SQLException ex) {
+				log.error("Some error occured while closing database connection", ex);
+			}
+		}
+
+		private void closeQuietly(PreparedStatement statement) {
+			try {
+				statement.close();
+			} catch (SQLException ex) {
+				log.error("Some error occured while closing prepared statement", ex);
+			}
+		}
+	}
+}
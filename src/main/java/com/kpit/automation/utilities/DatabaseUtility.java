@@ -7,18 +7,20 @@
  */
 package com.kpit.automation.utilities;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
-import java.sql.Statement;
+import java.sql.SQLException;
 import java.util.HashMap;
 
 import org.apache.log4j.Logger;
 
+import com.kpit.automation.helpers.ColumnStore;
+
 /**
  * Utility class to interact with a database. 
- * It extends the {@link FileReaderUtility} class.
+ * It extends the {@link FileReaderUtility} class. Connections are leased from
+ * a {@link ConnectionPool} shared by the whole run.
  *
  * @author Aakash Saxena
  * @version 1.0
@@ -31,39 +33,167 @@ public class DatabaseUtility extends FileReaderUtility {
 	 */
 	private Logger log = getLogger(DatabaseUtility.class);
 
+	/**
+	 * The connection pool of the run, created on the first query.
+	 */
+	private static volatile ConnectionPool pool;
+
+	/**
+	 * The statistics of the last pool closed, kept for the suite reports.
+	 */
+	private static volatile String closedPoolStatistics;
+
+	/**
+	 * This method returns the connection pool of the run, creating it from the
+	 * {@code db.*} settings on first use.
+	 *
+	 * @return the connection pool
+	 */
+	public ConnectionPool getConnectionPool() {
+		ConnectionPool current = pool;
+		if (current == null) {
+			synchronized (DatabaseUtility.class) {
+				current = pool;
+				if (current == null) {
+					current = new ConnectionPool(getConfigData("db.url"), getConfigData("db.username"),
+							getConfigData("db.password"), Integer.parseInt(getConfigData("db.pool.size", "4")),
+							Long.parseLong(getConfigData("db.pool.acquire.timeout.ms", "30000")),
+							Long.parseLong(getConfigData("db.pool.idle.timeout.ms", "300000")),
+							Long.parseLong(getConfigData("db.pool.validation.interval.ms", "5000")),
+							Long.parseLong(getConfigData("db.pool.leak.threshold.ms", "120000")),
+							Integer.parseInt(getConfigData("db.pool.statement.cache", "32")));
+					pool = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * This method closes the connection pool of the run, if one was created.
+	 *
+	 * @return the pool statistics, or null if no query was run
+	 */
+	public static String shutdownConnectionPool() {
+		synchronized (DatabaseUtility.class) {
+			ConnectionPool current = pool;
+			pool = null;
+			if (current == null) {
+				return null;
+			}
+			current.shutdown();
+			closedPoolStatistics = current.getStatistics();
+			return closedPoolStatistics;
+		}
+	}
+
+	/**
+	 * This method returns the statistics of the connection pool of the run, open
+	 * or already closed.
+	 *
+	 * @return the pool statistics, or null if no query was run
+	 */
+	public static String getConnectionPoolStatistics() {
+		ConnectionPool current = pool;
+		return current != null ? current.getStatistics() : closedPoolStatistics;
+	}
+
 	/**
 	 * This method retrieves data from the database using the provided SQL query.
 	 *
-	 * @param sql The SQL query to execute.
+	 * @param sql        The SQL query to execute, with {@code ?} placeholders for
+	 *                   its parameters.
+	 * @param parameters The values of the placeholders, in order.
 	 * @return A HashMap containing the retrieved data.
-	 * @throws Exception If any error occurs during database interaction.
 	 */
-	public HashMap<String, String> getDataFromDB(String sql) {
-		
-		HashMap<String, String> data_map = new HashMap<>();
+	public HashMap<String, String> getDataFromDB(String sql, Object... parameters) {
 		try {
-			log.info("Connecting to the Database"); // Establishing connection to the database
-			Connection con = DriverManager.getConnection(getConfigData("db.url"), getConfigData("db.username"),
-					getConfigData("db.password")); // Creating connection object
-			
-			Statement stmt = con.createStatement(); // Creating statement object
-			ResultSet rs = stmt.executeQuery(sql); // Executing query and getting result set
-			ResultSetMetaData md = rs.getMetaData(); // Getting metadata of result set
-			
-			while (rs.next()) { // Loop through result set
-				for (int i = 1; i <= md.getColumnCount(); i++) { // Loop through columns
-					data_map.put(md.getColumnName(i), rs.getString(i)); // Putting data into HashMap
-				}
-			}
-			
-			con.close(); // Closing the connection to the database
-			log.info("Connection to the Database closed"); // Logging successful DB closure
-			
+			return queryRow(sql, parameters);
 		} catch (Exception ex) { // Catching any exceptions
 			ex.printStackTrace(); // Printing stack trace
 			log.error(ex); // Logging the exception
 		}
-		
+		return new HashMap<>();
+	}
+
+	/**
+	 * This method retrieves data from the database as
+	 * {@link #getDataFromDB(String, Object...)} does, but lets a failing query
+	 * fail the caller instead of returning an empty map.
+	 *
+	 * @param sql        The SQL query to execute, with {@code ?} placeholders for
+	 *                   its parameters.
+	 * @param parameters The values of the placeholders, in order.
+	 * @return A HashMap containing the retrieved data.
+	 * @throws SQLException If the query fails.
+	 */
+	public HashMap<String, String> queryRow(String sql, Object... parameters) throws SQLException {
+		HashMap<String, String> data_map = new HashMap<>();
+		try (ConnectionPool.PooledConnection con = getConnectionPool().lease()) { // Returned to the pool on exit
+			PreparedStatement stmt = con.prepare(sql); // Prepared once per connection, kept in its cache
+			for (int i = 0; i < parameters.length; i++) {
+				stmt.setObject(i + 1, parameters[i]);
+			}
+			try (ResultSet rs = stmt.executeQuery()) { // Executing query and getting result set
+				ResultSetMetaData md = rs.getMetaData(); // Getting metadata of result set
+				
+				while (rs.next()) { // Loop through result set
+					for (int i = 1; i <= md.getColumnCount(); i++) { // Loop through columns
+						data_map.put(md.getColumnName(i), rs.getString(i)); // Putting data into HashMap
+					}
+				}
+			} finally {
+				con.completed(); // No longer cancellable, the cached statement may run for another query
+			}
+		}
 		return data_map;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * This method streams the rows of a query, fetched by batches of
+	 * {@code db.fetch.size} rows. The stream must be closed, or read to the end,
+	 * to give its connection back to the pool.
+	 *
+	 * @param sql        The SQL query to execute, with {@code ?} placeholders for
+	 *                   its parameters.
+	 * @param parameters The values of the placeholders, in order.
+	 * @return The rows of the query, with typed access to their columns.
+	 * @throws SQLException If the query fails.
+	 */
+	public ResultStream query(String sql, Object... parameters) throws SQLException {
+		return query(Integer.parseInt(getConfigData("db.fetch.size", "500")), sql, parameters);
+	}
+
+	/**
+	 * This method streams the rows of a query, fetched by batches of the given
+	 * size.
+	 *
+	 * @param fetchSize  The number of rows per round-trip, 0 to read the whole
+	 *                   result at once.
+	 * @param sql        The SQL query to execute, with {@code ?} placeholders for
+	 *                   its parameters.
+	 * @param parameters The values of the placeholders, in order.
+	 * @return The rows of the query, with typed access to their columns.
+	 * @throws SQLException If the query fails.
+	 */
+	public ResultStream query(int fetchSize, String sql, Object... parameters) throws SQLException {
+		return new ResultStream(getConnectionPool().lease(), fetchSize, sql, parameters);
+	}
+
+	/**
+	 * This method reads the rows of a query into a column store, for bulk
+	 * comparisons with the columns of a grid. Use
+	 * {@link ResultStream#nextColumns(int)} to read a large result by chunks.
+	 *
+	 * @param sql        The SQL query to execute, with {@code ?} placeholders for
+	 *                   its parameters.
+	 * @param parameters The values of the placeholders, in order.
+	 * @return The columns of the query.
+	 * @throws SQLException If the query fails.
+	 */
+	public ColumnStore queryColumns(String sql, Object... parameters) throws SQLException {
+		try (ResultStream rows = query(sql, parameters)) {
+			return rows.readColumns();
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/**
+ * This class runs the database expectations of a test in the background while the UI steps run.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.log4j.Logger;
+
+import com.kpit.automation.helpers.ColumnStore;
+
+/**
+ * Database expectations of one test. Each query is registered at the start of
+ * the test and starts at once on its own virtual thread, so that it runs while
+ * the test drives the UI, for example while
+ * {@code SystemMapViewPage.executeTrace} waits for the backend; the test joins
+ * it only at the assertion point, by which time the result is usually there.
+ *
+ * <pre>
+ * Expectation&lt;ColumnStore&gt; tasks = getDbExpectations().columns("select name, status from task where run = ?", runId);
+ * systemMapViewPage.executeTrace();
+ * ColumnStore expected = tasks.get(); // Waits at most db.prefetch.timeout.ms
+ * </pre>
+ *
+ * <p>
+ * The queries lease their connections from the pool of
+ * {@link DatabaseUtility}, so no more of them run at once than the pool has
+ * connections. {@link #cancelAll()} cancels the expectations not joined yet
+ * when the test ends early: a query waiting for a connection gives up, and a
+ * query already running is cancelled on the database with
+ * {@link java.sql.Statement#cancel()}, as is a query that misses the timeout
+ * of the assertion point. A failing query fails its expectation.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class DbExpectations {
+
+	private static final Logger log = Logger.getLogger(DbExpectations.class);
+
+	private static final ExecutorService executor = ThreadUtility.newPerTaskExecutor("db-prefetch");
+
+	private final DatabaseUtility database;
+	private final long timeoutMillis;
+	private final List<Expectation<?>> expectations = new CopyOnWriteArrayList<Expectation<?>>();
+
+	/**
+	 * Constructor for DbExpectations.
+	 *
+	 * @param database      the database utility running the queries
+	 * @param timeoutMillis the longest wait for a result at the assertion point
+	 */
+	public DbExpectations(DatabaseUtility database, long timeoutMillis) {
+		this.database = database;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * Query run in the background.
+	 *
+	 * @param <T> the type of the result
+	 */
+	public interface Query<T> {
+		T run(DatabaseUtility database) throws Exception;
+	}
+
+	/**
+	 * Starts a query in the background.
+	 *
+	 * @param name  the name of the expectation, for the logs and errors
+	 * @param query the query
+	 * @return the expectation, to be joined at the assertion point
+	 */
+	public <T> Expectation<T> register(String name, Query<T> query) {
+		Expectation<T> expectation = new Expectation<T>(name, query);
+		expectations.add(expectation);
+		return expectation;
+	}
+
+	/**
+	 * Starts a query returning a single row, as
+	 * {@link DatabaseUtility#queryRow(String, Object...)} does.
+	 *
+	 * @param sql        the query, with {@code ?} placeholders for its parameters
+	 * @param parameters the values of the placeholders, in order
+	 * @return the expectation of the row
+	 */
+	public Expectation<HashMap<String, String>> row(String sql, Object... parameters) {
+		return register(sql, database -> database.queryRow(sql, parameters));
+	}
+
+	/**
+	 * Starts a query read column by column, to be compared with the columns of a
+	 * grid.
+	 *
+	 * @param sql        the query, with {@code ?} placeholders for its parameters
+	 * @param parameters the values of the placeholders, in order
+	 * @return the expectation of the columns
+	 */
+	public Expectation<ColumnStore> columns(String sql, Object... parameters) {
+		return register(sql, database -> database.queryColumns(sql, parameters));
+	}
+
+	/**
+	 * Cancels the expectations that have not completed.
+	 *
+	 * @return the number of expectations cancelled
+	 */
+	public int cancelAll() {
+		int cancelled = 0;
+		for (Expectation<?> expectation : expectations) {
+			if (expectation.cancel()) {
+				cancelled++;
+			}
+		}
+		expectations.clear();
+		return cancelled;
+	}
+
+	/**
+	 * Result of a query running in the background.
+	 *
+	 * @param <T> the type of the result
+	 */
+	public final class Expectation<T> {
+		private final String name;
+		private final Future<T> future;
+		private final ConnectionPool.CancelHandle handle = new ConnectionPool.CancelHandle();
+		private volatile long completedAt;
+
+		private Expectation(String name, Query<T> query) {
+			this.name = name;
+			this.future = executor.submit(() -> {
+				try {
+					return handle.run(() -> query.run(database)); // Cancelled through its own lease, not its thread
+				} finally {
+					completedAt = System.nanoTime();
+				}
+			});
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isDone() {
+			return future.isDone();
+		}
+
+		/**
+		 * Waits for the result at most {@code db.prefetch.timeout.ms}.
+		 *
+		 * @return the result of the query
+		 * @throws IllegalStateException if the query failed, timed out or was
+		 *                               cancelled
+		 */
+		public T get() {
+			return get(timeoutMillis);
+		}
+
+		/**
+		 * Waits for the result, cancelling the query if it is not ready in time.
+		 *
+		 * @param timeoutMillis the longest wait, in milliseconds
+		 * @return the result of the query
+		 * @throws IllegalStateException if the query failed, timed out or was
+		 *                               cancelled
+		 */
+		public T get(long timeoutMillis) {
+			long start = System.nanoTime();
+			try {
+				T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+				long ready = completedAt;
+				log.info("DB expectation " + name + (ready - start <= 0
+						? " ready " + TimeUnit.NANOSECONDS.toMillis(start - ready) + " ms before the assertion"
+						: " joined after " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms"));
+				return result;
+			} catch (TimeoutException ex) {
+				cancel();
+				throw new IllegalStateException("DB expectation " + name + " not ready within " + timeoutMillis + " ms",
+						ex);
+			} catch (CancellationException ex) {
+				throw new IllegalStateException("DB expectation " + name + " was cancelled", ex);
+			} catch (ExecutionException ex) {
+				throw new IllegalStateException("DB expectation " + name + " failed", ex.getCause());
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				cancel();
+				throw new IllegalStateException("Interrupted while waiting for DB expectation " + name, ex);
+			} finally {
+				expectations.remove(this);
+			}
+		}
+
+		/**
+		 * Cancels the query: interrupts it while it waits for a connection, and
+		 * cancels its statement on the database once it runs.
+		 *
+		 * @return true if the query had not completed
+		 */
+		private boolean cancel() {
+			boolean cancelled = future.cancel(true);
+			if (cancelled && handle.cancel()) {
+				log.info("DB expectation " + name + " cancelled on the database");
+			}
+			return cancelled;
+		}
+	}
+}
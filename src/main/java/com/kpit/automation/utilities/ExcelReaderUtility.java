@@ -8,17 +8,17 @@
 package com.kpit.automation.utilities;
 
 import org.apache.log4j.Logger;
-import org.apache.poi.ss.usermodel.*;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Utility class for reading data from an Excel file. This class extends
- * {@link LoggerUtility}
+ * {@link LoggerUtility}. Workbooks are parsed once per run through
+ * {@link SheetCache}.
  *
  * @author Aakash Saxena
  * @version 1.0
@@ -33,9 +33,9 @@ public class ExcelReaderUtility extends LoggerUtility {
 
 	/**
 	 * A private variable to keep track of the current row being read from the Excel
-	 * sheet.
+	 * sheet. Atomic, so that concurrent invocations never read the same row.
 	 */
-	private int currentRow = 1; // Starts from row 1, assuming that row 0 is the header.
+	private final AtomicInteger currentRow = new AtomicInteger(1); // Starts from row 1, assuming that row 0 is the header.
 
 	/**
 	 * This method starts reading data from the specified Excel file and sheet. Each
@@ -50,44 +50,21 @@ public class ExcelReaderUtility extends LoggerUtility {
 	 */
 	public Object[][] testData(String filePath, String sheetName) throws IOException, FileNotFoundException {
 
-		File file = new File(filePath);
-		FileInputStream fis = null;
-		Workbook workbook = null;
-		Sheet sheet = null;
 		Object[][] data = null;
 
 		try {
-			fis = new FileInputStream(file); // Opening the Excel file
-			workbook = WorkbookFactory.create(fis); // Creating workbook from FileInputStream
-			sheet = workbook.getSheet(sheetName); // Getting the specified sheet from workbook
-
-			int rowCount = sheet.getLastRowNum(); // Getting the last row number
-			int colCount = sheet.getRow(0).getLastCellNum(); // Getting the last column number of the first row
-
-			data = new Object[1][colCount]; // Only one row data for each test method
-
-			if (currentRow <= rowCount) { // Checking if current row is within the sheet range
-				Row row = sheet.getRow(currentRow); // Getting the current row
-				if (row != null) {
-					for (int j = 0; j < colCount; j++) { // Iterating over columns
-						Cell cell = row.getCell(j); // Getting cell at specified row and column
-						if (cell != null) {
-							data[0][j] = cell.toString(); // Converting cell value to string and storing in data array
-						} else {
-							data[0][j] = ""; // Or any default value you want for null cells
-						}
-					}
-					currentRow++; // Moving to the next row
-				}
+			SheetData sheet = SheetCache.get(filePath, sheetName); // Parsed once per run
+
+			data = new Object[1][sheet.getColumnCount()]; // Only one row data for each test method
+
+			int row = currentRow.getAndIncrement(); // Taking the current row and moving to the next one
+			if (row <= sheet.getRowCount()) { // Checking if current row is within the sheet range
+				data[0] = sheet.getRow(row - 1); // Data rows are indexed from the row below the header
 			}
 
 		} catch (Exception ex) { // Catching any exceptions
 			ex.printStackTrace(); // Printing stack trace
 			log.error(ex); // Logging the exception
-		} finally {
-			if (fis != null) { // Checking if FileInputStream is not null
-				fis.close(); // Closing FileInputStream
-			}
 		}
 
 		return data;
@@ -106,90 +83,92 @@ public class ExcelReaderUtility extends LoggerUtility {
 	 */
 	public Object[][] testDataOccurance(String filePath, String sheetName) throws IOException, FileNotFoundException {
 
-		File file = new File(filePath);
-		FileInputStream fis = null;
-		Workbook workbook = null;
-		Sheet sheet = null;
 		Object[][] data = null;
 
 		try {
-			fis = new FileInputStream(file); // Opening the Excel file
-			workbook = WorkbookFactory.create(fis); // Creating workbook from FileInputStream
-			sheet = workbook.getSheet(sheetName); // Getting the specified sheet from workbook
-
-			int rowCount = sheet.getLastRowNum(); // Getting the last row number
-			int colCount = sheet.getRow(0).getLastCellNum(); // Getting the last column number of the first row
-
-			data = new Object[rowCount][colCount]; // Initializing data array with the size of the sheet
-
-			for (int i = 0; i < rowCount; i++) { // Iterating over rows
-				Row row = sheet.getRow(i + 1); // Start from row 1 (assuming row 0 is the header)
-				for (int j = 0; j < colCount; j++) { // Iterating over columns
-					Cell cell = row.getCell(j); // Getting cell at specified row and column
-					if (cell == null) {
-						data[i][j] = ""; // Setting empty string if cell is null
-					} else {
-						data[i][j] = cell.toString(); // Converting cell value to string and storing in data array
-					}
-				}
+			SheetData sheet = SheetCache.get(filePath, sheetName); // Parsed once per run
+
+			data = new Object[sheet.getRowCount()][]; // Initializing data array with the size of the sheet
+
+			for (int i = 0; i < data.length; i++) { // Iterating over rows
+				data[i] = sheet.getRow(i); // A copy, callers may modify the parameters
 			}
 
 		} catch (Exception ex) { // Catching any exceptions
 			ex.printStackTrace(); // Printing stack trace
 			log.error(ex); // Logging the exception
-		} finally {
-			if (fis != null) { // Checking if FileInputStream is not null
-				fis.close(); // Closing FileInputStream
-			}
 		}
 
 		return data;
 	}
 
-	private int currentRow1 = 1; // Starts from row 1, assuming that row 0 is the header.
+	private final AtomicInteger currentRow1 = new AtomicInteger(1); // Starts from row 1, assuming that row 0 is the header.
 
 	public Map<String, String> testDataMap(String filePath, String sheetName)
 			throws IOException, FileNotFoundException {
 
-		File file = new File(filePath);
-		FileInputStream fis = null;
-		Workbook workbook = null;
-		Sheet sheet = null;
 		Map<String, String> data = new HashMap<>();
 
 		try {
-			fis = new FileInputStream(file); // Opening the Excel file
-			workbook = WorkbookFactory.create(fis); // Creating workbook from FileInputStream
-			sheet = workbook.getSheet(sheetName); // Getting the specified sheet from workbook
-
-			int rowCount = sheet.getLastRowNum(); // Getting the last row number
-			int colCount = sheet.getRow(0).getLastCellNum(); // Getting the last column number of the first row
-
-			if (currentRow1 <= rowCount) { // Checking if current row is within the sheet range
-				Row row = sheet.getRow(currentRow1); // Getting the current row
-				if (row != null) {
-					for (int j = 0; j < colCount; j++) { // Iterating over columns
-						Cell cell = row.getCell(j); // Getting cell at specified row and column
-						String header = sheet.getRow(0).getCell(j).toString(); // Getting header from the first row
-						if (cell != null) {
-							data.put(header, cell.toString()); // Adding cell value to the map with header as key
-						} else {
-							data.put(header, ""); // Or any default value you want for null cells
-						}
-					}
-					currentRow1++; // Moving to the next row
-				}
+			SheetData sheet = SheetCache.get(filePath, sheetName); // Parsed once per run, headers included
+
+			int row = currentRow1.getAndIncrement(); // Taking the current row and moving to the next one
+			if (row <= sheet.getRowCount()) { // Checking if current row is within the sheet range
+				data = sheet.getRowMap(row - 1); // Cell values keyed by header
 			}
 
 		} catch (Exception ex) { // Catching any exceptions
 			ex.printStackTrace(); // Printing stack trace
 			log.error(ex); // Logging the exception
-		} finally {
-			if (fis != null) { // Checking if FileInputStream is not null
-				fis.close(); // Closing FileInputStream
-			}
 		}
 
 		return data;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * This method streams the data rows of the specified .xlsx sheet, one at a
+	 * time, with constant memory. Meant to be returned by a DataProvider for
+	 * sheets too large to be loaded as a workbook.
+	 *
+	 * @param filePath  The path to the Excel file.
+	 * @param sheetName The name of the sheet to read from.
+	 * @return An iterator over the data rows, the header row excluded.
+	 */
+	public Iterator<Object[]> streamTestData(String filePath, String sheetName) {
+		return new StreamingSheetReader(filePath, sheetName);
+	}
+
+	/**
+	 * This method returns the data rows of the specified sheet as a lazy,
+	 * thread-safe iterator: every row is handed out once, whichever thread takes
+	 * it. Meant to be returned by a {@code @DataProvider(parallel = true)}.
+	 *
+	 * @param filePath  The path to the Excel file.
+	 * @param sheetName The name of the sheet to read from.
+	 * @param keyed     true for one map of cell values by header per row, false
+	 *                  for the cell values as parameters.
+	 * @return An iterator over the data rows, the header row excluded.
+	 * @throws IOException if there is an error reading the file
+	 */
+	public SheetRowIterator testDataRows(String filePath, String sheetName, boolean keyed) throws IOException {
+		return new SheetRowIterator(SheetCache.get(filePath, sheetName), keyed);
+	}
+
+	/**
+	 * This method returns the share of one worker of the data rows of the
+	 * specified sheet, the rows being split into contiguous ranges.
+	 *
+	 * @param filePath  The path to the Excel file.
+	 * @param sheetName The name of the sheet to read from.
+	 * @param keyed     true for one map of cell values by header per row, false
+	 *                  for the cell values as parameters.
+	 * @param part      The index of the worker, from 0.
+	 * @param parts     The number of workers.
+	 * @return An iterator over the data rows of the worker.
+	 * @throws IOException if there is an error reading the file
+	 */
+	public SheetRowIterator testDataRows(String filePath, String sheetName, boolean keyed, int part, int parts)
+			throws IOException {
+		return SheetRowIterator.partition(SheetCache.get(filePath, sheetName), part, parts, keyed);
+	}
+}
@@ -81,6 +81,23 @@ public class FileReaderUtility extends ExcelReaderUtility {
 		return dataFromPropFile;
 	}
 
+	/**
+	 * This method retrieves the value of a setting, giving a JVM system property of
+	 * the same name priority over the properties file. It returns the default
+	 * value if the setting is defined in neither place.
+	 *
+	 * @param property     the name of the property to retrieve
+	 * @param defaultValue the value returned if the property is not defined
+	 * @return the value of the property, or the default value if it is not found
+	 */
+	public String getConfigData(String property, String defaultValue) {
+		String value = System.getProperty(property);
+		if (value == null && properties != null) {
+			value = properties.getProperty(property);
+		}
+		return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+	}
+
 	public String getInputFilePath(String fileName) {
 		try {
 			File file = new File(System.getProperty("user.dir") + "/src/test/resources/testData/" + fileName);
@@ -0,0 +1,149 @@
+/**
+ * This class records latencies into a histogram of log-linear buckets.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HDR-style latency histogram. Values are counted in buckets whose width grows
+ * with the value (32 sub-buckets per power of two), so percentiles are exact to
+ * about 3% over the whole range, from microseconds to the 1200 s wait timeout,
+ * in a fixed 16 KB whatever the number of recorded values.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private final long[] counts = new long[64 * SUB_BUCKETS];
+	private long count;
+	private long total;
+	private long min = Long.MAX_VALUE;
+	private long max;
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param micros the latency in microseconds
+	 */
+	public synchronized void record(long micros) {
+		long value = Math.max(0, micros);
+		counts[index(value)]++;
+		count++;
+		total += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Adds the values of another histogram to this one.
+	 *
+	 * @param other the histogram to add
+	 */
+	public void add(LatencyHistogram other) {
+		long[] otherCounts;
+		long otherCount, otherTotal, otherMin, otherMax;
+		synchronized (other) {
+			otherCounts = other.counts.clone();
+			otherCount = other.count;
+			otherTotal = other.total;
+			otherMin = other.min;
+			otherMax = other.max;
+		}
+		synchronized (this) {
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] += otherCounts[i];
+			}
+			count += otherCount;
+			total += otherTotal;
+			min = Math.min(min, otherMin);
+			max = Math.max(max, otherMax);
+		}
+	}
+
+	public synchronized long getCount() {
+		return count;
+	}
+
+	public synchronized long getTotal() {
+		return total;
+	}
+
+	public synchronized long getMax() {
+		return max;
+	}
+
+	/**
+	 * Returns the value below which the given percentage of the values fall.
+	 *
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the value in microseconds, at the upper end of its bucket
+	 */
+	public synchronized long getValueAtPercentile(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return Math.min(max, Math.max(min, lowerBound(i + 1) - 1));
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the summary of the histogram in milliseconds, for the reports.
+	 *
+	 * @return count, total, p50, p95, p99 and max
+	 */
+	public synchronized Map<String, Object> toSummary() {
+		Map<String, Object> summary = new LinkedHashMap<String, Object>();
+		summary.put("count", count);
+		summary.put("totalMs", millis(total));
+		summary.put("p50Ms", millis(getValueAtPercentile(50)));
+		summary.put("p95Ms", millis(getValueAtPercentile(95)));
+		summary.put("p99Ms", millis(getValueAtPercentile(99)));
+		summary.put("maxMs", millis(max));
+		return summary;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return count + " calls, p50 " + millis(getValueAtPercentile(50)) + " ms, p95 "
+				+ millis(getValueAtPercentile(95)) + " ms, p99 " + millis(getValueAtPercentile(99)) + " ms, max "
+				+ millis(max) + " ms";
+	}
+
+	private static double millis(long micros) {
+		return Math.round(micros / 10.0) / 100.0;
+	}
+
+	private static int index(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	private static long lowerBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		return (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+	}
+}
@@ -21,7 +21,7 @@ import org.apache.log4j.PropertyConfigurator;
  */
 public class LoggerUtility extends ReporterUtility {
 
-	private static boolean root = false; // Flag to check if logger configuration has been set
+	private static volatile boolean root = false; // Flag to check if logger configuration has been set
 	private static String propertyFilePath = "//src//main//resources//configurations//"; // Path to the log4j properties file
 	private static String logConfigFile = "log4j.properties"; // Name of the log4j properties file
 
@@ -36,13 +36,15 @@ public class LoggerUtility extends ReporterUtility {
 		
 		Logger logger = null; // Initializing Logger variable
 		try {
-			if (root) { // Checking if logger configuration has already been set
-				logger = Logger.getLogger(cls); // Returning the Logger instance
-			} else {
-				PropertyConfigurator.configure(System.getProperty("user.dir") + propertyFilePath + logConfigFile); // Configuring Logger using log4j properties file
-				root = true; // Setting the root flag to true indicating that logger configuration has been set
-				logger = Logger.getLogger(cls); // Returning the Logger instance
+			if (!root) { // Checking if logger configuration has already been set
+				synchronized (LoggerUtility.class) { // Parallel test threads may reach this point together
+					if (!root) {
+						PropertyConfigurator.configure(System.getProperty("user.dir") + propertyFilePath + logConfigFile); // Configuring Logger using log4j properties file
+						root = true; // Setting the root flag to true indicating that logger configuration has been set
+					}
+				}
 			}
+			logger = Logger.getLogger(cls); // Returning the Logger instance
 			
 		} catch (Exception ex) { // Catching any exceptions
 			ex.printStackTrace(); // Printing stack trace if an exception occurs
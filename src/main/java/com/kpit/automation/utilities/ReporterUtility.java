@@ -17,7 +17,7 @@ import org.openqa.selenium.io.FileHandler;
 
 import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
-import com.kpit.automation.base.BaseTest;
+import com.kpit.automation.base.DriverRegistry;
 import com.kpit.automation.reporter.Listeners;
 
 public class ReporterUtility {
@@ -81,7 +81,7 @@ public class ReporterUtility {
 	}
 
 	public String getBase64Image() {
-		return ((TakesScreenshot) BaseTest.driver).getScreenshotAs(OutputType.BASE64);
+		return ((TakesScreenshot) DriverRegistry.getDriver()).getScreenshotAs(OutputType.BASE64);
 	}
 
 	public static String screenShot(WebDriver driver) {
@@ -0,0 +1,372 @@
+/**
+ * This class streams the rows of a database query with typed access to their columns.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.log4j.Logger;
+
+import com.kpit.automation.helpers.ColumnStore;
+
+/**
+ * Rows of a query, read from the database as they are iterated. With a fetch
+ * size, the rows are fetched by batches through a server-side cursor, so a
+ * result of any size is compared in constant memory; the connection leaves
+ * auto-commit for the duration of the stream, as PostgreSQL requires for
+ * cursors, and is given back to the pool when the stream is closed or
+ * exhausted.
+ *
+ * <pre>
+ * try (ResultStream rows = databaseUtils.query("select id, duration from task where run = ?", runId)) {
+ * 	for (ResultStream.Row row : rows) {
+ * 		long id = row.getLong("id");
+ * 		double duration = row.getDouble("duration");
+ * 	}
+ * }
+ * </pre>
+ *
+ * <p>
+ * The column-oriented mode, {@link #nextColumns(int)}, reads the rows by
+ * chunks into a {@link ColumnStore}, the representation the grids are
+ * extracted to, so DB and UI data are compared column by column.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ResultStream implements Iterator<ResultStream.Row>, Iterable<ResultStream.Row>, AutoCloseable {
+
+	private static final Logger log = Logger.getLogger(ResultStream.class);
+
+	private final ConnectionPool.PooledConnection connection;
+	private final boolean cursor;
+	private final ResultSet resultSet;
+	private final List<String> columnNames;
+	private final int[] columnTypes;
+	private final Map<String, Integer> columnIndex = new HashMap<String, Integer>();
+	private final Row row = new Row();
+	private boolean advanced;
+	private boolean hasRow;
+	private boolean closed;
+	private long rowCount;
+
+	/**
+	 * Runs a query on a leased connection. The stream owns the lease from then
+	 * on, and releases it when it is closed, even if the query fails.
+	 *
+	 * @param connection the leased connection
+	 * @param fetchSize  the number of rows fetched per round-trip, 0 to let the
+	 *                   driver read the whole result at once
+	 * @param sql        the query, with {@code ?} placeholders for its parameters
+	 * @param parameters the values of the placeholders, in order
+	 * @throws SQLException if the query fails
+	 */
+	public ResultStream(ConnectionPool.PooledConnection connection, int fetchSize, String sql, Object... parameters)
+			throws SQLException {
+		this.connection = connection;
+		this.cursor = fetchSize > 0;
+		try {
+			if (cursor) {
+				connection.getConnection().setAutoCommit(false); // Server-side cursors live in a transaction
+			}
+			PreparedStatement statement = connection.prepare(sql);
+			statement.setFetchSize(Math.max(0, fetchSize)); // Set on every run, the statement is cached
+			for (int i = 0; i < parameters.length; i++) {
+				statement.setObject(i + 1, parameters[i]);
+			}
+			resultSet = statement.executeQuery();
+			ResultSetMetaData metaData = resultSet.getMetaData();
+			List<String> names = new ArrayList<String>();
+			columnTypes = new int[metaData.getColumnCount()];
+			for (int column = 1; column <= columnTypes.length; column++) {
+				names.add(metaData.getColumnLabel(column));
+				columnTypes[column - 1] = metaData.getColumnType(column);
+				columnIndex.putIfAbsent(metaData.getColumnLabel(column).toLowerCase(Locale.ROOT), column);
+			}
+			columnNames = Collections.unmodifiableList(names);
+		} catch (SQLException | RuntimeException ex) {
+			release();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Returns the labels of the columns, in order.
+	 *
+	 * @return the column labels
+	 */
+	public List<String> getColumnNames() {
+		return columnNames;
+	}
+
+	/**
+	 * Returns the SQL type of a column, one of {@link java.sql.Types}.
+	 *
+	 * @param column the index of the column, from 1
+	 * @return the SQL type
+	 */
+	public int getColumnType(int column) {
+		return columnTypes[column - 1];
+	}
+
+	/**
+	 * Returns the number of rows read so far.
+	 *
+	 * @return the number of rows read
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public Iterator<Row> iterator() {
+		return this;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!advanced && !closed) {
+			try {
+				hasRow = resultSet.next();
+			} catch (SQLException ex) {
+				close();
+				throw new IllegalStateException("Could not read the next row", ex);
+			}
+			advanced = true;
+			if (hasRow) {
+				rowCount++;
+			} else {
+				close(); // Exhausted, the connection goes back to the pool
+			}
+		}
+		return hasRow && !closed;
+	}
+
+	/**
+	 * Moves to the next row. The returned row is a view of the current position
+	 * of the stream, valid until the next call.
+	 *
+	 * @return the current row
+	 */
+	@Override
+	public Row next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more rows");
+		}
+		advanced = false;
+		return row;
+	}
+
+	/**
+	 * Reads up to {@code maxRows} rows into a column store, the cells as the
+	 * driver renders them as text and an empty string for SQL NULL.
+	 *
+	 * @param maxRows the maximum number of rows of the chunk
+	 * @return the chunk, or null once every row has been read
+	 */
+	public ColumnStore nextColumns(int maxRows) {
+		List<List<String>> columns = new ArrayList<List<String>>();
+		for (int column = 0; column < columnNames.size(); column++) {
+			columns.add(new ArrayList<String>());
+		}
+		int rows = 0;
+		while (rows < maxRows && hasNext()) {
+			Row current = next();
+			for (int column = 0; column < columns.size(); column++) {
+				String value = current.getString(column + 1);
+				columns.get(column).add(value == null ? "" : value);
+			}
+			rows++;
+		}
+		return rows == 0 ? null : ColumnStore.of(columnNames, columns);
+	}
+
+	/**
+	 * Reads every remaining row into a column store.
+	 *
+	 * @return the remaining rows, an empty store if there are none
+	 */
+	public ColumnStore readColumns() {
+		ColumnStore columns = nextColumns(Integer.MAX_VALUE);
+		return columns != null ? columns
+				: ColumnStore.of(columnNames, Collections.nCopies(columnNames.size(), Collections.<String>emptyList()));
+	}
+
+	/**
+	 * Closes the result and gives the connection back to the pool.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			resultSet.close();
+		} catch (SQLException ex) {
+			log.error("Some error occured while closing result set", ex);
+		}
+		release();
+	}
+
+	/**
+	 * Ends the cursor transaction and releases the lease. A connection that
+	 * cannot be put back in auto-commit is closed by the pool.
+	 */
+	private void release() {
+		closed = true;
+		try {
+			if (cursor) {
+				connection.getConnection().rollback(); // Read-only, nothing to keep
+				connection.getConnection().setAutoCommit(true);
+			}
+		} catch (SQLException ex) {
+			log.error("Some error occured while ending the cursor transaction", ex);
+		} finally {
+			connection.close();
+		}
+	}
+
+	private int indexOf(String column) {
+		Integer index = columnIndex.get(column.toLowerCase(Locale.ROOT));
+		if (index == null) {
+			throw new NoSuchElementException("Column not found: " + column + " in " + columnNames);
+		}
+		return index;
+	}
+
+	private <T> T read(int column, ColumnReader<T> reader) {
+		try {
+			T value = reader.read(column);
+			return resultSet.wasNull() ? null : value;
+		} catch (SQLException ex) {
+			throw new IllegalStateException("Could not read column " + columnNames.get(column - 1), ex);
+		}
+	}
+
+	/**
+	 * Reads a column of the current row.
+	 */
+	private interface ColumnReader<T> {
+		T read(int column) throws SQLException;
+	}
+
+	/**
+	 * Current row of the stream. Columns are addressed by label, ignoring case,
+	 * or by index from 1; SQL NULL is returned as null.
+	 */
+	public final class Row {
+
+		private Row() {
+		}
+
+		public String getString(int column) {
+			return read(column, resultSet::getString);
+		}
+
+		public String getString(String column) {
+			return getString(indexOf(column));
+		}
+
+		public Integer getInt(int column) {
+			return read(column, resultSet::getInt);
+		}
+
+		public Integer getInt(String column) {
+			return getInt(indexOf(column));
+		}
+
+		public Long getLong(int column) {
+			return read(column, resultSet::getLong);
+		}
+
+		public Long getLong(String column) {
+			return getLong(indexOf(column));
+		}
+
+		public Double getDouble(int column) {
+			return read(column, resultSet::getDouble);
+		}
+
+		public Double getDouble(String column) {
+			return getDouble(indexOf(column));
+		}
+
+		public BigDecimal getBigDecimal(int column) {
+			return read(column, resultSet::getBigDecimal);
+		}
+
+		public BigDecimal getBigDecimal(String column) {
+			return getBigDecimal(indexOf(column));
+		}
+
+		public Boolean getBoolean(int column) {
+			return read(column, resultSet::getBoolean);
+		}
+
+		public Boolean getBoolean(String column) {
+			return getBoolean(indexOf(column));
+		}
+
+		public Timestamp getTimestamp(int column) {
+			return read(column, resultSet::getTimestamp);
+		}
+
+		public Timestamp getTimestamp(String column) {
+			return getTimestamp(indexOf(column));
+		}
+
+		/**
+		 * Reads a column as the given type, with the conversions of the driver, for
+		 * example {@code java.time.OffsetDateTime} or {@code java.util.UUID}.
+		 *
+		 * @param column the label of the column
+		 * @param type   the Java type
+		 * @return the value, or null for SQL NULL
+		 */
+		public <T> T getObject(String column, Class<T> type) {
+			return read(indexOf(column), index -> resultSet.getObject(index, type));
+		}
+
+		public Object getObject(int column) {
+			return read(column, resultSet::getObject);
+		}
+
+		public Object getObject(String column) {
+			return getObject(indexOf(column));
+		}
+
+		/**
+		 * Copies the row, for the rows that must outlive the stream.
+		 *
+		 * @return the values of the row by column label, in column order
+		 */
+		public Map<String, Object> toMap() {
+			Map<String, Object> values = new LinkedHashMap<String, Object>();
+			for (int column = 1; column <= columnNames.size(); column++) {
+				values.put(columnNames.get(column - 1), getObject(column));
+			}
+			return values;
+		}
+	}
+}
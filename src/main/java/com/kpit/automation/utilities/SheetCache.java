@@ -0,0 +1,170 @@
+/**
+ * SheetCache class keeps the parsed sheets of the test data workbooks for the whole run.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+
+/**
+ * Process-wide cache of parsed workbooks. A workbook is parsed once, all its
+ * sheets are copied to {@link SheetData} and the workbook is closed; the entry
+ * stays valid as long as the file keeps the same path, modification time and
+ * size. The cache holds at most {@code excel.cache.workbooks} workbooks (8 by
+ * default) and evicts the least recently used one.
+ *
+ * <p>
+ * With {@code excel.binary.cache} on, a sheet is first looked up among the
+ * compiled copies of {@link ColumnarSheetFile} and mapped from there; the
+ * workbook is parsed only when its copy is missing or was compiled from
+ * another version of it, and all its sheets are compiled then.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SheetCache {
+
+	private static final Logger log = Logger.getLogger(SheetCache.class);
+
+	private static final int MAX_WORKBOOKS = Integer
+			.parseInt(new FileReaderUtility().getConfigData("excel.cache.workbooks", "8"));
+	private static final boolean BINARY = Boolean
+			.parseBoolean(new FileReaderUtility().getConfigData("excel.binary.cache", "true"));
+	private static final File BINARY_DIRECTORY = new File(
+			new FileReaderUtility().getConfigData("excel.binary.cache.dir", "target/testdata-cache"));
+
+	/**
+	 * Sheets of a workbook read so far, with the state of the file they were read
+	 * from.
+	 */
+	private static class Entry {
+		private final long lastModified;
+		private final long length;
+		private final Map<String, SheetData> sheets = new HashMap<String, SheetData>();
+		private byte[] hash;
+		private boolean parsed;
+
+		Entry(long lastModified, long length) {
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+	}
+
+	private static final Map<String, Entry> workbooks = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			if (size() > MAX_WORKBOOKS) {
+				log.info("Evicting parsed workbook " + eldest.getKey());
+				return true;
+			}
+			return false;
+		}
+	};
+
+	private static final Map<String, Object> locks = new ConcurrentHashMap<String, Object>();
+
+	private SheetCache() {
+	}
+
+	/**
+	 * Returns a parsed sheet, mapping its compiled copy or parsing its workbook if
+	 * it is not cached or has changed since it was read.
+	 *
+	 * @param filePath  the path of the workbook
+	 * @param sheetName the name of the sheet
+	 * @return the parsed sheet
+	 * @throws IOException              if the workbook cannot be read
+	 * @throws IllegalArgumentException if there is no such sheet
+	 */
+	public static SheetData get(String filePath, String sheetName) throws IOException {
+		File file = new File(filePath).getCanonicalFile();
+		String key = file.getPath();
+		synchronized (locks.computeIfAbsent(key, path -> new Object())) { // One parse per workbook at a time
+			Entry entry;
+			synchronized (workbooks) {
+				entry = workbooks.get(key);
+			}
+			if (entry == null || entry.lastModified != file.lastModified() || entry.length != file.length()) {
+				entry = new Entry(file.lastModified(), file.length());
+				synchronized (workbooks) {
+					workbooks.put(key, entry);
+				}
+			}
+			SheetData sheet = entry.sheets.get(sheetName);
+			if (sheet == null && !entry.parsed) {
+				sheet = load(file, entry, sheetName);
+			}
+			if (sheet == null) {
+				throw new IllegalArgumentException("Sheet " + sheetName + " not found in " + filePath);
+			}
+			return sheet;
+		}
+	}
+
+	/**
+	 * Drops every parsed workbook.
+	 */
+	public static void clear() {
+		synchronized (workbooks) {
+			workbooks.clear();
+		}
+	}
+
+	private static SheetData load(File file, Entry entry, String sheetName) throws IOException {
+		if (BINARY) {
+			long start = System.nanoTime();
+			if (entry.hash == null) {
+				entry.hash = ColumnarSheetFile.hash(file);
+			}
+			SheetData sheet = ColumnarSheetFile.open(BINARY_DIRECTORY, file, entry.hash, sheetName);
+			if (sheet != null) {
+				log.info("Mapped " + file.getName() + "/" + sheetName + " in " + (System.nanoTime() - start) / 1000000
+						+ " ms");
+				entry.sheets.put(sheetName, sheet);
+				return sheet;
+			}
+		}
+		Map<String, SheetData> sheets = parse(file);
+		if (BINARY) {
+			try {
+				ColumnarSheetFile.write(BINARY_DIRECTORY, file, entry.hash, sheets);
+			} catch (IOException ex) {
+				ex.printStackTrace();
+				log.error(ex); // The parsed sheets are still served
+			}
+		}
+		entry.sheets.putAll(sheets);
+		entry.parsed = true;
+		return entry.sheets.get(sheetName);
+	}
+
+	private static Map<String, SheetData> parse(File file) throws IOException {
+		long start = System.nanoTime();
+		Map<String, SheetData> sheets = new HashMap<String, SheetData>();
+		try (Workbook workbook = WorkbookFactory.create(file, null, true)) { // Read-only, closed once copied
+			for (Sheet sheet : workbook) {
+				sheets.put(sheet.getSheetName(), SheetData.of(sheet));
+			}
+		}
+		log.info("Parsed " + file.getName() + " (" + sheets.size() + " sheets) in "
+				+ (System.nanoTime() - start) / 1000000 + " ms");
+		return sheets;
+	}
+}
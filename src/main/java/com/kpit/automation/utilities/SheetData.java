@@ -0,0 +1,144 @@
+/**
+ * SheetData class holds the parsed cells of a worksheet.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * Parsed copy of a worksheet: the header row and the data rows below it, as the
+ * texts {@link ExcelReaderUtility} has always returned ({@code cell.toString()},
+ * an empty string for missing cells). The header index is built once. The
+ * cells are held in arrays, or read from a mapped file by
+ * {@link ColumnarSheetFile}.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SheetData {
+
+	private final String name;
+	private final String[] headers;
+	private final String[][] rows;
+	private final Map<String, Integer> headerIndex = new HashMap<String, Integer>();
+
+	/**
+	 * Constructor for SheetData.
+	 *
+	 * @param name    the name of the sheet
+	 * @param headers the header texts
+	 * @param rows    the data rows, each with one text per header, or null when a
+	 *                subclass reads the cells itself
+	 */
+	public SheetData(String name, String[] headers, String[][] rows) {
+		this.name = name;
+		this.headers = headers;
+		this.rows = rows;
+		for (int column = 0; column < headers.length; column++) {
+			headerIndex.putIfAbsent(headers[column], column);
+		}
+	}
+
+	/**
+	 * Copies a POI sheet. The columns are those of the header row, the rows those
+	 * up to the last row of the sheet.
+	 *
+	 * @param sheet the sheet
+	 * @return the parsed sheet
+	 */
+	public static SheetData of(Sheet sheet) {
+		Row headerRow = sheet.getRow(0);
+		int columnCount = headerRow == null ? 0 : Math.max(0, headerRow.getLastCellNum());
+		String[] headers = new String[columnCount];
+		for (int column = 0; column < columnCount; column++) {
+			headers[column] = text(headerRow.getCell(column));
+		}
+		String[][] rows = new String[sheet.getLastRowNum()][];
+		for (int index = 0; index < rows.length; index++) {
+			Row row = sheet.getRow(index + 1); // Row 0 is the header
+			rows[index] = new String[columnCount];
+			for (int column = 0; column < columnCount; column++) {
+				rows[index][column] = row == null ? "" : text(row.getCell(column));
+			}
+		}
+		return new SheetData(sheet.getSheetName(), headers, rows);
+	}
+
+	private static String text(Cell cell) {
+		return cell == null ? "" : cell.toString();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String[] getHeaders() {
+		return headers.clone();
+	}
+
+	public int getColumnCount() {
+		return headers.length;
+	}
+
+	/**
+	 * Returns the number of data rows, the header row excluded.
+	 *
+	 * @return the number of data rows
+	 */
+	public int getRowCount() {
+		return rows == null ? 0 : rows.length;
+	}
+
+	public String getCell(int row, int column) {
+		return rows[row][column];
+	}
+
+	/**
+	 * Returns the index of a column.
+	 *
+	 * @param header the header text
+	 * @return the index of the first column with this header, or -1
+	 */
+	public int getColumnIndex(String header) {
+		Integer column = headerIndex.get(header);
+		return column == null ? -1 : column;
+	}
+
+	/**
+	 * Returns a data row as test method parameters.
+	 *
+	 * @param row the index of the data row
+	 * @return a copy of the row
+	 */
+	public Object[] getRow(int row) {
+		Object[] values = new Object[getColumnCount()];
+		for (int column = 0; column < values.length; column++) {
+			values[column] = getCell(row, column);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns a data row keyed by header.
+	 *
+	 * @param row the index of the data row
+	 * @return the cell texts by header
+	 */
+	public Map<String, String> getRowMap(int row) {
+		Map<String, String> values = new HashMap<String, String>();
+		for (int column = 0; column < headers.length; column++) {
+			values.put(headers[column], getCell(row, column));
+		}
+		return values;
+	}
+}
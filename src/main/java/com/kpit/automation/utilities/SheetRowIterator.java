@@ -0,0 +1,122 @@
+/**
+ * SheetRowIterator class hands out the rows of a parsed worksheet to concurrent consumers.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lazy, thread-safe iterator over a range of data rows of a {@link SheetData}.
+ * The position is a single atomic cursor, so every row is handed out exactly
+ * once whichever thread asks for it, and a row is copied only when it is
+ * taken. Returned by a {@code @DataProvider(parallel = true)}, it lets TestNG
+ * spread the rows over its data provider threads.
+ *
+ * <p>
+ * {@link #hasNext()} followed by {@link #next()} is not atomic: a consumer
+ * racing other threads should call {@link #poll()}, which returns null once
+ * the range is exhausted. {@link #partition(SheetData, int, int)} splits the
+ * rows into contiguous ranges, one per worker.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SheetRowIterator implements Iterator<Object[]> {
+
+	private final SheetData sheet;
+	private final int end;
+	private final boolean keyed;
+	private final AtomicInteger cursor;
+
+	/**
+	 * Constructor for SheetRowIterator.
+	 *
+	 * @param sheet the parsed sheet
+	 * @param from  the index of the first data row, inclusive
+	 * @param to    the index of the last data row, exclusive
+	 * @param keyed true to return each row as a single map of cell texts by
+	 *              header, false to return the cell texts as parameters
+	 */
+	public SheetRowIterator(SheetData sheet, int from, int to, boolean keyed) {
+		if (from < 0 || to > sheet.getRowCount() || from > to) {
+			throw new IndexOutOfBoundsException(
+					"Rows " + from + " to " + to + " outside " + sheet.getName() + " (" + sheet.getRowCount() + " rows)");
+		}
+		this.sheet = sheet;
+		this.end = to;
+		this.keyed = keyed;
+		this.cursor = new AtomicInteger(from);
+	}
+
+	/**
+	 * Iterates over every data row of a sheet.
+	 *
+	 * @param sheet the parsed sheet
+	 * @param keyed true to return each row as a map keyed by header
+	 */
+	public SheetRowIterator(SheetData sheet, boolean keyed) {
+		this(sheet, 0, sheet.getRowCount(), keyed);
+	}
+
+	/**
+	 * Iterates over the share of one worker. The rows are split into
+	 * {@code parts} contiguous ranges whose sizes differ by one row at most.
+	 *
+	 * @param sheet the parsed sheet
+	 * @param part  the index of the worker, from 0
+	 * @param parts the number of workers
+	 * @param keyed true to return each row as a map keyed by header
+	 * @return the iterator over the rows of the worker
+	 */
+	public static SheetRowIterator partition(SheetData sheet, int part, int parts, boolean keyed) {
+		if (parts < 1 || part < 0 || part >= parts) {
+			throw new IllegalArgumentException("Invalid partition " + part + " of " + parts);
+		}
+		long rows = sheet.getRowCount();
+		return new SheetRowIterator(sheet, (int) (rows * part / parts), (int) (rows * (part + 1) / parts), keyed);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return cursor.get() < end;
+	}
+
+	@Override
+	public Object[] next() {
+		Object[] row = poll();
+		if (row == null) {
+			throw new NoSuchElementException("No more rows in sheet " + sheet.getName());
+		}
+		return row;
+	}
+
+	/**
+	 * Takes the next row, atomically.
+	 *
+	 * @return the row, or null if every row has been taken
+	 */
+	public Object[] poll() {
+		int row = cursor.getAndUpdate(current -> current < end ? current + 1 : current);
+		if (row >= end) {
+			return null;
+		}
+		return keyed ? new Object[] { sheet.getRowMap(row) } : sheet.getRow(row);
+	}
+
+	/**
+	 * Returns the number of rows not taken yet.
+	 *
+	 * @return the number of remaining rows
+	 */
+	public int getRemaining() {
+		return Math.max(0, end - cursor.get());
+	}
+}
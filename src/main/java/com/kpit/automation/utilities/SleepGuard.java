@@ -0,0 +1,100 @@
+/**
+ * This class records the fixed sleeps done while the tests run.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Runtime guard for fixed sleeps. Helpers should wait on conditions; the few
+ * places that still need a fixed delay go through {@link #sleep(long)} or
+ * {@link #record(long)}, which log the caller and add the delay to the current
+ * test. The {@code Listeners} report the sleeps of each test and the total of
+ * the run in the Extent report.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SleepGuard {
+
+	private static final Logger log = Logger.getLogger(SleepGuard.class);
+
+	private static final ThreadLocal<List<String>> testSleeps = ThreadLocal.withInitial(ArrayList::new);
+	private static final ThreadLocal<long[]> testMillis = ThreadLocal.withInitial(() -> new long[1]);
+	private static final AtomicLong totalMillis = new AtomicLong();
+	private static final AtomicLong totalCount = new AtomicLong();
+
+	private SleepGuard() {
+	}
+
+	/**
+	 * Sleeps for the given time and records it against the current test.
+	 *
+	 * @param millis the time to sleep in milliseconds
+	 * @throws InterruptedException if the thread is interrupted while sleeping
+	 */
+	public static void sleep(long millis) throws InterruptedException {
+		record(millis);
+		Thread.sleep(millis);
+	}
+
+	/**
+	 * Records a fixed delay done by other means, such as {@code Robot.delay}.
+	 *
+	 * @param millis the delay in milliseconds
+	 */
+	public static void record(long millis) {
+		String caller = StackWalker.getInstance()
+				.walk(frames -> frames
+						.filter(frame -> !frame.getClassName().equals(SleepGuard.class.getName())
+								&& !frame.getMethodName().equals("holdScript"))
+						.findFirst().map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+								+ "." + frame.getMethodName() + ":" + frame.getLineNumber())
+						.orElse("unknown"));
+		testSleeps.get().add(caller + " (" + millis + " ms)");
+		testMillis.get()[0] += millis;
+		totalMillis.addAndGet(millis);
+		totalCount.incrementAndGet();
+		log.warn("Fixed sleep of " + millis + " ms at " + caller);
+	}
+
+	/**
+	 * Clears the sleeps recorded on the current thread, at the start of a test.
+	 */
+	public static void startTest() {
+		testSleeps.get().clear();
+		testMillis.get()[0] = 0;
+	}
+
+	/**
+	 * Returns the sleeps of the test running on the current thread and clears
+	 * them.
+	 *
+	 * @return a summary of the sleeps, or null if the test did not sleep
+	 */
+	public static String finishTest() {
+		List<String> sleeps = testSleeps.get();
+		String summary = sleeps.isEmpty() ? null
+				: sleeps.size() + " fixed sleeps, " + testMillis.get()[0] + " ms : " + String.join(", ", sleeps);
+		startTest();
+		return summary;
+	}
+
+	/**
+	 * Returns the total of the fixed sleeps done in this JVM.
+	 *
+	 * @return the number of sleeps and the time spent sleeping
+	 */
+	public static String getStatistics() {
+		return totalCount.get() + " fixed sleeps, " + totalMillis.get() + " ms";
+	}
+}
@@ -0,0 +1,254 @@
+/**
+ * StreamingSheetReader class streams the rows of a worksheet without loading the workbook.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+/**
+ * Streams the data rows of an .xlsx sheet with the XSSF event model: the shared
+ * strings table is read once, then the sheet XML is parsed with SAX on a
+ * background thread and each row is handed over through a small bounded queue.
+ * Memory stays constant whatever the number of rows, the parser never runs
+ * more than {@value #BUFFERED_ROWS} rows ahead of the consumer.
+ *
+ * <p>
+ * Row 0 is the header and gives the number of columns; each data row is an
+ * {@code Object[]} of cell texts, formatted as Excel displays them, with an
+ * empty string for missing cells. Rows missing from the file between two data
+ * rows are returned as empty rows, as {@link ExcelReaderUtility} does.
+ * </p>
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class StreamingSheetReader implements Iterator<Object[]>, Closeable {
+
+	private static final Logger log = Logger.getLogger(StreamingSheetReader.class);
+
+	private static final int BUFFERED_ROWS = 256;
+	private static final Object[] END = new Object[0];
+	private static final ExecutorService parsers = ThreadUtility.newPerTaskExecutor("excel-stream");
+
+	private final File file;
+	private final String sheetName;
+	private final BlockingQueue<Object[]> rows = new ArrayBlockingQueue<Object[]>(BUFFERED_ROWS);
+	private final Future<?> parser;
+	private volatile Exception failure;
+	private volatile boolean closed;
+	private volatile String[] headers = new String[0];
+	private Object[] next;
+	private boolean finished;
+
+	/**
+	 * Starts streaming a sheet.
+	 *
+	 * @param filePath  the path of the .xlsx workbook
+	 * @param sheetName the name of the sheet
+	 */
+	public StreamingSheetReader(String filePath, String sheetName) {
+		this.file = new File(filePath);
+		this.sheetName = sheetName;
+		this.parser = parsers.submit(this::parse);
+	}
+
+	/**
+	 * Returns the header texts, once the first row has been read.
+	 *
+	 * @return the header texts
+	 */
+	public String[] getHeaders() {
+		hasNext();
+		return headers.clone();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null && !finished) {
+			try {
+				Object[] row = rows.take();
+				if (row == END) {
+					finished = true;
+				} else {
+					next = row;
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new IllegalStateException("Interrupted while streaming " + sheetName, ex);
+			}
+		}
+		if (finished && failure != null) {
+			throw new IllegalStateException("Could not stream sheet " + sheetName + " of " + file, failure);
+		}
+		return next != null;
+	}
+
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more rows in sheet " + sheetName);
+		}
+		Object[] row = next;
+		next = null;
+		return row;
+	}
+
+	/**
+	 * Stops the parser, for consumers that do not read the sheet to the end.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		parser.cancel(true);
+		rows.clear();
+	}
+
+	private void parse() {
+		long start = System.nanoTime();
+		long count = 0;
+		try (OPCPackage workbook = OPCPackage.open(file, PackageAccess.READ)) {
+			XSSFReader reader = new XSSFReader(workbook);
+			ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(workbook);
+			StylesTable styles = reader.getStylesTable();
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+			boolean found = false;
+			while (sheets.hasNext() && !found) {
+				try (InputStream sheet = sheets.next()) {
+					if (sheetName.equals(sheets.getSheetName())) {
+						found = true;
+						RowHandler handler = new RowHandler();
+						XMLReader parser = XMLHelper.newXMLReader();
+						parser.setContentHandler(
+								new XSSFSheetXMLHandler(styles, null, strings, handler, new DataFormatter(), false));
+						parser.parse(new InputSource(sheet));
+						count = handler.count;
+					}
+				}
+			}
+			if (!found) {
+				throw new IllegalArgumentException("Sheet " + sheetName + " not found in " + file);
+			}
+			log.info("Streamed " + count + " rows of " + file.getName() + "/" + sheetName + " in "
+					+ (System.nanoTime() - start) / 1000000 + " ms");
+		} catch (Exception ex) {
+			if (!closed) {
+				failure = ex;
+				log.error(ex);
+			}
+		} finally {
+			if (!closed) {
+				offer(END);
+			}
+		}
+	}
+
+	/**
+	 * Hands a row to the consumer, waiting while the queue is full.
+	 */
+	private void offer(Object[] row) {
+		try {
+			if (!rows.offer(row, 10, TimeUnit.MINUTES)) {
+				throw new IllegalStateException("Rows of " + sheetName + " not consumed, stopping the parser");
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Streaming of " + sheetName + " stopped", ex);
+		}
+	}
+
+	/**
+	 * Collects the cells of each row and queues the data rows.
+	 */
+	private class RowHandler implements SheetContentsHandler {
+		private String[] cells;
+		private int column;
+		private int lastRow;
+		private long count;
+
+		@Override
+		public void startRow(int rowNum) {
+			for (int missing = lastRow + 1; missing < rowNum && rowNum > 0 && headers.length > 0; missing++) {
+				queue(emptyRow()); // Rows absent from the file
+			}
+			cells = rowNum == 0 ? new String[16] : emptyRow();
+			column = -1;
+		}
+
+		@Override
+		public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+			column = cellReference == null ? column + 1 : new CellReference(cellReference).getCol();
+			if (cells.length <= column) {
+				if (headers.length > 0) {
+					return; // Beyond the header columns
+				}
+				cells = Arrays.copyOf(cells, Math.max(column + 1, cells.length * 2));
+			}
+			cells[column] = formattedValue == null ? "" : formattedValue;
+		}
+
+		@Override
+		public void endRow(int rowNum) {
+			if (rowNum == 0) {
+				int width = 0;
+				for (int i = 0; i < cells.length; i++) {
+					if (cells[i] != null) {
+						width = i + 1;
+					}
+				}
+				String[] names = new String[width];
+				for (int i = 0; i < width; i++) {
+					names[i] = cells[i] == null ? "" : cells[i];
+				}
+				headers = names;
+			} else {
+				queue(cells);
+			}
+			lastRow = rowNum;
+		}
+
+		private String[] emptyRow() {
+			String[] row = new String[headers.length];
+			Arrays.fill(row, "");
+			return row;
+		}
+
+		private void queue(String[] row) {
+			if (closed) {
+				throw new IllegalStateException("Streaming of " + sheetName + " closed");
+			}
+			offer(Arrays.copyOf(row, row.length, Object[].class));
+			count++;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/**
+ * This class provides the executors used to run browser flows and background work concurrently.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.kpit.automation.utilities;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class for creating executors. Work that mostly waits on the browser
+ * or the database runs on virtual threads when the JVM provides them (Java 21
+ * and later) and on daemon platform threads otherwise, since the project is
+ * compiled for Java 17.
+ *
+ * @author Aakash Saxena
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ThreadUtility {
+
+	private ThreadUtility() {
+	}
+
+	/**
+	 * Creates an executor that starts one thread per task.
+	 *
+	 * @param name the prefix of the thread names
+	 * @return a virtual thread per task executor, or a cached pool of daemon
+	 *         threads on JVMs without virtual threads
+	 */
+	public static ExecutorService newPerTaskExecutor(String name) {
+		try {
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+			Object factory = builderType.getMethod("factory").invoke(builder);
+			return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+					.invoke(null, factory);
+		} catch (ReflectiveOperationException | RuntimeException ex) {
+			AtomicInteger counter = new AtomicInteger();
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, name + "-" + counter.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+}
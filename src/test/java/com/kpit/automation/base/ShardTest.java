@@ -0,0 +1,77 @@
+package com.kpit.automation.base;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the assignment of test classes to shards, set through the
+ * {@code shard} and {@code shard.manifest} system properties.
+ */
+public class ShardTest {
+
+	private static final List<String> CLASSES = Arrays.asList("com.kpit.automation.tests.LoginToPlatform",
+			"com.kpit.automation.tests.SystemMapViewTest", "com.kpit.automation.tests.TraceFlowSweepTest",
+			"com.example.AlphaTest", "com.example.BetaTest", "com.example.GammaTest", "com.example.DeltaTest");
+
+	@AfterMethod(alwaysRun = true)
+	public void clearShard() {
+		System.clearProperty("shard");
+		System.clearProperty("shard.manifest");
+	}
+
+	@Test(description = "Without a shard setting the whole suite is one shard")
+	public void unsharded() {
+		Shard shard = new Shard();
+		Assert.assertFalse(shard.isSharded());
+		Assert.assertEquals(shard.getName(), "shard-1-of-1");
+		for (String className : CLASSES) {
+			Assert.assertTrue(shard.isSelected(className), className);
+		}
+	}
+
+	@Test(description = "Every class runs in exactly one shard")
+	public void everyClassInOneShard() {
+		int total = 3;
+		int[] selections = new int[CLASSES.size()];
+		for (int index = 1; index <= total; index++) {
+			System.setProperty("shard", index + "/" + total);
+			Shard shard = new Shard();
+			Assert.assertTrue(shard.isSharded());
+			Assert.assertEquals(shard.getName(), "shard-" + index + "-of-" + total);
+			for (int i = 0; i < CLASSES.size(); i++) {
+				if (shard.isSelected(CLASSES.get(i))) {
+					selections[i]++;
+				}
+			}
+		}
+		for (int i = 0; i < CLASSES.size(); i++) {
+			Assert.assertEquals(selections[i], 1, CLASSES.get(i));
+		}
+	}
+
+	@Test(description = "The manifest pins classes, the others fall back to the hash")
+	public void manifestPinsClasses() throws IOException {
+		File manifest = File.createTempFile("shard-manifest", ".properties");
+		manifest.deleteOnExit();
+		Files.write(manifest.toPath(), ("# Slowest class alone\ncom.example.AlphaTest = 2\n").getBytes(StandardCharsets.UTF_8));
+		System.setProperty("shard.manifest", manifest.getPath());
+		for (int index = 1; index <= 2; index++) {
+			System.setProperty("shard", index + "/2");
+			Assert.assertEquals(new Shard().isSelected("com.example.AlphaTest"), index == 2);
+		}
+	}
+
+	@Test(description = "A shard outside the range is rejected", expectedExceptions = IllegalArgumentException.class)
+	public void invalidShard() {
+		System.setProperty("shard", "4/3");
+		new Shard();
+	}
+}
@@ -0,0 +1,71 @@
+package com.kpit.automation.helpers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the column store and of the table checks built on it. No
+ * browser is needed.
+ */
+public class ColumnStoreTest {
+
+	private final WebTableUtility webTable = new WebTableUtility(null);
+
+	@Test(description = "Numeric cells are compared as numbers")
+	public void numericColumnSortsNumerically() {
+		ColumnStore.Column column = ColumnStore.column("duration", Arrays.asList("2", "10", "100"));
+		Assert.assertTrue(column.isNumeric());
+		Assert.assertTrue(column.isSorted(true));
+		Assert.assertFalse(column.isSorted(false));
+	}
+
+	@Test(description = "Text cells are compared lexicographically")
+	public void textColumnSortsLexicographically() {
+		ColumnStore.Column column = ColumnStore.column("name", Arrays.asList("task10", "task2", "task3"));
+		Assert.assertFalse(column.isNumeric());
+		Assert.assertTrue(column.isSorted(true));
+		Assert.assertFalse(ColumnStore.column("name", Arrays.asList("b", "a", "c")).isSorted(true));
+	}
+
+	@Test(description = "Empty cells neither break the numeric type nor the sort order")
+	public void emptyCellsAreSkipped() {
+		ColumnStore.Column column = ColumnStore.column("duration", Arrays.asList("3", "", "5", null, "8"));
+		Assert.assertTrue(column.isNumeric());
+		Assert.assertTrue(column.isSorted(true));
+		Assert.assertEquals(column.min(), "3");
+		Assert.assertEquals(column.max(), "8");
+		Assert.assertFalse(ColumnStore.column("duration", Arrays.asList("8", "", "3")).isSorted(true));
+	}
+
+	@Test(description = "A column with a single text cell is not numeric")
+	public void mixedColumnIsText() {
+		ColumnStore.Column column = ColumnStore.column("value", Arrays.asList("1", "n/a", "2"));
+		Assert.assertFalse(column.isNumeric());
+		Assert.assertEquals(column.toList(), Arrays.asList("1", "n/a", "2"));
+	}
+
+	@Test(description = "Group counts and filters over the distinct values")
+	public void groupCountAndFilter() {
+		ColumnStore.Column column = ColumnStore.column("status", Arrays.asList("SUCCESS", "FAILED", "SUCCESS"));
+		Assert.assertEquals(column.groupCount().get("SUCCESS"), Integer.valueOf(2));
+		Assert.assertEquals(column.groupCount().get("FAILED"), Integer.valueOf(1));
+		Assert.assertEquals(column.filter(value -> value.startsWith("S")).cardinality(), 2);
+		Assert.assertTrue(ColumnStore.column("status", Arrays.asList("Success", "SUCCESS")).allContain("success"));
+	}
+
+	@Test(description = "Table checks on a store built from query columns")
+	public void verifyTableOnColumnStore() {
+		List<String> names = Arrays.asList("Task", "Duration");
+		ColumnStore table = ColumnStore.of(names,
+				Arrays.asList(Arrays.asList("trace A", "trace B", "trace C"), Arrays.asList("9", "", "12")));
+		Assert.assertEquals(table.getRowCount(), 3);
+		Assert.assertTrue(webTable.verifyTableSort(table, "duration", true));
+		Assert.assertFalse(webTable.verifyTableSort(table, "duration", false));
+		Assert.assertTrue(webTable.verifyTableFilter(table, "TASK", "trace"));
+		Assert.assertFalse(webTable.verifyTableFilter(table, "task", "trace A"));
+		Assert.assertFalse(webTable.verifyTableSort(table, "missing", true));
+	}
+}
@@ -10,12 +10,17 @@ public class LoginToPlatform extends BaseTest {
 
 	private Logger log = getLogger(LoginToPlatform.class);
 
+	@Override
+	protected boolean requiresLogin() {
+		return false;
+	}
+
 	@Test(priority = 1, description = "Login To Platform", groups = { "Valid" })
 	public void loginToFunta() {
 		try {
 			log.info("Login execution start");
-//			loginToFuntaPage.continueButton();
-			loginToFuntaPage.login(getConfigData("app.username"), getConfigData("app.password"));
+//			getLoginToFuntaPage().continueButton();
+			getLoginToFuntaPage().login(getConfigData("app.username"), getConfigData("app.password"));
 			log.info("Login execution end");
 		} catch (Exception ex) {
 			ex.printStackTrace();
@@ -8,6 +8,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.kpit.automation.base.BaseTest;
+import com.kpit.automation.pages.SystemMapViewPage;
 
 public class SystemMapViewTest extends BaseTest {
 
@@ -22,15 +23,16 @@ public class SystemMapViewTest extends BaseTest {
 	public void startupTimingChart() {
 		try {
 			log.info("execution start");
-			systemMapViewPage.clickZoomInButton();
+			SystemMapViewPage systemMapViewPage = getSystemMapViewPage();
+			systemMapViewPage.openSystemMap(); // Each test sets up its own map, tests may run in any order
 			systemMapViewPage.clickOnTools();
 			systemMapViewPage.clickOnTraceFileAnalysis();
 			systemMapViewPage.selectPreset("Start up Time");
 			systemMapViewPage.selectTraceFile("StartUpTime");
 			systemMapViewPage.executeTrace();
-			systemMapViewPage.selectTaskFromList();
-			systemMapViewPage.goToTaskDetails();
-			systemMapViewPage.goToPerformaChart();
+			systemMapViewPage.selectTaskFromList("Start up Time", "StartUpTime");
+			systemMapViewPage.goToTaskDetails("StartUpTime");
+			systemMapViewPage.goToPerformaChart("StartUpTime");
 
 			// systemMapViewPage.goToCreatedTask();
 
@@ -46,14 +48,16 @@ public class SystemMapViewTest extends BaseTest {
 	public void routingAnalysisChart() {
 		try {
 			log.info("execution start");
+			SystemMapViewPage systemMapViewPage = getSystemMapViewPage();
+			systemMapViewPage.openSystemMap();
 			systemMapViewPage.clickOnTools();
 			systemMapViewPage.clickOnTraceFileAnalysis();
 			systemMapViewPage.selectPreset("Routing");
 			systemMapViewPage.selectTraceFile("Wireshark_without");
 			systemMapViewPage.executeTrace();
-			systemMapViewPage.selectTaskFromList();
-			systemMapViewPage.goToTaskDetails();
-			systemMapViewPage.goToPerformaChart();
+			systemMapViewPage.selectTaskFromList("Routing", "Wireshark_without");
+			systemMapViewPage.goToTaskDetails("Wireshark_without");
+			systemMapViewPage.goToPerformaChart("Wireshark_without");
 
 			// systemMapViewPage.goToCreatedTask();
 
@@ -69,14 +73,16 @@ public class SystemMapViewTest extends BaseTest {
 	public void eventAnalysisChart() {
 		try {
 			log.info("execution start");
+			SystemMapViewPage systemMapViewPage = getSystemMapViewPage();
+			systemMapViewPage.openSystemMap();
 			systemMapViewPage.clickOnTools();
 			systemMapViewPage.clickOnTraceFileAnalysis();
 			systemMapViewPage.selectPreset("XIL");
 			systemMapViewPage.selectTraceFile("fleet_car");
 			systemMapViewPage.executeTrace();
-			systemMapViewPage.selectTaskFromList();
-			systemMapViewPage.goToTaskDetails();
-			systemMapViewPage.goToPerformaChart();
+			systemMapViewPage.selectTaskFromList("XIL", "fleet_car");
+			systemMapViewPage.goToTaskDetails("fleet_car");
+			systemMapViewPage.goToPerformaChart("fleet_car");
 
 			// systemMapViewPage.goToCreatedTask();
 
@@ -92,14 +98,16 @@ public class SystemMapViewTest extends BaseTest {
 	public void throughputAnalysisChart() {
 		try {
 			log.info("execution start");
+			SystemMapViewPage systemMapViewPage = getSystemMapViewPage();
+			systemMapViewPage.openSystemMap();
 			systemMapViewPage.clickOnTools();
 			systemMapViewPage.clickOnTraceFileAnalysis();
 			systemMapViewPage.selectPreset("Buses Load");
 			systemMapViewPage.selectTraceFile("Startup_multi");
 			systemMapViewPage.executeTrace();
-			systemMapViewPage.selectTaskFromList();
-			systemMapViewPage.goToTaskDetails();
-			systemMapViewPage.goToPerformaChart();
+			systemMapViewPage.selectTaskFromList("Buses Load", "Startup_multi");
+			systemMapViewPage.goToTaskDetails("Startup_multi");
+			systemMapViewPage.goToPerformaChart("Startup_multi");
 
 			// systemMapViewPage.goToCreatedTask();
 
@@ -115,14 +123,16 @@ public class SystemMapViewTest extends BaseTest {
 	public void sanityCheckPass() {
 		try {
 			log.info("execution start");
+			SystemMapViewPage systemMapViewPage = getSystemMapViewPage();
+			systemMapViewPage.openSystemMap();
 			systemMapViewPage.clickOnTools();
 			systemMapViewPage.clickOnTraceFileAnalysis();
 			systemMapViewPage.selectPreset("TECMP");
 			systemMapViewPage.selectTraceFile("ACC_Logs");
 			systemMapViewPage.executeTrace();
-			systemMapViewPage.selectTaskFromList();
-			systemMapViewPage.goToTaskDetails();
-			systemMapViewPage.goToPerformaChart();
+			systemMapViewPage.selectTaskFromList("TECMP", "ACC_Logs");
+			systemMapViewPage.goToTaskDetails("ACC_Logs");
+			systemMapViewPage.goToPerformaChart("ACC_Logs");
 
 			// systemMapViewPage.goToCreatedTask();
 
@@ -138,14 +148,16 @@ public class SystemMapViewTest extends BaseTest {
 	public void sanityCheckFail() {
 		try {
 			log.info("execution start");
+			SystemMapViewPage systemMapViewPage = getSystemMapViewPage();
+			systemMapViewPage.openSystemMap();
 			systemMapViewPage.clickOnTools();
 			systemMapViewPage.clickOnTraceFileAnalysis();
 			systemMapViewPage.selectPreset("TECMP");
 			systemMapViewPage.selectTraceFile("StartUpTimeTest");
 			systemMapViewPage.executeTrace();
-			systemMapViewPage.selectTaskFromList();
-			systemMapViewPage.goToTaskDetails();
-			systemMapViewPage.goToPerformaChart();
+			systemMapViewPage.selectTaskFromList("TECMP", "StartUpTimeTest");
+			systemMapViewPage.goToTaskDetails("StartUpTimeTest");
+			systemMapViewPage.goToPerformaChart("StartUpTimeTest");
 
 			// systemMapViewPage.goToCreatedTask();
 
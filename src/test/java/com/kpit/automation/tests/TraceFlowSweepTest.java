@@ -0,0 +1,62 @@
+package com.kpit.automation.tests;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import com.kpit.automation.base.BaseTest;
+import com.kpit.automation.base.TraceFlowOrchestrator;
+import com.kpit.automation.base.TraceFlowOrchestrator.FlowResult;
+import com.kpit.automation.base.TraceFlowOrchestrator.TraceFlow;
+
+public class TraceFlowSweepTest extends BaseTest {
+
+	private Logger log = getLogger(TraceFlowSweepTest.class);
+
+	/**
+	 * The flows lease their own sessions, the test thread does not log in.
+	 */
+	@Override
+	protected boolean requiresLogin() {
+		return false;
+	}
+
+	/**
+	 * One session per concurrent flow, and one spare for the screenshots the
+	 * listeners take on the test thread.
+	 */
+	@Override
+	protected int getDriverPoolSize(ITestContext context) {
+		return Integer.parseInt(getConfigData("flow.max.sessions", "3")) + 1;
+	}
+
+	@Test(priority = 1, description = "Trace analysis preset sweep", groups = { "Valid" }, enabled = true)
+	public void presetSweep() {
+		log.info("execution start");
+		TraceFlowOrchestrator orchestrator = new TraceFlowOrchestrator(
+				Integer.parseInt(getConfigData("flow.max.sessions", "3")),
+				Duration.ofSeconds(Long.parseLong(getConfigData("flow.deadline.seconds", "1800"))));
+
+		List<FlowResult> results = orchestrator.runAll(Arrays.asList(
+				new TraceFlow("startupTimingChart", "Start up Time", "StartUpTime"),
+				new TraceFlow("routingAnalysisChart", "Routing", "Wireshark_without"),
+				new TraceFlow("eventAnalysisChart", "XIL", "fleet_car"),
+				new TraceFlow("throughputAnalysisChart", "Buses Load", "Startup_multi"),
+				new TraceFlow("sanityCheckPass", "TECMP", "ACC_Logs"),
+				new TraceFlow("sanityCheckFail", "TECMP", "StartUpTimeTest")));
+
+		boolean allPassed = true;
+		for (FlowResult result : results) {
+			logReport(result.toString());
+			allPassed &= result.isPassed();
+		}
+		log.info("execution end");
+		Assert.assertTrue(allPassed, "Some trace-analysis flows failed : " + results);
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.kpit.automation.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the compiled copies of the worksheets, written to a temporary
+ * directory.
+ */
+public class ColumnarSheetFileTest {
+
+	private File directory;
+	private File workbook;
+	private byte[] hash;
+
+	@BeforeMethod
+	public void createWorkbook() throws IOException {
+		directory = Files.createTempDirectory("columnar-sheets").toFile();
+		workbook = new File(directory, "TestData.xlsx");
+		Files.write(workbook.toPath(), "workbook content".getBytes(StandardCharsets.UTF_8));
+		hash = ColumnarSheetFile.hash(workbook);
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void deleteWorkbook() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test(description = "The cells read back from a compiled sheet are those written")
+	public void roundTrip() throws IOException {
+		SheetData sheet = new SheetData("testdata", new String[] { "Preset", "Trace file", "Remark" },
+				new String[][] { { "Start up Time", "StartUpTime", "" }, { "XIL", "fleet_car", "ünïcödé" },
+						{ "XIL", "fleet_car", "" } });
+		ColumnarSheetFile.write(directory, workbook, hash, sheets(sheet));
+
+		SheetData mapped = ColumnarSheetFile.open(directory, workbook, hash, "testdata");
+		Assert.assertNotNull(mapped);
+		Assert.assertEquals(mapped.getHeaders(), sheet.getHeaders());
+		Assert.assertEquals(mapped.getRowCount(), 3);
+		Assert.assertEquals(mapped.getColumnIndex("Trace file"), 1);
+		for (int row = 0; row < sheet.getRowCount(); row++) {
+			Assert.assertEquals(mapped.getRow(row), sheet.getRow(row), "Row " + row);
+		}
+	}
+
+	@Test(description = "A sheet compiled from another version of the workbook is not used")
+	public void otherWorkbookVersion() throws IOException {
+		ColumnarSheetFile.write(directory, workbook, hash, sheets(sheet("testdata", "a")));
+		Files.write(workbook.toPath(), "edited workbook".getBytes(StandardCharsets.UTF_8));
+		Assert.assertNull(ColumnarSheetFile.open(directory, workbook, ColumnarSheetFile.hash(workbook), "testdata"));
+		Assert.assertNull(ColumnarSheetFile.open(directory, workbook, hash, "missing"));
+	}
+
+	@Test(description = "Sheets whose sanitised names collide are kept apart")
+	public void collidingSheetNames() throws IOException {
+		ColumnarSheetFile.write(directory, workbook, hash, sheets(sheet("Test Data", "space"), sheet("Test_Data", "underscore")));
+		Assert.assertEquals(ColumnarSheetFile.open(directory, workbook, hash, "Test Data").getCell(0, 0), "space");
+		Assert.assertEquals(ColumnarSheetFile.open(directory, workbook, hash, "Test_Data").getCell(0, 0), "underscore");
+	}
+
+	private static SheetData sheet(String name, String cell) {
+		return new SheetData(name, new String[] { "Value" }, new String[][] { { cell } });
+	}
+
+	private static Map<String, SheetData> sheets(SheetData... sheets) {
+		Map<String, SheetData> byName = new LinkedHashMap<String, SheetData>();
+		for (SheetData sheet : sheets) {
+			byName.put(sheet.getName(), sheet);
+		}
+		return byName;
+	}
+}
@@ -0,0 +1,69 @@
+package com.kpit.automation.utilities;
+
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the latency histogram.
+ */
+public class LatencyHistogramTest {
+
+	@Test(description = "An empty histogram reports zeros")
+	public void emptyHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Assert.assertEquals(histogram.getCount(), 0);
+		Assert.assertEquals(histogram.getValueAtPercentile(99), 0);
+	}
+
+	@Test(description = "Percentiles are within the precision of a bucket")
+	public void percentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long micros = 1; micros <= 10000; micros++) {
+			histogram.record(micros);
+		}
+		Assert.assertEquals(histogram.getCount(), 10000);
+		Assert.assertEquals(histogram.getMax(), 10000);
+		Assert.assertEquals(histogram.getTotal(), 10000L * 10001 / 2);
+		assertClose(histogram.getValueAtPercentile(50), 5000);
+		assertClose(histogram.getValueAtPercentile(99), 9900);
+		Assert.assertEquals(histogram.getValueAtPercentile(100), 10000);
+	}
+
+	@Test(description = "Small values and negative values are exact")
+	public void smallValues() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		histogram.record(3);
+		histogram.record(7);
+		Assert.assertEquals(histogram.getValueAtPercentile(1), 0);
+		Assert.assertEquals(histogram.getValueAtPercentile(50), 3);
+		Assert.assertEquals(histogram.getValueAtPercentile(100), 7);
+	}
+
+	@Test(description = "Adding a histogram merges its counts, total and extremes")
+	public void add() {
+		LatencyHistogram fast = new LatencyHistogram();
+		LatencyHistogram slow = new LatencyHistogram();
+		for (int i = 0; i < 90; i++) {
+			fast.record(100);
+		}
+		for (int i = 0; i < 10; i++) {
+			slow.record(50000);
+		}
+		fast.add(slow);
+		Assert.assertEquals(fast.getCount(), 100);
+		Assert.assertEquals(fast.getMax(), 50000);
+		assertClose(fast.getValueAtPercentile(50), 100);
+		assertClose(fast.getValueAtPercentile(95), 50000);
+		Map<String, Object> summary = fast.toSummary();
+		Assert.assertEquals(summary.get("count"), 100L);
+		Assert.assertEquals(summary.get("maxMs"), 50.0);
+	}
+
+	private static void assertClose(long actual, long expected) {
+		Assert.assertTrue(Math.abs(actual - expected) <= expected / 16 + 1,
+				"Expected about " + expected + " but was " + actual);
+	}
+}
@@ -0,0 +1,219 @@
+package com.kpit.automation.utilities;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.kpit.automation.helpers.ColumnStore;
+
+/**
+ * Unit tests of the result stream, on a JDBC driver stub serving a fixed
+ * result instead of a database.
+ */
+public class ResultStreamTest {
+
+	private static final String URL = "jdbc:result-stream-stub:";
+	private static final String[] LABELS = { "Task", "Duration", "Ratio" };
+	private static final int[] TYPES = { Types.VARCHAR, Types.INTEGER, Types.DOUBLE };
+	private static final Object[][] ROWS = { { "trace A", 12, 1.5 }, { "trace B", null, null }, { "trace C", 30, 0.25 } };
+
+	private ConnectionPool pool;
+	private boolean autoCommit;
+
+	@BeforeClass
+	public void registerDriver() throws SQLException {
+		DriverManager.registerDriver(proxy(Driver.class, (method, args) -> {
+			switch (method) {
+			case "acceptsURL":
+				return ((String) args[0]).startsWith(URL);
+			case "connect":
+				return ((String) args[0]).startsWith(URL) ? connection() : null;
+			case "jdbcCompliant":
+				return false;
+			default:
+				return 1; // Major and minor versions
+			}
+		}));
+	}
+
+	@BeforeMethod
+	public void createPool() {
+		autoCommit = true;
+		pool = new ConnectionPool(URL, "user", "password", 1, 1000, 60000, 60000, 60000, 4);
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void shutdownPool() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	@Test(description = "Rows are read with typed access, SQL NULL as null")
+	public void typedRows() throws SQLException {
+		try (ResultStream rows = new ResultStream(pool.lease(), 0, "select task, duration, ratio from task")) {
+			Assert.assertEquals(rows.getColumnNames(), Arrays.asList(LABELS));
+			Assert.assertEquals(rows.getColumnType(2), Types.INTEGER);
+			ResultStream.Row row = rows.next();
+			Assert.assertEquals(row.getString("task"), "trace A");
+			Assert.assertEquals(row.getInt("DURATION"), Integer.valueOf(12));
+			Assert.assertEquals(row.getDouble(3), Double.valueOf(1.5));
+			row = rows.next();
+			Assert.assertNull(row.getInt("duration"));
+			Assert.assertNull(row.getString("ratio"));
+			Assert.assertEquals(rows.getRowCount(), 2);
+		}
+		Assert.assertEquals(pool.getActiveCount(), 0);
+	}
+
+	@Test(description = "An unknown column label is reported with the known ones", expectedExceptions = NoSuchElementException.class)
+	public void unknownColumn() throws SQLException {
+		try (ResultStream rows = new ResultStream(pool.lease(), 0, "select task from task")) {
+			rows.next().getString("status");
+		}
+	}
+
+	@Test(description = "Reading to the end gives the connection back to the pool")
+	public void exhaustedStreamReleasesConnection() throws SQLException {
+		ResultStream rows = new ResultStream(pool.lease(), 0, "select task from task");
+		int count = 0;
+		for (ResultStream.Row row : rows) {
+			Assert.assertNotNull(row.getString(1));
+			count++;
+		}
+		Assert.assertEquals(count, ROWS.length);
+		Assert.assertEquals(pool.getActiveCount(), 0);
+		Assert.assertEquals(pool.getIdleCount(), 1);
+	}
+
+	@Test(description = "Columns are read by chunks, NULL as an empty cell")
+	public void columnsByChunks() throws SQLException {
+		try (ResultStream rows = new ResultStream(pool.lease(), 2, "select task, duration, ratio from task")) {
+			Assert.assertFalse(autoCommit, "A cursor runs in a transaction");
+			ColumnStore first = rows.nextColumns(2);
+			Assert.assertEquals(first.getRowCount(), 2);
+			Assert.assertEquals(first.get("duration").toList(), Arrays.asList("12", ""));
+			Assert.assertTrue(first.get("duration").isNumeric());
+			ColumnStore rest = rows.readColumns();
+			Assert.assertEquals(rest.get("task").toList(), Arrays.asList("trace C"));
+			Assert.assertNull(rows.nextColumns(2));
+		}
+		Assert.assertTrue(autoCommit, "The cursor transaction is ended on close");
+		Assert.assertEquals(pool.getIdleCount(), 1);
+	}
+
+	private Connection connection() {
+		return proxy(Connection.class, (method, args) -> {
+			switch (method) {
+			case "prepareStatement":
+				return statement();
+			case "setAutoCommit":
+				autoCommit = (Boolean) args[0];
+				return null;
+			case "getAutoCommit":
+				return autoCommit;
+			case "isValid":
+				return true;
+			case "isClosed":
+				return false;
+			default:
+				return null;
+			}
+		});
+	}
+
+	private PreparedStatement statement() {
+		return proxy(PreparedStatement.class, (method, args) -> {
+			switch (method) {
+			case "executeQuery":
+				return resultSet();
+			case "isClosed":
+				return false;
+			default:
+				return null;
+			}
+		});
+	}
+
+	private ResultSet resultSet() {
+		int[] position = { -1 };
+		boolean[] wasNull = { false };
+		ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (method, args) -> {
+			switch (method) {
+			case "getColumnCount":
+				return LABELS.length;
+			case "getColumnLabel":
+				return LABELS[(Integer) args[0] - 1];
+			case "getColumnType":
+				return TYPES[(Integer) args[0] - 1];
+			default:
+				return null;
+			}
+		});
+		return proxy(ResultSet.class, (method, args) -> {
+			switch (method) {
+			case "next":
+				return ++position[0] < ROWS.length;
+			case "getMetaData":
+				return metaData;
+			case "wasNull":
+				return wasNull[0];
+			case "close":
+				return null;
+			default:
+				Object value = ROWS[position[0]][(Integer) args[0] - 1];
+				wasNull[0] = value == null;
+				switch (method) {
+				case "getString":
+					return value == null ? null : value.toString();
+				case "getInt":
+					return value == null ? 0 : ((Number) value).intValue();
+				case "getDouble":
+					return value == null ? 0.0 : ((Number) value).doubleValue();
+				default:
+					return value;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Handles the calls of a stub by method name.
+	 */
+	private interface Stub {
+		Object call(String method, Object[] args) throws Throwable;
+	}
+
+	private static <T> T proxy(Class<T> type, Stub stub) {
+		return type.cast(Proxy.newProxyInstance(ResultStreamTest.class.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "toString":
+						return type.getSimpleName() + " stub";
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					case "unwrap":
+					case "isWrapperFor":
+						return null;
+					default:
+						return stub.call(method.getName(), args);
+					}
+				}));
+	}
+}